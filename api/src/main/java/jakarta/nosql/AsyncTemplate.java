@@ -0,0 +1,319 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.nosql;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * {@code AsyncTemplate} is the non-blocking counterpart of {@link Template}. It provides the same operations, but each
+ * method returns a {@link CompletionStage} instead of waiting for the database to answer.
+ *
+ * <p>The methods of this interface return immediately. The Jakarta NoSQL provider should use the asynchronous
+ * capabilities of the database driver, so an in-flight operation does not hold a thread while it waits for the
+ * database. That allows an application to issue many operations at the same time, for example, to fan out several
+ * lookups per request, without a thread per call.</p>
+ *
+ * <p>The following rules apply to every method:</p>
+ * <ul>
+ *     <li>Invalid arguments, such as {@code null} values, raise a {@link NullPointerException} directly from the method
+ *     call; no {@link CompletionStage} is returned.</li>
+ *     <li>Any other failure, including the errors raised by the database, completes the returned stage exceptionally
+ *     with a {@link NoSQLException}, or one of its subclasses, as the cause.</li>
+ *     <li>An {@link UnsupportedOperationException} that is known when the method is called, for example, when the
+ *     database does not provide TTL, may be raised directly from the method call.</li>
+ *     <li>Operations issued one after another are not guaranteed to reach the database in that order. Chain the
+ *     stages, for example with {@link CompletionStage#thenCompose(java.util.function.Function)}, when an operation
+ *     depends on the result of a previous one.</li>
+ * </ul>
+ *
+ * <pre>{@code
+ * @Inject
+ * AsyncTemplate template;
+ *
+ * template.insert(book)
+ *         .thenCompose(inserted -> template.find(Book.class, inserted.getId()))
+ *         .thenAccept(optional -> System.out.println("The result " + optional));
+ *
+ * template.select(Book.class)
+ *         .where("author")
+ *         .eq("Joshua Bloch")
+ *         .resultAsync()
+ *         .thenAccept(books -> books.forEach(System.out::println));
+ * }</pre>
+ *
+ * @see Template
+ * @see QueryMapper
+ * @since 1.0.0
+ */
+public interface AsyncTemplate {
+
+    /**
+     * Inserts an entity into the database asynchronously, following the same rules as {@link Template#insert(Object)}.
+     *
+     * @param entity the entity to insert. Must not be {@code null}.
+     * @param <T>    the entity type
+     * @return a {@link CompletionStage} that completes with the inserted entity, which may or may not be a different
+     * instance depending on whether the insert caused values to be generated or automatically incremented.
+     * @throws NullPointerException if the entity is null.
+     */
+    <T> CompletionStage<T> insert(T entity);
+
+    /**
+     * Inserts an entity into the database with an expiration asynchronously, following the same rules as
+     * {@link Template#insert(Object, Duration)}.
+     *
+     * @param entity the entity to insert. Must not be {@code null}.
+     * @param ttl    time to live
+     * @param <T>    the entity type
+     * @return a {@link CompletionStage} that completes with the inserted entity
+     * @throws NullPointerException          if either the entity or ttl is null.
+     * @throws UnsupportedOperationException when the database does not provide TTL
+     */
+    <T> CompletionStage<T> insert(T entity, Duration ttl);
+
+    /**
+     * Inserts an entity only when there is no entity with the same unique identifier asynchronously, following the
+     * same rules as {@link Template#insertIfAbsent(Object)}.
+     *
+     * @param entity the entity to insert. Must not be {@code null}.
+     * @param <T>    the entity type
+     * @return a {@link CompletionStage} that completes with whether the entity was written
+     * @throws NullPointerException          if the entity is null.
+     * @throws UnsupportedOperationException when the database has no conditional put
+     */
+    <T> CompletionStage<Boolean> insertIfAbsent(T entity);
+
+    /**
+     * Inserts an entity with an expiration only when there is no entity with the same unique identifier
+     * asynchronously, following the same rules as {@link Template#insertIfAbsent(Object, Duration)}.
+     *
+     * @param entity the entity to insert. Must not be {@code null}.
+     * @param ttl    time to live
+     * @param <T>    the entity type
+     * @return a {@link CompletionStage} that completes with whether the entity was written
+     * @throws NullPointerException          if either the entity or ttl is null.
+     * @throws UnsupportedOperationException when the database has no conditional put or does not provide TTL
+     */
+    <T> CompletionStage<Boolean> insertIfAbsent(T entity, Duration ttl);
+
+    /**
+     * Inserts multiple entities into the database asynchronously, following the same rules as
+     * {@link Template#insert(Iterable)}. The position of entities within the resulting {@code Iterable} must
+     * correspond to the position of entities in the parameter.
+     *
+     * @param entities entities to insert.
+     * @param <T>      the entity type
+     * @return a {@link CompletionStage} that completes with the inserted entities
+     * @throws NullPointerException if the iterable is null or any element is null.
+     */
+    <T> CompletionStage<Iterable<T>> insert(Iterable<T> entities);
+
+    /**
+     * Inserts multiple entities into the database with the expiration date asynchronously, following the same rules as
+     * {@link Template#insert(Iterable, Duration)}.
+     *
+     * @param entities entities to insert.
+     * @param ttl      time to live
+     * @param <T>      the entity type
+     * @return a {@link CompletionStage} that completes with the inserted entities
+     * @throws NullPointerException          if the iterable is null or any element is null.
+     * @throws UnsupportedOperationException if the database does not provide time-to-live for insert operations.
+     */
+    <T> CompletionStage<Iterable<T>> insert(Iterable<T> entities, Duration ttl);
+
+    /**
+     * Modifies an entity that already exists in the database asynchronously, following the same rules as
+     * {@link Template#update(Object)}.
+     *
+     * @param entity the entity to update. Must not be {@code null}.
+     * @param <T>    the entity type
+     * @return a {@link CompletionStage} that completes with the updated entity
+     * @throws NullPointerException if the entity is null.
+     */
+    <T> CompletionStage<T> update(T entity);
+
+    /**
+     * Modifies entities that already exist in the database asynchronously, following the same rules as
+     * {@link Template#update(Iterable)}.
+     *
+     * @param entities entities to update.
+     * @param <T>      the entity type
+     * @return a {@link CompletionStage} that completes with the updated entities
+     * @throws NullPointerException if either the iterable is null or any element is null.
+     */
+    <T> CompletionStage<Iterable<T>> update(Iterable<T> entities);
+
+    /**
+     * Writes an entity whether or not it exists in the database asynchronously, following the same rules as
+     * {@link Template#upsert(Object)}.
+     *
+     * @param entity the entity to write. Must not be {@code null}.
+     * @param <T>    the entity type
+     * @return a {@link CompletionStage} that completes with the written entity
+     * @throws NullPointerException if the entity is null.
+     */
+    <T> CompletionStage<T> upsert(T entity);
+
+    /**
+     * Writes entities whether or not they exist in the database asynchronously, following the same rules as
+     * {@link Template#upsert(Iterable)}.
+     *
+     * @param entities entities to write.
+     * @param <T>      the entity class type
+     * @return a {@link CompletionStage} that completes with the written entities
+     * @throws NullPointerException if either the iterable is null or any element is null.
+     */
+    <T> CompletionStage<Iterable<T>> upsert(Iterable<T> entities);
+
+    /**
+     * Start a {@link WriteBatch}, following the same rules as {@link Template#batch()}. Use
+     * {@link WriteBatch#executeAsync()} to execute it without blocking.
+     *
+     * @return a new, empty {@link WriteBatch}
+     */
+    WriteBatch batch();
+
+    /**
+     * Atomically adds a delta to a numeric column of the entity with the given id without blocking. The rules of
+     * {@link Template#increment(Class, Object, String, long)} apply.
+     *
+     * @param type   the entity class
+     * @param id     the id value
+     * @param column the column name
+     * @param delta  the value to add, which is negative to decrement the column
+     * @param <T>    the entity class type
+     * @param <K>    the id type
+     * @return a {@link CompletionStage} that completes with the value of the column after the increment, or with
+     * {@link OptionalLong#empty()} when there is no entity with the id
+     * @throws NullPointerException when the type, the id or the column is null
+     */
+    <T, K> CompletionStage<OptionalLong> increment(Class<T> type, K id, String column, long delta);
+
+    /**
+     * Start a conditional update of the entity using the fluent API. The rules of {@link Template#updateIf(Object)}
+     * apply. Use {@link QueryMapper.MapperUpdateIfQueryBuild#executeAsync()} to execute it without blocking.
+     *
+     * @param entity the entity to update
+     * @param <T>    the entity type
+     * @return a {@link QueryMapper.MapperUpdateIf} instance
+     * @throws NullPointerException when the entity is null
+     */
+    <T> QueryMapper.MapperUpdateIf updateIf(T entity);
+
+    /**
+     * Retrieves an entity by its Id asynchronously.
+     *
+     * @param type the entity class
+     * @param id   the id value
+     * @param <T>  the entity class type
+     * @param <K>  the id type
+     * @return a {@link CompletionStage} that completes with the entity instance, otherwise {@link Optional#empty()}
+     * @throws NullPointerException when either the type or id are null
+     */
+    <T, K> CompletionStage<Optional<T>> find(Class<T> type, K id);
+
+    /**
+     * Retrieves multiple entities by their Ids asynchronously, following the same rules as
+     * {@link Template#findAll(Class, Iterable)}.
+     *
+     * @param type the entity class
+     * @param ids  the id values
+     * @param <T>  the entity class type
+     * @param <K>  the id type
+     * @return a {@link CompletionStage} that completes with the entities found, keyed by Id in the order of the
+     * parameter; an empty map when none is found
+     * @throws NullPointerException when either the type or ids are null, or when any id is null
+     */
+    <T, K> CompletionStage<Map<K, T>> findAll(Class<T> type, Iterable<K> ids);
+
+    /**
+     * Deletes by ID or key asynchronously.
+     *
+     * @param type the entity class
+     * @param id   the id value
+     * @param <T>  the entity class type
+     * @param <K>  the id type
+     * @return a {@link CompletionStage} that completes when the entity is deleted
+     * @throws NullPointerException when either the type or id are null
+     */
+    <T, K> CompletionStage<Void> delete(Class<T> type, K id);
+
+    /**
+     * Deletes multiple entities by their Ids asynchronously, following the same rules as
+     * {@link Template#deleteAll(Class, Iterable)}.
+     *
+     * @param type the entity class
+     * @param ids  the id values
+     * @param <T>  the entity class type
+     * @param <K>  the id type
+     * @return a {@link CompletionStage} that completes with the number of deleted entities
+     * @throws NullPointerException when either the type or ids are null, or when any id is null
+     */
+    <T, K> CompletionStage<Long> deleteAll(Class<T> type, Iterable<K> ids);
+
+    /**
+     * Start a query using the fluent API. The return value is a mutable and non-thread-safe instance.
+     * Use the asynchronous terminal operations, such as {@link QueryMapper.MapperQueryBuild#resultAsync()},
+     * to execute the query without blocking.
+     *
+     * @param type the entity class
+     * @param <T>  the entity type
+     * @return a {@link QueryMapper.MapperFrom} instance
+     * @throws NullPointerException          when type is null
+     * @throws UnsupportedOperationException when the database cannot operate,
+     *                                       such as key-value where most operations are key-based.
+     */
+    <T> QueryMapper.MapperFrom select(Class<T> type);
+
+    /**
+     * Start a query builder using the fluent API. The returned value is a mutable and non-thread-safe instance.
+     * Use {@link QueryMapper.MapperDeleteQueryBuild#executeAsync()} to execute the deletion without blocking.
+     *
+     * @param type the entity class
+     * @param <T>  the entity type
+     * @return a {@link QueryMapper.MapperDeleteFrom} instance
+     * @throws NullPointerException          when type is null
+     * @throws UnsupportedOperationException when the database cannot operate,
+     *                                       such as key-value where most operations are key-based.
+     */
+    <T> QueryMapper.MapperDeleteFrom delete(Class<T> type);
+
+    /**
+     * Start a partial update builder using the fluent API. The returned value is a mutable and non-thread-safe
+     * instance. Unlike {@link #update(Object)}, only the columns assigned through
+     * {@link QueryMapper.MapperUpdateFrom#set(String, Object)} are written, and the entities are not read first.
+     * Use {@link QueryMapper.MapperUpdateQueryBuild#executeAsync()} to execute the update without blocking.
+     *
+     * <pre>{@code
+     * CompletionStage<Long> updated = template.update(Person.class)
+     *         .set("name", "Ada")
+     *         .where("id").eq(id)
+     *         .executeAsync();
+     * }</pre>
+     *
+     * @param type the entity class
+     * @param <T>  the entity type
+     * @return a {@link QueryMapper.MapperUpdateFrom} instance
+     * @throws NullPointerException          when type is null
+     * @throws UnsupportedOperationException when the database cannot operate,
+     *                                       such as key-value where most operations are key-based.
+     */
+    <T> QueryMapper.MapperUpdateFrom update(Class<T> type);
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.nosql;
+
+import java.util.Optional;
+
+/**
+ * The mapping of an attribute of an {@link Entity} or {@link Embeddable} class, annotated with {@link Id} or
+ * {@link Column}, as part of the {@link EntityMetadata} generated at compile time.
+ *
+ * <p>The {@link #get(Object)} and {@link #set(Object, Object)} methods call the accessors of the attribute, or access
+ * the field directly when it has none, without reflection. The attributes of a record are read through the accessors
+ * of its components.</p>
+ *
+ * @param <T> the entity type
+ * @see EntityMetadata
+ * @since 1.0.0
+ */
+public interface AttributeMetadata<T> {
+
+    /**
+     * Returns the name of the field.
+     *
+     * @return the name of the field
+     */
+    String name();
+
+    /**
+     * Returns the name of the column, as defined by {@link Column#value()} or {@link Id#value()}, or the name of the
+     * field when a {@link Column} does not define it.
+     *
+     * @return the name of the column
+     */
+    String column();
+
+    /**
+     * Returns the type of the field, without its type arguments.
+     *
+     * @return the type of the field
+     */
+    Class<?> type();
+
+    /**
+     * Returns whether the attribute is annotated with {@link Id}.
+     *
+     * @return {@code true} if the attribute is the Id, otherwise {@code false}
+     */
+    boolean id();
+
+    /**
+     * Returns the name of the user-defined type, as defined by {@link Column#udt()}.
+     *
+     * @return the name of the user-defined type, or an empty string when it is not defined
+     */
+    String udt();
+
+    /**
+     * Returns the converter defined by {@link Convert}.
+     *
+     * @return the converter class, or {@link Optional#empty()} when the attribute has none
+     */
+    Optional<Class<? extends AttributeConverter<?, ?>>> converter();
+
+    /**
+     * Returns when the attribute is read from the database, as defined by {@link Column#fetch()}.
+     *
+     * @return the fetch type, always {@link FetchType#EAGER} for the Id
+     */
+    FetchType fetch();
+
+    /**
+     * Reads the value of the attribute.
+     *
+     * @param entity the entity instance
+     * @return the value of the attribute
+     * @throws NullPointerException when entity is null
+     */
+    Object get(T entity);
+
+    /**
+     * Writes the value of the attribute.
+     *
+     * @param entity the entity instance
+     * @param value  the new value of the attribute
+     * @throws NullPointerException          when entity is null, or when value is null and the attribute is a
+     *                                       primitive type
+     * @throws ClassCastException            when value is not an instance of the attribute type
+     * @throws UnsupportedOperationException when the entity is {@linkplain EntityMetadata#immutable() immutable}
+     */
+    void set(T entity, Object value);
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.nosql;
+
+/**
+ * Defines how the Jakarta NoSQL provider groups entities when writing an {@link Iterable} of them, through
+ * {@link Template#insert(Iterable, BatchOptions)} or {@link Template#update(Iterable, BatchOptions)}.
+ *
+ * <p>The provider reads the entities from the {@link Iterable} lazily and sends them to the database in batches. A
+ * batch is closed when it reaches {@link #maxSize()} entities or {@link #maxBytes()} bytes in the database
+ * representation, whichever comes first, so the memory stays bounded for large loads.</p>
+ *
+ * <p>When {@link #ordered()} is {@code true}, the default, the batches are written one after another in the order of
+ * the {@link Iterable}: a batch is sent only once the previous one is written, and a failure stops the remaining
+ * batches. {@link #parallelism()} does not apply to ordered writes. When it is {@code false}, up to
+ * {@link #parallelism()} batches are sent at the same time, so at most {@code maxSize * parallelism} entities are in
+ * flight; the batches may be written in any order, and a failure does not stop the other batches; the provider raises
+ * the failure once all the batches are finished.</p>
+ *
+ * <p>A value of {@code 0} for {@link #maxSize()} or {@link #maxBytes()} means the provider chooses the limit, usually
+ * based on the limits of the database.</p>
+ *
+ * <pre>{@code
+ * BatchOptions options = BatchOptions.of(500)
+ *         .withParallelism(4)
+ *         .withOrdered(false);
+ *
+ * template.insert(books, options);
+ * }</pre>
+ *
+ * @param maxSize     the maximum number of entities per batch, or {@code 0} to let the provider choose
+ * @param maxBytes    the maximum size in bytes of a batch, or {@code 0} to let the provider choose
+ * @param parallelism the maximum number of batches sent at the same time by an unordered write
+ * @param ordered     whether the batches are written in the order of the {@link Iterable}
+ * @see Template#insert(Iterable, BatchOptions)
+ * @see Template#update(Iterable, BatchOptions)
+ * @since 1.0.0
+ */
+public record BatchOptions(int maxSize, long maxBytes, int parallelism, boolean ordered) {
+
+    /**
+     * The provider defaults: the provider chooses the batch size and sends ordered batches one at a time.
+     */
+    public static final BatchOptions DEFAULT = new BatchOptions(0, 0L, 1, true);
+
+    /**
+     * Creates the options.
+     *
+     * @throws IllegalArgumentException when either maxSize or maxBytes is negative, or when parallelism is lower than one
+     */
+    public BatchOptions {
+        if (maxSize < 0) {
+            throw new IllegalArgumentException("The maxSize must not be negative: " + maxSize);
+        }
+        if (maxBytes < 0L) {
+            throw new IllegalArgumentException("The maxBytes must not be negative: " + maxBytes);
+        }
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("The parallelism must be at least one: " + parallelism);
+        }
+    }
+
+    /**
+     * Creates options with the given maximum number of entities per batch and the defaults for the other values.
+     *
+     * @param maxSize the maximum number of entities per batch
+     * @return the options
+     * @throws IllegalArgumentException when maxSize is negative
+     */
+    public static BatchOptions of(int maxSize) {
+        return DEFAULT.withMaxSize(maxSize);
+    }
+
+    /**
+     * Returns a copy of these options with the given maximum number of entities per batch.
+     *
+     * @param maxSize the maximum number of entities per batch, or {@code 0} to let the provider choose
+     * @return the new options
+     * @throws IllegalArgumentException when maxSize is negative
+     */
+    public BatchOptions withMaxSize(int maxSize) {
+        return new BatchOptions(maxSize, maxBytes, parallelism, ordered);
+    }
+
+    /**
+     * Returns a copy of these options with the given maximum size in bytes of a batch.
+     *
+     * @param maxBytes the maximum size in bytes of a batch, or {@code 0} to let the provider choose
+     * @return the new options
+     * @throws IllegalArgumentException when maxBytes is negative
+     */
+    public BatchOptions withMaxBytes(long maxBytes) {
+        return new BatchOptions(maxSize, maxBytes, parallelism, ordered);
+    }
+
+    /**
+     * Returns a copy of these options with the given maximum number of batches sent at the same time. It applies only
+     * when {@link #ordered()} is {@code false}; an ordered write sends one batch at a time.
+     *
+     * @param parallelism the maximum number of batches sent at the same time by an unordered write
+     * @return the new options
+     * @throws IllegalArgumentException when parallelism is lower than one
+     */
+    public BatchOptions withParallelism(int parallelism) {
+        return new BatchOptions(maxSize, maxBytes, parallelism, ordered);
+    }
+
+    /**
+     * Returns a copy of these options that defines whether the batches are written in the order of the {@link Iterable}.
+     *
+     * @param ordered whether the batches are written in the order of the {@link Iterable}
+     * @return the new options
+     */
+    public BatchOptions withOrdered(boolean ordered) {
+        return new BatchOptions(maxSize, maxBytes, parallelism, ordered);
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.nosql;
+
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.Objects;
+
+/**
+ * A handle to a binary value, which an entity holds in a {@link Column} instead of a {@code byte[]}, so that the value
+ * is written and read as a stream of bytes and does not need to be copied into the Java heap as a whole, unless the
+ * application asks for a stream-backed {@code Blob} {@linkplain #toByteBuffer() as a buffer}.
+ *
+ * <p>When the application writes an entity, the Jakarta NoSQL provider reads the content through
+ * {@link #openStream()} and sends it to the database in chunks when the database driver supports it: inserting a
+ * 200 MB attachment created with {@link #of(Path)} needs a buffer of a few kilobytes, not 200 MB. When the provider
+ * reads an entity, it sets a {@code Blob} that reads the content from the database, or from a direct buffer, only
+ * when the application opens it.</p>
+ *
+ * <pre>{@code
+ * @Entity
+ * public class Attachment {
+ *     @Id
+ *     private String id;
+ *     @Column
+ *     private Blob content;
+ * }
+ *
+ * attachment.setContent(Blob.of(Path.of("report.pdf")));
+ * template.insert(attachment);
+ *
+ * try (InputStream content = template.find(Attachment.class, id).orElseThrow().getContent().openStream()) {
+ *     content.transferTo(response.getOutputStream());
+ * }
+ * }</pre>
+ *
+ * @see ByteBufferAttributeConverter
+ * @since 1.0.0
+ */
+@SuppressWarnings("PMD.ShortClassName")
+public interface Blob {
+
+    /**
+     * Returns the number of bytes of the content.
+     *
+     * @return the length of the content, or {@code -1} when it is not known before the content is read
+     */
+    long length();
+
+    /**
+     * Opens a stream that reads the content from its first byte. The caller must close the stream.
+     *
+     * @return a new stream over the content
+     * @throws IllegalStateException when the content can be read only once and was already opened
+     * @throws UncheckedIOException  when the content cannot be opened
+     */
+    InputStream openStream();
+
+    /**
+     * Returns the whole content as a read-only buffer, which may be a direct or memory-mapped buffer that is not
+     * allocated in the Java heap. The position of the buffer is zero and its limit is the length of the content.
+     *
+     * <p>A {@code Blob} created from a stream through {@link #of(InputStream, long)} has no content to map: this
+     * method reads the whole stream into an array in the Java heap. Use {@link #openStream()} to read a large stream
+     * without copying it.</p>
+     *
+     * @return the content
+     * @throws IllegalStateException when the content can be read only once and was already opened
+     * @throws UncheckedIOException  when the content cannot be read
+     */
+    ByteBuffer toByteBuffer();
+
+    /**
+     * Creates a {@code Blob} over the remaining bytes of a buffer, without copying them. The position and limit of the
+     * given buffer are not changed, but the application must not modify its content while the {@code Blob} is used.
+     *
+     * @param buffer the content, which may be a direct buffer
+     * @return a {@code Blob} that can be read any number of times
+     * @throws NullPointerException when buffer is null
+     */
+    static Blob of(ByteBuffer buffer) {
+        Objects.requireNonNull(buffer, "buffer is required");
+        return new BufferBlob(buffer.slice().asReadOnlyBuffer());
+    }
+
+    /**
+     * Creates a {@code Blob} over an array, without copying it. The application must not modify the array while the
+     * {@code Blob} is used.
+     *
+     * @param bytes the content
+     * @return a {@code Blob} that can be read any number of times
+     * @throws NullPointerException when bytes is null
+     */
+    static Blob of(byte[] bytes) {
+        Objects.requireNonNull(bytes, "bytes is required");
+        return new BufferBlob(ByteBuffer.wrap(bytes).asReadOnlyBuffer());
+    }
+
+    /**
+     * Creates a {@code Blob} over a file, which is read when the {@code Blob} is opened. {@link #toByteBuffer()} maps
+     * the file into memory instead of reading it into the Java heap.
+     *
+     * @param file the file
+     * @return a {@code Blob} that can be read any number of times
+     * @throws NullPointerException when file is null
+     */
+    static Blob of(Path file) {
+        Objects.requireNonNull(file, "file is required");
+        return new FileBlob(file);
+    }
+
+    /**
+     * Creates a {@code Blob} that reads its content once from a stream, such as the body of an HTTP request. The
+     * stream is consumed by the first call to {@link #openStream()} or {@link #toByteBuffer()}, and closed by the
+     * caller of {@link #openStream()}. {@link #toByteBuffer()} reads the whole stream into the Java heap.
+     *
+     * @param stream the content
+     * @param length the number of bytes of the stream, or {@code -1} when it is not known
+     * @return a {@code Blob} that can be read only once
+     * @throws NullPointerException     when stream is null
+     * @throws IllegalArgumentException when length is lower than {@code -1}
+     */
+    static Blob of(InputStream stream, long length) {
+        Objects.requireNonNull(stream, "stream is required");
+        if (length < -1) {
+            throw new IllegalArgumentException("The length must be -1 or greater: " + length);
+        }
+        return new StreamBlob(stream, length);
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.nosql;
+
+import java.nio.ByteBuffer;
+
+/**
+ * An {@link AttributeConverter} whose database column is binary, exchanged as a {@link ByteBuffer} instead of a
+ * {@code byte[]}, so that neither the provider nor the converter copies the bytes on and off the Java heap.
+ *
+ * <p>The Jakarta NoSQL provider must recognize this specialization when it is referenced by {@link Convert} and call
+ * {@link #convertToByteBuffer(Object)} and {@link #convertFromByteBuffer(ByteBuffer)}, handing over the buffers of the
+ * database driver as they are, including direct buffers. The buffers follow these rules:</p>
+ * <ul>
+ *     <li>The provider writes the bytes of the returned buffer from its position to its limit, without changing them,
+ *     before the next call to the converter on the same thread.</li>
+ *     <li>The buffer given to {@link #convertFromByteBuffer(ByteBuffer)} is read-only and valid only during the call,
+ *     since the provider may reuse it: the converter must copy what the attribute keeps.</li>
+ *     <li>The binary methods are never called with {@code null}: a {@code null} attribute is stored as a
+ *     {@code null} column and a {@code null} column is read as a {@code null} attribute without calling the
+ *     converter. The generic methods follow the same rule and delegate to the binary ones.</li>
+ * </ul>
+ *
+ * <pre>{@code
+ * public class BitSetConverter implements ByteBufferAttributeConverter<BitSet> {
+ *
+ *     @Override
+ *     public ByteBuffer convertToByteBuffer(BitSet attribute) {
+ *         return ByteBuffer.wrap(attribute.toByteArray());
+ *     }
+ *
+ *     @Override
+ *     public BitSet convertFromByteBuffer(ByteBuffer dbData) {
+ *         return BitSet.valueOf(dbData);
+ *     }
+ * }
+ * }</pre>
+ *
+ * @param <X> the type of the entity attribute
+ * @see AttributeConverter
+ * @see Blob
+ * @since 1.0.0
+ */
+public interface ByteBufferAttributeConverter<X> extends AttributeConverter<X, ByteBuffer> {
+
+    /**
+     * Converts the value stored in the entity attribute into the bytes stored in the database column.
+     *
+     * @param attribute the entity attribute value to be converted, never {@code null}
+     * @return the bytes to be stored, from the position to the limit of the buffer
+     */
+    ByteBuffer convertToByteBuffer(X attribute);
+
+    /**
+     * Converts the bytes stored in the database column into the value to be stored in the entity attribute.
+     *
+     * @param dbData the read-only bytes of the database column, from the position to the limit of the buffer, valid
+     *               only during the call
+     * @return the converted value to be stored in the entity attribute
+     */
+    X convertFromByteBuffer(ByteBuffer dbData);
+
+    /**
+     * Converts the entity attribute through {@link #convertToByteBuffer(Object)}.
+     *
+     * @param attribute the entity attribute value to be converted
+     * @return the converted data, or {@code null} when the attribute is {@code null}
+     */
+    @Override
+    default ByteBuffer convertToDatabaseColumn(X attribute) {
+        return attribute == null ? null : convertToByteBuffer(attribute);
+    }
+
+    /**
+     * Converts the database column through {@link #convertFromByteBuffer(ByteBuffer)}, as a read-only view.
+     *
+     * @param dbData the data from the database column to be converted
+     * @return the converted value, or {@code null} when the data is {@code null}
+     */
+    @Override
+    default X convertToEntityAttribute(ByteBuffer dbData) {
+        return dbData == null ? null : convertFromByteBuffer(dbData.asReadOnlyBuffer());
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.nosql;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Declares that the entities of an {@link Entity} class may be kept in a second-level cache, and how that cache is
+ * bounded.
+ *
+ * <p>This annotation is only a declaration: the Jakarta NoSQL API does not cache anything by itself. A second-level
+ * cache, such as the {@code CachingTemplate} of the optional {@code jakarta.nosql:jakarta.nosql-cache} module, keeps
+ * the entities of a cacheable class read through {@link Template#find(Class, Object)} and
+ * {@link Template#findAll(Class, Iterable)}, keyed by their {@link Id}, so that reading them again does not reach
+ * the database. The cache of each class is bounded by {@link #maximumSize()} entities. Entities of a class without
+ * this annotation are never cached. The results of queries are cached only when the class opts in through
+ * {@link #maximumQueryWeight()}.</p>
+ *
+ * <pre>{@code
+ * @Entity
+ * @Cacheable(maximumSize = 10_000, ttl = 10, unit = ChronoUnit.MINUTES)
+ * public class Country {
+ *     @Id
+ *     private String code;
+ *     @Column
+ *     private String name;
+ * }
+ * }</pre>
+ *
+ * <p>The class must have an {@link EntityMetadata} generated by the Jakarta NoSQL annotation processor, which a cache
+ * uses to copy the entities, and it must not have {@link FetchType#LAZY lazy} attributes. A cache raises a
+ * {@link MappingException} for a cacheable class that breaks these rules.</p>
+ *
+ * @since 1.0.0
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface Cacheable {
+
+    /**
+     * The maximum number of entities of the class kept in the cache.
+     *
+     * @return the maximum number of entities, {@code 10000} by default; it must be positive
+     */
+    long maximumSize() default 10_000L;
+
+    /**
+     * The maximum total weight of the query results of the class kept in the query cache, which keeps the results of
+     * the {@link Template#select(Class)} queries so that running the same query again does not reach the database. The
+     * weight of a list result is its number of entities, and the weight of any other result is one; the least recently
+     * used results are evicted when the total is exceeded. The query results expire after {@link #ttl()}, like the
+     * entities, and they are removed by any write to the class.
+     *
+     * @return the maximum weight of the query results, or {@code 0}, the default, to disable the query cache; it must
+     * not be negative
+     */
+    long maximumQueryWeight() default 0L;
+
+    /**
+     * How long an entity is kept in the cache after it is read from the database, in {@link #unit()}. An entity
+     * older than that is read from the database again.
+     *
+     * @return the time to live, or {@code 0}, the default, to keep the entities until they are evicted or written; it
+     * must not be negative, and it must fit in a {@link java.time.Duration} of nanoseconds, about 292 years
+     */
+    long ttl() default 0L;
+
+    /**
+     * The unit of {@link #ttl()}. It must have an exact duration, from {@link ChronoUnit#NANOS} to
+     * {@link ChronoUnit#DAYS}; a cache raises a {@link MappingException} for an estimated unit, such as
+     * {@link ChronoUnit#MONTHS}, or for {@link ChronoUnit#FOREVER}.
+     *
+     * @return the unit, {@link ChronoUnit#SECONDS} by default
+     */
+    ChronoUnit unit() default ChronoUnit.SECONDS;
+
+    /**
+     * Whether the cached entities are stored outside the Java heap, serialized into direct buffers, so that a large
+     * cache takes little of the heap. Storing an entity serializes it, and every read from the cache deserializes a
+     * new instance, so this trades processor time on each read for heap space. The type of every attribute must be a
+     * primitive type, a {@link java.io.Serializable} type, a {@link java.util.Collection} or {@link java.util.Map}
+     * type, or an {@link Embeddable} class that follows the same rule; a cache raises a {@link MappingException} for a
+     * class that does not.
+     *
+     * @return {@code true} to store the entities outside the heap, {@code false} by default
+     */
+    boolean offHeap() default false;
+}
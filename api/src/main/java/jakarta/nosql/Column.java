@@ -81,4 +81,22 @@ public @interface Column {
      * @return the user-defined type (UDT) name
      */
     String udt() default "";
+
+    /**
+     * (Optional) Defines when the value of the column is read from the database.
+     * <p>
+     * A {@link FetchType#LAZY} column is left out of the entities returned by {@link Template#find(Class, Object)}
+     * and by queries, so that an operation that does not need a large value, such as a rendered document or a binary
+     * payload, neither transfers nor decodes it. The value is read by {@link Template#fetch(Object, String...)} or,
+     * when the provider supports it, on the first access to the attribute. An attribute annotated with {@link Id}
+     * is always read with the entity.
+     * </p>
+     * <pre>{@code
+     * @Column(fetch = FetchType.LAZY)
+     * private String html;
+     * }</pre>
+     *
+     * @return the fetch type, {@link FetchType#EAGER} by default
+     */
+    FetchType fetch() default FetchType.EAGER;
 }
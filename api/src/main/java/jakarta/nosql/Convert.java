@@ -27,6 +27,9 @@ import java.lang.annotation.Target;
  * <p>The {@code Convert} annotation may be applied to any field or property and must be used in conjunction with the
  * {@link Id} or {@link Column} annotation (if not, a default value will be used).
  *
+ * <p>The converter declared by {@code Convert} takes precedence over a {@link Converter} that is auto-applied to the
+ * type of the field.
+ *
  * <p>The dot notation may also be used with map entries:
  * <p>Convert a basic attribute
  * <pre>
@@ -51,7 +54,9 @@ import java.lang.annotation.Target;
 @Target({ElementType.FIELD, ElementType.PARAMETER})
 public @interface Convert {
     /**
-     * Specifies the converter to be applied.
+     * Specifies the converter to be applied. A {@link LongAttributeConverter}, {@link IntAttributeConverter} or
+     * {@link DoubleAttributeConverter} converts to a primitive column without boxing, and a
+     * {@link ByteBufferAttributeConverter} converts to a binary column without copying it to a {@code byte[]}.
      * @return the converter class
      */
     Class<? extends AttributeConverter<?, ?>> value();
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.nosql;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares a class as an {@link AttributeConverter} that the Jakarta NoSQL provider registers globally.
+ *
+ * <p>When {@link #autoApply()} is {@code true}, the provider applies the converter to every persistent attribute of
+ * every {@link Entity} and {@link Embeddable} whose type is the attribute type of the converter, the first type
+ * argument of {@link AttributeConverter}, so that those attributes do not need a {@link Convert} annotation. The
+ * attribute type of the converter must match the type of the field exactly; a primitive field matches the
+ * converter of its wrapper type. Subtypes and collections whose elements have that type do not match.</p>
+ *
+ * <p>The attribute type of an auto-applied converter must be a class, such as {@code Money} or {@code List}, not a
+ * parameterized type such as {@code List<String>}: the mapping of an attribute knows its class but not its type
+ * arguments, so it could not tell a {@code List<String>} field from a {@code List<Integer>} one. A converter of a
+ * parameterized type is declared with {@link Convert} on each attribute instead. A converter applied to a primitive
+ * field must not return {@code null} from {@link AttributeConverter#convertToEntityAttribute(Object)}; the provider
+ * raises a {@link MappingException} when it does.</p>
+ *
+ * <p>An attribute annotated with {@link Convert} always uses the converter it declares, which takes precedence over
+ * any auto-applied converter. Attributes annotated with {@link Id} are never converted automatically. Two auto-applied
+ * converters for the same attribute type are a mapping error.</p>
+ *
+ * <p>Example:</p>
+ * <pre>{@code
+ * @Converter(autoApply = true)
+ * public class MoneyConverter implements AttributeConverter<Money, String> {
+ *     ...
+ * }
+ *
+ * @Entity
+ * public class Product {
+ *     @Id
+ *     private String id;
+ *     @Column
+ *     private Money price;  // converted by MoneyConverter
+ * }
+ * }</pre>
+ *
+ * <p>The provider resolves the converter of every attribute once, when it loads the mapping of the entity. The
+ * Jakarta NoSQL annotation processor adds the classes annotated with {@code Converter} to the {@link EntityIndex}, so
+ * that the provider finds them without scanning the classpath. The class must have a public no-argument
+ * constructor.</p>
+ *
+ * @see Convert
+ * @since 1.0.0
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface Converter {
+
+    /**
+     * Whether the converter applies to every attribute of its attribute type that has no {@link Convert} annotation.
+     *
+     * @return {@code true} to apply the converter automatically, {@code false} by default
+     */
+    boolean autoApply() default false;
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.nosql;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The position of an entity within an ordered query result, used for keyset pagination through
+ * {@link QueryMapper.MapperNameOrder#after(Cursor)}.
+ *
+ * <p>A cursor holds the values of the sort columns of an entity, in the same order as the {@code orderBy} steps of the
+ * query, followed by the value of its {@link Id}, which breaks ties between entities with the same sort values. The
+ * next page starts right after that position, so the database can seek to it through an index instead of skipping
+ * the previous results; a deep page costs the same as the first one.</p>
+ *
+ * <p>A cursor is usually obtained from {@link CursoredPage#next()}. It can also be created from values that the
+ * application keeps, for example, when an endpoint sends the last key to the client and receives it back.</p>
+ *
+ * <pre>{@code
+ * Cursor cursor = Cursor.forKey("Ada Lovelace", 10L);
+ * }</pre>
+ *
+ * @param elements the sort values followed by the Id value
+ * @see CursoredPage
+ * @see QueryMapper.MapperNameOrder#after(Cursor)
+ * @since 1.0.0
+ */
+public record Cursor(List<Object> elements) {
+
+    /**
+     * Creates the cursor.
+     *
+     * @throws NullPointerException     when elements is null or any element is null
+     * @throws IllegalArgumentException when elements is empty
+     */
+    public Cursor {
+        elements = List.copyOf(elements);
+        if (elements.isEmpty()) {
+            throw new IllegalArgumentException("The cursor requires at least one element");
+        }
+    }
+
+    /**
+     * Creates a cursor from the sort values followed by the Id value of an entity.
+     *
+     * @param key the sort values followed by the Id value
+     * @return the cursor
+     * @throws NullPointerException     when key is null or any value is null
+     * @throws IllegalArgumentException when key is empty
+     */
+    public static Cursor forKey(Object... key) {
+        return new Cursor(Arrays.asList(key));
+    }
+
+    /**
+     * Returns the element at the given position.
+     *
+     * @param index the position of the element
+     * @return the element
+     * @throws IndexOutOfBoundsException when the index is out of range
+     */
+    public Object get(int index) {
+        return elements.get(index);
+    }
+
+    /**
+     * Returns the number of elements.
+     *
+     * @return the number of elements
+     */
+    public int size() {
+        return elements.size();
+    }
+}
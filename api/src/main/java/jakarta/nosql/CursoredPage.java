@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.nosql;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * A page of a query result obtained through keyset pagination with {@link QueryMapper.MapperLimit#page()}.
+ *
+ * <p>Besides the entities, the page holds the {@link Cursor} of its last entity, which the next query passes to
+ * {@link QueryMapper.MapperNameOrder#after(Cursor)} to continue where this page ended.</p>
+ *
+ * <pre>{@code
+ * CursoredPage<Book> page = template.select(Book.class)
+ *         .orderBy("title").asc()
+ *         .limit(20)
+ *         .page();
+ *
+ * while (page.hasNext()) {
+ *     page = template.select(Book.class)
+ *             .orderBy("title").asc()
+ *             .after(page.next().orElseThrow())
+ *             .limit(20)
+ *             .page();
+ * }
+ * }</pre>
+ *
+ * @param <T> the entity type
+ * @see Cursor
+ * @since 1.0.0
+ */
+public final class CursoredPage<T> {
+
+    private final List<T> content;
+
+    private final Cursor next;
+
+    private CursoredPage(List<T> content, Cursor next) {
+        this.content = List.copyOf(Objects.requireNonNull(content, "content is required"));
+        this.next = next;
+    }
+
+    /**
+     * Creates a page followed by further entities.
+     *
+     * @param content the entities of the page
+     * @param next    the cursor of the last entity of the page
+     * @param <T>     the entity type
+     * @return the page
+     * @throws NullPointerException when either content or next is null
+     */
+    public static <T> CursoredPage<T> of(List<T> content, Cursor next) {
+        return new CursoredPage<>(content, Objects.requireNonNull(next, "next is required"));
+    }
+
+    /**
+     * Creates the last page of a result.
+     *
+     * @param content the entities of the page
+     * @param <T>     the entity type
+     * @return the page
+     * @throws NullPointerException when content is null
+     */
+    public static <T> CursoredPage<T> last(List<T> content) {
+        return new CursoredPage<>(content, null);
+    }
+
+    /**
+     * Returns the entities of the page.
+     *
+     * @return an immutable list with the entities, in the order of the query
+     */
+    public List<T> content() {
+        return content;
+    }
+
+    /**
+     * Returns the cursor to request the next page.
+     *
+     * @return the cursor of the last entity of this page, or {@link Optional#empty()} when there is no further page
+     */
+    public Optional<Cursor> next() {
+        return Optional.ofNullable(next);
+    }
+
+    /**
+     * Returns whether there may be a further page.
+     *
+     * @return {@code true} when {@link #next()} is present
+     */
+    public boolean hasNext() {
+        return next != null;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        CursoredPage<?> that = (CursoredPage<?>) o;
+        return Objects.equals(content, that.content) && Objects.equals(next, that.next);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(content, next);
+    }
+
+    @Override
+    public String toString() {
+        return "CursoredPage{" +
+                "content=" + content +
+                ", next=" + next +
+                '}';
+    }
+}
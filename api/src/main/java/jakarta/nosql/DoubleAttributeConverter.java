@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.nosql;
+
+/**
+ * An {@link AttributeConverter} whose database column is a primitive {@code double}, so that converting a value does
+ * not box it into a {@link Double}.
+ *
+ * <p>A converter such as a {@code Temperature} value object stored as its degrees, or a percentage stored as a
+ * fraction, runs on every read and write of the attribute; through the generic {@link AttributeConverter}, each call
+ * allocates a {@link Double}, since {@link Double#valueOf(double)} caches no value. The Jakarta NoSQL provider must
+ * recognize this specialization when it is referenced by {@link Convert} and call
+ * {@link #convertToDoubleColumn(Object)} and {@link #convertFromDoubleColumn(double)} instead of the generic methods,
+ * reading and writing the column as a primitive when the database driver allows it.</p>
+ *
+ * <p>The primitive methods are never called with {@code null}: a {@code null} attribute is stored as a
+ * {@code null} column and a {@code null} column is read as a {@code null} attribute without calling the converter.
+ * The generic methods follow the same rule and delegate to the primitive ones, so that a provider unaware of this
+ * specialization still converts the values correctly.</p>
+ *
+ * @param <X> the type of the entity attribute
+ * @see AttributeConverter
+ * @see LongAttributeConverter
+ * @see IntAttributeConverter
+ * @since 1.0.0
+ */
+public interface DoubleAttributeConverter<X> extends AttributeConverter<X, Double> {
+
+    /**
+     * Converts the value stored in the entity attribute into the primitive data stored in the database column.
+     *
+     * @param attribute the entity attribute value to be converted, never {@code null}
+     * @return the converted data to be stored in the database column
+     */
+    double convertToDoubleColumn(X attribute);
+
+    /**
+     * Converts the primitive data stored in the database column into the value to be stored in the entity attribute.
+     *
+     * @param dbData the data from the database column to be converted
+     * @return the converted value to be stored in the entity attribute
+     */
+    X convertFromDoubleColumn(double dbData);
+
+    /**
+     * Converts the entity attribute through {@link #convertToDoubleColumn(Object)}, boxing the result.
+     *
+     * @param attribute the entity attribute value to be converted
+     * @return the converted data, or {@code null} when the attribute is {@code null}
+     */
+    @Override
+    default Double convertToDatabaseColumn(X attribute) {
+        return attribute == null ? null : convertToDoubleColumn(attribute);
+    }
+
+    /**
+     * Converts the database column through {@link #convertFromDoubleColumn(double)}, unboxing the data.
+     *
+     * @param dbData the data from the database column to be converted
+     * @return the converted value, or {@code null} when the data is {@code null}
+     */
+    @Override
+    default X convertToEntityAttribute(Double dbData) {
+        return dbData == null ? null : convertFromDoubleColumn(dbData);
+    }
+}
@@ -0,0 +1,192 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.nosql;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * The index of the classes annotated with {@link Entity}, {@link Embeddable}, {@link MappedSuperclass} or
+ * {@link Converter}, written at build time by the Jakarta NoSQL annotation processor.
+ *
+ * <p>Without an index, a Jakarta NoSQL provider finds the entities by scanning every class of the classpath, which is
+ * slow in large applications and does not work in a runtime image built by {@code jlink}. The processor writes the
+ * annotated classes of each compilation unit to the {@value #LOCATION} resource, so the provider reads one small file
+ * per jar instead: bootstrap costs in proportion to the number of entities, not to the size of the classpath.</p>
+ *
+ * <p>Each line of the resource holds a {@link Kind} and the binary name of a class, separated by a space. Blank lines
+ * and lines starting with {@code #} are ignored.</p>
+ *
+ * <pre>{@code
+ * EntityIndex index = EntityIndex.load(Thread.currentThread().getContextClassLoader());
+ * if (index.isEmpty()) {
+ *     // no index on the classpath: fall back to scanning
+ * }
+ * Set<Class<?>> entities = index.classes(EntityIndex.Kind.ENTITY);
+ * }</pre>
+ *
+ * <p>Instances are immutable and thread-safe.</p>
+ *
+ * @see EntityMetadataLookup
+ * @since 1.0.0
+ */
+public final class EntityIndex {
+
+    /**
+     * The location of the index resource in each jar or output directory.
+     */
+    public static final String LOCATION = "META-INF/jakarta.nosql/entity.index";
+
+    private final ClassLoader loader;
+
+    private final Map<String, Kind> entries;
+
+    private EntityIndex(ClassLoader loader, Map<String, Kind> entries) {
+        this.loader = loader;
+        this.entries = entries;
+    }
+
+    /**
+     * Reads and merges every index resource visible from the given class loader.
+     *
+     * @param loader the class loader of the application
+     * @return the index, empty when no resource exists
+     * @throws NullPointerException when loader is null
+     * @throws MappingException     when a resource cannot be read or has an invalid line
+     */
+    public static EntityIndex load(ClassLoader loader) {
+        Objects.requireNonNull(loader, "loader is required");
+        Map<String, Kind> entries = new LinkedHashMap<>();
+        try {
+            Enumeration<URL> resources = loader.getResources(LOCATION);
+            while (resources.hasMoreElements()) {
+                read(resources.nextElement(), entries);
+            }
+        } catch (IOException exception) {
+            throw new MappingException("The entity index cannot be read", exception);
+        }
+        return new EntityIndex(loader, Collections.unmodifiableMap(entries));
+    }
+
+    /**
+     * Returns whether no class is indexed, which usually means that the annotation processor did not run.
+     *
+     * @return {@code true} if the index has no class
+     */
+    public boolean isEmpty() {
+        return entries.isEmpty();
+    }
+
+    /**
+     * Returns the binary names of the indexed classes of the given kind, in the order they were read.
+     *
+     * @param kind the kind of class
+     * @return the immutable set of binary names
+     * @throws NullPointerException when kind is null
+     */
+    public Set<String> names(Kind kind) {
+        Objects.requireNonNull(kind, "kind is required");
+        return entries.entrySet().stream()
+                .filter(entry -> entry.getValue() == kind)
+                .map(Map.Entry::getKey)
+                .collect(Collectors.collectingAndThen(Collectors.toCollection(LinkedHashSet::new),
+                        Collections::unmodifiableSet));
+    }
+
+    /**
+     * Loads the indexed classes of the given kind through the class loader of the index, without initializing them.
+     *
+     * @param kind the kind of class
+     * @return the immutable set of classes
+     * @throws NullPointerException when kind is null
+     * @throws MappingException     when an indexed class does not exist, which means the index is stale
+     */
+    public Set<Class<?>> classes(Kind kind) {
+        Set<Class<?>> classes = new LinkedHashSet<>();
+        for (String name : names(kind)) {
+            try {
+                classes.add(Class.forName(name, false, loader));
+            } catch (ClassNotFoundException exception) {
+                throw new MappingException("The indexed class " + name + " does not exist", exception);
+            }
+        }
+        return Collections.unmodifiableSet(classes);
+    }
+
+    @Override
+    public String toString() {
+        return "EntityIndex{" + entries + '}';
+    }
+
+    private static void read(URL resource, Map<String, Kind> entries) throws IOException {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(resource.openStream(),
+                StandardCharsets.UTF_8))) {
+            String line = reader.readLine();
+            while (line != null) {
+                String entry = line.strip();
+                if (!entry.isEmpty() && entry.charAt(0) != '#') {
+                    int separator = entry.indexOf(' ');
+                    if (separator < 0) {
+                        throw new MappingException("Invalid entity index entry at " + resource + ": " + entry);
+                    }
+                    entries.put(entry.substring(separator + 1).strip(), kind(resource, entry.substring(0, separator)));
+                }
+                line = reader.readLine();
+            }
+        }
+    }
+
+    private static Kind kind(URL resource, String value) {
+        try {
+            return Kind.valueOf(value);
+        } catch (IllegalArgumentException exception) {
+            throw new MappingException("Invalid entity index kind at " + resource + ": " + value, exception);
+        }
+    }
+
+    /**
+     * The annotation that places a class in the index.
+     */
+    public enum Kind {
+        /**
+         * A class annotated with {@link Entity}.
+         */
+        ENTITY,
+        /**
+         * A class annotated with {@link Embeddable}.
+         */
+        EMBEDDABLE,
+        /**
+         * A class annotated with {@link MappedSuperclass}.
+         */
+        MAPPED_SUPERCLASS,
+        /**
+         * A class annotated with {@link Converter}.
+         */
+        CONVERTER
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.nosql;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * The mapping of an {@link Entity} or {@link Embeddable} class, generated at compile time by the Jakarta NoSQL
+ * annotation processor.
+ *
+ * <p>A Jakarta NoSQL provider usually discovers the mapping of each entity through reflection when it starts, reading
+ * the {@link Id}, {@link Column}, {@link Convert}, {@link Inheritance}, {@link DiscriminatorColumn} and
+ * {@link DiscriminatorValue} annotations. With many entities, that scan dominates the startup time. The annotation
+ * processor reads the same annotations while the application is compiled and generates an implementation of this
+ * interface for each entity, with direct calls to the accessors and the constructor of the entity.</p>
+ *
+ * <p>Records and immutable classes are supported through their constructor: the metadata of a record calls its
+ * canonical constructor, and the metadata of a class whose fields are {@code final} calls the constructor whose
+ * parameters are all annotated with {@link Id} or {@link Column}. Such entities are {@link #immutable()}.</p>
+ *
+ * <p>The provider finds the generated metadata through {@link EntityMetadataLookup#find(Class)}. When it is absent,
+ * because the processor did not run or could not generate the metadata of a class, the provider falls back to
+ * reflection. Both paths must result in the same mapping.</p>
+ *
+ * <p>The implementations are immutable and thread-safe.</p>
+ *
+ * @param <T> the entity type
+ * @see AttributeMetadata
+ * @see EntityMetadataLookup
+ * @since 1.0.0
+ */
+public interface EntityMetadata<T> {
+
+    /**
+     * Returns the entity class.
+     *
+     * @return the entity class
+     */
+    Class<T> type();
+
+    /**
+     * Returns the name of the entity, as defined by {@link Entity#value()}, or the simple name of the class when
+     * it is not defined or the class is an {@link Embeddable}.
+     *
+     * @return the name of the entity
+     */
+    String name();
+
+    /**
+     * Returns whether the class is annotated with {@link Embeddable} instead of {@link Entity}.
+     *
+     * @return {@code true} if the class is an embeddable, otherwise {@code false}
+     */
+    boolean embeddable();
+
+    /**
+     * Returns the attribute annotated with {@link Id}, declared by the class or inherited from a superclass.
+     *
+     * @return the Id attribute, or {@link Optional#empty()} when the class has none, such as an embeddable
+     */
+    Optional<AttributeMetadata<T>> id();
+
+    /**
+     * Returns the attributes annotated with {@link Id} or {@link Column}, including the inherited ones. The attributes
+     * of the superclasses come first, followed by the attributes of the class in their declaration order.
+     *
+     * @return the immutable list of attributes
+     */
+    List<AttributeMetadata<T>> attributes();
+
+    /**
+     * Finds an attribute by the name of its field or by the name of its column.
+     *
+     * @param name the name of the field or the column
+     * @return the attribute, or {@link Optional#empty()} when no attribute has that name
+     * @throws NullPointerException when name is null
+     */
+    Optional<AttributeMetadata<T>> attribute(String name);
+
+    /**
+     * Returns whether the entity is created through a constructor that receives the values of all its attributes, as
+     * a record through its canonical constructor, instead of through its constructor without parameters followed by a
+     * write of each attribute. The attributes of such an entity cannot be written after it is created.
+     *
+     * @return {@code true} if the entity is created by {@link #newInstance(Object...)} only
+     */
+    boolean immutable();
+
+    /**
+     * Creates a new instance of the entity through its constructor without parameters.
+     *
+     * @return a new instance of the entity
+     * @throws UnsupportedOperationException when the class is abstract or {@link #immutable()}
+     */
+    T newInstance();
+
+    /**
+     * Creates a new instance of the entity with the given attribute values, indexed by the position of the attributes
+     * in {@link #attributes()}.
+     *
+     * <p>An {@link #immutable()} entity is created by a direct call to its constructor, so that reading a row costs a
+     * single allocation besides its values; a {@code null} value for a primitive parameter is passed as the default
+     * value of the primitive type. Any other entity is created through its constructor without parameters, and the
+     * values that are not {@code null} are written through {@link AttributeMetadata#set(Object, Object)}.</p>
+     *
+     * @param values the values of the attributes
+     * @return a new instance of the entity
+     * @throws NullPointerException          when values is null
+     * @throws IllegalArgumentException      when the number of values differs from the number of attributes
+     * @throws ClassCastException            when a value is not an instance of the type of its attribute
+     * @throws UnsupportedOperationException when the class is abstract
+     */
+    T newInstance(Object... values);
+
+    /**
+     * Returns the column that holds the discriminator, as defined by {@link DiscriminatorColumn} at the root of the
+     * hierarchy annotated with {@link Inheritance}.
+     *
+     * @return the discriminator column, or {@link Optional#empty()} when the class is not part of an inheritance
+     * hierarchy
+     */
+    Optional<String> discriminatorColumn();
+
+    /**
+     * Returns the value of the discriminator column for this class, as defined by {@link DiscriminatorValue}, or the
+     * simple name of the class when it is not defined.
+     *
+     * @return the discriminator value, or {@link Optional#empty()} when the class is not part of an inheritance
+     * hierarchy
+     */
+    Optional<String> discriminatorValue();
+
+    /**
+     * Returns the discriminator table of the hierarchy below this class: the concrete entities that extend it,
+     * including itself, keyed by their discriminator value. The table covers the entities compiled together with this
+     * class.
+     *
+     * @return the immutable discriminator table, empty when the class is not part of an inheritance hierarchy
+     */
+    Map<String, Class<? extends T>> subtypes();
+}
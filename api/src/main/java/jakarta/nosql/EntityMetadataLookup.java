@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.nosql;
+
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Finds the {@link EntityMetadata} generated at compile time by the Jakarta NoSQL annotation processor.
+ *
+ * <p>The processor generates the metadata of a class in the same package, in a class named after the class with the
+ * {@value #SUFFIX} suffix, where the names of nested classes are joined by an underscore: the metadata of
+ * {@code org.acme.Person} is {@code org.acme.Person_Metadata}, and the metadata of {@code org.acme.Library.Book} is
+ * {@code org.acme.Library_Book_Metadata}. The lookup loads only that class, through the class loader of the entity, so
+ * its cost does not depend on the number of entities or on the size of the classpath. The result is cached per
+ * class.</p>
+ *
+ * <p>When the application runs on the module path, the package of the entity must be exported or opened to the
+ * {@code jakarta.nosql.core} module, as a reflection-based provider already requires.</p>
+ *
+ * <pre>{@code
+ * EntityMetadata<Person> metadata = EntityMetadataLookup.find(Person.class)
+ *         .orElseGet(() -> reflection.metadata(Person.class));
+ * }</pre>
+ *
+ * @see EntityMetadata
+ * @since 1.0.0
+ */
+public final class EntityMetadataLookup {
+
+    /**
+     * The suffix of the name of the generated metadata classes.
+     */
+    public static final String SUFFIX = "_Metadata";
+
+    private static final ClassValue<Optional<EntityMetadata<?>>> METADATA = new ClassValue<>() {
+        @Override
+        protected Optional<EntityMetadata<?>> computeValue(Class<?> type) {
+            return load(type);
+        }
+    };
+
+    private EntityMetadataLookup() {
+    }
+
+    /**
+     * Finds the metadata generated for the given class.
+     *
+     * @param type the entity or embeddable class
+     * @param <T>  the entity type
+     * @return the generated metadata, or {@link Optional#empty()} when the class has none, in which case the provider
+     * falls back to reflection
+     * @throws NullPointerException when type is null
+     * @throws MappingException     when the generated metadata cannot be instantiated
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Optional<EntityMetadata<T>> find(Class<T> type) {
+        Objects.requireNonNull(type, "type is required");
+        return METADATA.get(type).map(metadata -> (EntityMetadata<T>) metadata);
+    }
+
+    private static Optional<EntityMetadata<?>> load(Class<?> type) {
+        ClassLoader loader = type.getClassLoader();
+        if (loader == null) {
+            return Optional.empty();
+        }
+        String name = type.getName().replace('$', '_') + SUFFIX;
+        try {
+            Class<?> metadata = Class.forName(name, true, loader);
+            if (!EntityMetadata.class.isAssignableFrom(metadata)) {
+                return Optional.empty();
+            }
+            EntityMetadata<?> instance = (EntityMetadata<?>) metadata.getConstructor().newInstance();
+            return type.equals(instance.type()) ? Optional.of(instance) : Optional.empty();
+        } catch (ClassNotFoundException exception) {
+            return Optional.empty();
+        } catch (ReflectiveOperationException exception) {
+            throw new MappingException("The generated metadata of " + type.getName() + " cannot be instantiated", exception);
+        }
+    }
+}
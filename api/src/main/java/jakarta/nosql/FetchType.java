@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.nosql;
+
+/**
+ * Defines when the Jakarta NoSQL provider reads the value of a {@link Column} from the database.
+ *
+ * <pre>{@code
+ * @Entity
+ * public class Article {
+ *     @Id
+ *     private String id;
+ *     @Column
+ *     private String title;
+ *     @Column(fetch = FetchType.LAZY)
+ *     private String html;
+ * }
+ * }</pre>
+ *
+ * @see Column#fetch()
+ * @see Template#fetch(Object, String...)
+ * @since 1.0.0
+ */
+public enum FetchType {
+    /**
+     * The value is read with the entity, by every operation that returns it. This is the default.
+     */
+    EAGER,
+    /**
+     * The value is not read with the entity, and is read from the database only when the application asks for it,
+     * through {@link Template#fetch(Object, String...)} or, when the provider supports it, on the first access to the
+     * attribute.
+     */
+    LAZY
+}
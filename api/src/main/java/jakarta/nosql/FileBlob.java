@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.nosql;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A {@link Blob} over a file, read when it is opened.
+ */
+final class FileBlob implements Blob {
+
+    private final Path file;
+
+    /**
+     * Creates the blob.
+     *
+     * @param file the file
+     */
+    public FileBlob(Path file) {
+        this.file = file;
+    }
+
+    @Override
+    public long length() {
+        try {
+            return Files.size(file);
+        } catch (IOException exception) {
+            throw new UncheckedIOException("The size of " + file + " cannot be read", exception);
+        }
+    }
+
+    @Override
+    public InputStream openStream() {
+        try {
+            return Files.newInputStream(file);
+        } catch (IOException exception) {
+            throw new UncheckedIOException("The file " + file + " cannot be opened", exception);
+        }
+    }
+
+    @Override
+    public ByteBuffer toByteBuffer() {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        } catch (IOException exception) {
+            throw new UncheckedIOException("The file " + file + " cannot be mapped", exception);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "Blob{file=" + file + '}';
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.nosql;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * The summary of an ingestion through {@link Template#ingest(java.util.stream.Stream, BatchOptions)} or
+ * {@link Template#ingest(java.util.Iterator, BatchOptions)}.
+ *
+ * <p>Unlike {@link Template#insert(Iterable)}, an ingestion does not return the inserted entities; it only reports how
+ * many entities were written, how many the database rejected, and how long the ingestion took.</p>
+ *
+ * @param inserted the number of entities written to the database
+ * @param failed   the number of entities the database rejected
+ * @param elapsed  the time spent between reading the first entity and finishing the last batch
+ * @see Template#ingest(java.util.stream.Stream, BatchOptions)
+ * @see Template#ingest(java.util.Iterator, BatchOptions)
+ * @since 1.0.0
+ */
+public record IngestSummary(long inserted, long failed, Duration elapsed) {
+
+    /**
+     * Creates the summary.
+     *
+     * @throws NullPointerException     when elapsed is null
+     * @throws IllegalArgumentException when either inserted or failed is negative
+     */
+    public IngestSummary {
+        Objects.requireNonNull(elapsed, "elapsed is required");
+        if (inserted < 0L) {
+            throw new IllegalArgumentException("The inserted must not be negative: " + inserted);
+        }
+        if (failed < 0L) {
+            throw new IllegalArgumentException("The failed must not be negative: " + failed);
+        }
+    }
+
+    /**
+     * Returns the number of entities read from the source, which is the sum of {@link #inserted()} and {@link #failed()}.
+     *
+     * @return the number of entities read from the source
+     */
+    public long total() {
+        return inserted + failed;
+    }
+}
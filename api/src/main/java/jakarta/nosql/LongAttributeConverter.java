@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.nosql;
+
+/**
+ * An {@link AttributeConverter} whose database column is a primitive {@code long}, so that converting a value does
+ * not box it into a {@link Long}.
+ *
+ * <p>A converter such as epoch milliseconds to {@code Instant} runs on every read and write of the attribute; through
+ * the generic {@link AttributeConverter}, each call allocates a {@link Long}. The Jakarta NoSQL provider must
+ * recognize this specialization when it is referenced by {@link Convert} and call
+ * {@link #convertToLongColumn(Object)} and {@link #convertFromLongColumn(long)} instead of the generic methods,
+ * reading and writing the column as a primitive when the database driver allows it.</p>
+ *
+ * <p>The primitive methods are never called with {@code null}: a {@code null} attribute is stored as a
+ * {@code null} column and a {@code null} column is read as a {@code null} attribute without calling the converter.
+ * The generic methods follow the same rule and delegate to the primitive ones, so that a provider unaware of this
+ * specialization still converts the values correctly.</p>
+ *
+ * <pre>{@code
+ * public class InstantConverter implements LongAttributeConverter<Instant> {
+ *
+ *     @Override
+ *     public long convertToLongColumn(Instant attribute) {
+ *         return attribute.toEpochMilli();
+ *     }
+ *
+ *     @Override
+ *     public Instant convertFromLongColumn(long dbData) {
+ *         return Instant.ofEpochMilli(dbData);
+ *     }
+ * }
+ *
+ * @Entity
+ * public class Event {
+ *
+ *     @Convert(InstantConverter.class)
+ *     @Column
+ *     private Instant timestamp;
+ * }
+ * }</pre>
+ *
+ * @param <X> the type of the entity attribute
+ * @see AttributeConverter
+ * @see IntAttributeConverter
+ * @see DoubleAttributeConverter
+ * @since 1.0.0
+ */
+public interface LongAttributeConverter<X> extends AttributeConverter<X, Long> {
+
+    /**
+     * Converts the value stored in the entity attribute into the primitive data stored in the database column.
+     *
+     * @param attribute the entity attribute value to be converted, never {@code null}
+     * @return the converted data to be stored in the database column
+     */
+    long convertToLongColumn(X attribute);
+
+    /**
+     * Converts the primitive data stored in the database column into the value to be stored in the entity attribute.
+     *
+     * @param dbData the data from the database column to be converted
+     * @return the converted value to be stored in the entity attribute
+     */
+    X convertFromLongColumn(long dbData);
+
+    /**
+     * Converts the entity attribute through {@link #convertToLongColumn(Object)}, boxing the result.
+     *
+     * @param attribute the entity attribute value to be converted
+     * @return the converted data, or {@code null} when the attribute is {@code null}
+     */
+    @Override
+    default Long convertToDatabaseColumn(X attribute) {
+        return attribute == null ? null : convertToLongColumn(attribute);
+    }
+
+    /**
+     * Converts the database column through {@link #convertFromLongColumn(long)}, unboxing the data.
+     *
+     * @param dbData the data from the database column to be converted
+     * @return the converted value, or {@code null} when the data is {@code null}
+     */
+    @Override
+    default X convertToEntityAttribute(Long dbData) {
+        return dbData == null ? null : convertFromLongColumn(dbData);
+    }
+}
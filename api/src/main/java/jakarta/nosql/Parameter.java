@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.nosql;
+
+import java.util.Objects;
+
+/**
+ * A named placeholder for a value in a {@link QueryMapper} condition, bound later through
+ * {@link PreparedQuery.BoundQuery#bind(String, Object)}.
+ *
+ * <p>A parameter can be used in place of any value of a condition, such as {@code eq}, {@code gt} or
+ * {@code between}. The same parameter can appear more than once in a query; all of its occurrences receive the
+ * same value.</p>
+ *
+ * <pre>{@code
+ * PreparedQuery<Book> query = template.select(Book.class)
+ *         .where("author").eq(Parameter.named("author"))
+ *         .and("year").gt(Parameter.named("year"))
+ *         .prepare();
+ * }</pre>
+ *
+ * @param name the name of the parameter
+ * @see PreparedQuery
+ * @see QueryMapper.MapperQueryBuild#prepare()
+ * @since 1.0.0
+ */
+public record Parameter(String name) {
+
+    /**
+     * Creates the parameter.
+     *
+     * @throws NullPointerException     when name is null
+     * @throws IllegalArgumentException when name is blank
+     */
+    public Parameter {
+        Objects.requireNonNull(name, "name is required");
+        if (name.isBlank()) {
+            throw new IllegalArgumentException("The parameter name must not be blank");
+        }
+    }
+
+    /**
+     * Creates a parameter with the given name.
+     *
+     * @param name the name of the parameter
+     * @return the parameter
+     * @throws NullPointerException     when name is null
+     * @throws IllegalArgumentException when name is blank
+     */
+    public static Parameter named(String name) {
+        return new Parameter(name);
+    }
+}
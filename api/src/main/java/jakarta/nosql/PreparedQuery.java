@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.nosql;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * A {@link QueryMapper} query compiled once and executed many times with different values for its
+ * {@link Parameter parameters}.
+ *
+ * <p>Building a query chain on every request allocates the builder steps and repeats the translation and validation
+ * of the query. A prepared query is created once through {@link QueryMapper.MapperQueryBuild#prepare()}, so later
+ * executions only bind the values and run the query. The Jakarta NoSQL provider may keep the native statement of the
+ * query, for example, a prepared statement of a wide-column database, for the lifetime of the prepared query.</p>
+ *
+ * <p>A prepared query is immutable and thread-safe: it can be kept in a field and shared across threads. Each
+ * execution starts with {@link #bind(String, Object)} or {@link #bind(Map)}, which returns a new
+ * {@link BoundQuery} that holds the values of that execution only.</p>
+ *
+ * <pre>{@code
+ * PreparedQuery<Book> query = template.select(Book.class)
+ *         .where("author").eq(Parameter.named("author"))
+ *         .and("year").gt(Parameter.named("year"))
+ *         .orderBy("title").asc()
+ *         .prepare();
+ *
+ * List<Book> books = query.bind("author", "Joshua Bloch")
+ *         .bind("year", 2000)
+ *         .result();
+ * }</pre>
+ *
+ * @param <T> the entity type
+ * @see Parameter
+ * @see QueryMapper.MapperQueryBuild#prepare()
+ * @since 1.0.0
+ */
+public interface PreparedQuery<T> {
+
+    /**
+     * Returns the names of the parameters of the query.
+     *
+     * @return the names of the parameters, in the order they first appear in the query
+     */
+    Set<String> parameters();
+
+    /**
+     * Starts an execution of the query, binding a value to a parameter.
+     *
+     * @param name  the name of the parameter
+     * @param value the value of the parameter
+     * @return a new bound query that holds the value
+     * @throws NullPointerException     when name is null
+     * @throws IllegalArgumentException when the query has no parameter with the given name
+     */
+    BoundQuery<T> bind(String name, Object value);
+
+    /**
+     * Starts an execution of the query, binding the values to the parameters with the same names.
+     *
+     * @param values the values keyed by the parameter name
+     * @return a new bound query that holds the values
+     * @throws NullPointerException     when values is null
+     * @throws IllegalArgumentException when the query has no parameter with one of the given names
+     */
+    BoundQuery<T> bind(Map<String, ?> values);
+
+    /**
+     * A single execution of a {@link PreparedQuery} with the values bound so far.
+     *
+     * <p>A bound query is not thread-safe; it is meant to be created, bound and executed by a single thread. Binding a
+     * parameter again replaces its previous value. Every parameter of the query must be bound before the execution;
+     * otherwise, the execution raises an {@link IllegalStateException}.</p>
+     *
+     * @param <T> the entity type
+     */
+    interface BoundQuery<T> {
+
+        /**
+         * Binds a value to a parameter.
+         *
+         * @param name  the name of the parameter
+         * @param value the value of the parameter
+         * @return this bound query
+         * @throws NullPointerException     when name is null
+         * @throws IllegalArgumentException when the query has no parameter with the given name
+         */
+        BoundQuery<T> bind(String name, Object value);
+
+        /**
+         * Executes the query and returns the result as a {@link List}.
+         *
+         * @return the result of the query
+         * @throws IllegalStateException when a parameter is not bound
+         * @see QueryMapper.MapperQueryBuild#result()
+         */
+        List<T> result();
+
+        /**
+         * Executes the query and returns the result as a {@link Stream}.
+         *
+         * @return the result of the query
+         * @throws IllegalStateException when a parameter is not bound
+         * @see QueryMapper.MapperQueryBuild#stream()
+         */
+        Stream<T> stream();
+
+        /**
+         * Executes the query and returns the result as a single element, wrapped in an {@link Optional}.
+         *
+         * @return an Optional containing the single result of the query, if present, or empty if no result is found
+         * @throws IllegalStateException when a parameter is not bound
+         * @see QueryMapper.MapperQueryBuild#singleResult()
+         */
+        Optional<T> singleResult();
+
+        /**
+         * Executes the query and returns the number of entities that match it.
+         *
+         * @return the number of entities that match the query
+         * @throws IllegalStateException when a parameter is not bound
+         * @see QueryMapper.MapperQueryBuild#count()
+         */
+        long count();
+
+        /**
+         * Executes the query and returns whether at least one entity matches it.
+         *
+         * @return {@code true} if at least one entity matches the query, otherwise {@code false}
+         * @throws IllegalStateException when a parameter is not bound
+         * @see QueryMapper.MapperQueryBuild#exists()
+         */
+        boolean exists();
+    }
+}
@@ -18,10 +18,12 @@ package jakarta.nosql;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
 import java.util.stream.Stream;
 
 /**
- * This interface defines the Fluent API for selecting and deleting NoSQL entities.
+ * This interface defines the Fluent API for selecting, updating, and deleting NoSQL entities.
  * The query API provides a way to define queries using a fluent API.
  * It's important to check the compatibility of the database to see if it supports the query API.
  * For example, Key-Value databases typically do not support the query API.
@@ -29,11 +31,49 @@ import java.util.stream.Stream;
  * For instance, a document database may not support the "between" method.
  *
  * @see jakarta.nosql.Template#select(Class)
+ * @see jakarta.nosql.Template#update(Class)
  * @see jakarta.nosql.Template#delete(Class)
  * @since 1.0.0
  */
 public interface QueryMapper {
 
+    /**
+     * Represents the step in the query fluent API after a {@link Cursor} is defined through
+     * {@link MapperNameOrder#after(Cursor)}. The conditions, the sort and the first result can no longer change, so
+     * only the maximum number of results or the query execution can follow.
+     */
+    interface MapperAfter extends MapperQueryBuild {
+
+        /**
+         * Defines the maximum number of results to retrieve.
+         *
+         * @param limit the limit
+         * @return a query with the limit defined
+         * @throws IllegalArgumentException when limit is negative
+         */
+        MapperAfterLimit limit(long limit);
+    }
+
+    /**
+     * Represents the step in the query fluent API after the maximum number of results of a query that starts
+     * {@linkplain MapperNameOrder#after(Cursor) after a cursor} is defined, where it's possible to perform the query
+     * execution.
+     */
+    interface MapperAfterLimit extends MapperQueryBuild {
+
+        /**
+         * Executes the query and returns the next page of, at most, the limit of results, together with the
+         * {@link Cursor} to request the page after it.
+         *
+         * @param <T> the entity type
+         * @return the page of results
+         * @throws UnsupportedOperationException If a NoSQL database does not support a specific operation or if the
+         *                                       database does not support certain query conditions.
+         * @see MapperLimit#page()
+         */
+        <T> CursoredPage<T> page();
+    }
+
 
     /**
      * Represents the first step in the delete query fluent API.
@@ -157,13 +197,29 @@ public interface QueryMapper {
 
 
         /**
-         * Executes the query.
+         * Executes the query and returns the number of deleted entities.
+         *
+         * <p>The Jakarta NoSQL provider must count the deleted entities from the response of the database,
+         * without reading them first, whenever the database reports that count.</p>
+         *
+         * @return the number of deleted entities, or {@code 0} when no entity matches the query
          * @throws UnsupportedOperationException If a NoSQL database does not support a specific operation or if the
          *                                       database does not support certain query conditions, an exception will be raised. For example, a wide-column
          *                                       may not support the OR operator, or a document database may not support the BETWEEN operator.
          *                                       The level of NoSQL database support for various conditions may vary depending on the database provider.
          */
-        void execute();
+        long execute();
+
+        /**
+         * Executes the query asynchronously. Any failure while executing the query completes the returned stage
+         * exceptionally with a {@link NoSQLException} as the cause.
+         *
+         * @return a {@link CompletionStage} that completes with the number of deleted entities
+         * @throws UnsupportedOperationException If a NoSQL database does not support a specific operation or if the
+         *                                       database does not support certain query conditions.
+         * @see AsyncTemplate
+         */
+        CompletionStage<Long> executeAsync();
 
     }
 
@@ -190,6 +246,30 @@ public interface QueryMapper {
          * @throws NullPointerException when name is null
          */
         MapperDeleteNameCondition or(String name);
+
+        /**
+         * Defines the maximum number of entities deleted by each execution of the query, so that a large purge can
+         * be throttled and run incrementally, executing the query until it returns {@code 0}.
+         *
+         * <p>The Jakarta NoSQL provider must push the limit down to the database whenever the database supports a
+         * limited delete; otherwise, it must select the ids of at most {@code limit} matching entities and delete them
+         * by id. Which matching entities are deleted by each execution is not defined.</p>
+         *
+         * <pre>{@code
+         * long deleted;
+         * do {
+         *     deleted = template.delete(Session.class)
+         *             .where("expiresAt").lt(now)
+         *             .limit(10_000)
+         *             .execute();
+         * } while (deleted > 0);
+         * }</pre>
+         *
+         * @param limit the maximum number of entities deleted by each execution
+         * @return the query with the limit defined
+         * @throws IllegalArgumentException when limit is lower than one
+         */
+        MapperDeleteQueryBuild limit(long limit);
     }
 
     /**
@@ -197,6 +277,65 @@ public interface QueryMapper {
      */
     interface MapperFrom extends MapperQueryBuild {
 
+        /**
+         * Restricts the query to the given columns. The Jakarta NoSQL provider pushes the projection down to the
+         * database, so only these columns are transferred and decoded.
+         *
+         * <p>The names follow the same rules as {@link #where(String)}: each one is an entity property name, using
+         * the dot notation for embeddable classes, and it is resolved to the column defined by {@link Column}. A
+         * name that matches the value of {@link Column}, such as {@code native_age} for
+         * {@code @Column("native_age") Integer age}, resolves to the same column.</p>
+         *
+         * <p>Unless {@link #project(Class)} defines another type, the results are instances of the entity where only
+         * the listed attributes and the {@link Id} are loaded; the other attributes keep their default values.</p>
+         *
+         * <pre>{@code
+         * List<Person> people = template.select(Person.class)
+         *         .columns("name", "native_age")
+         *         .where("name").eq("Ada")
+         *         .result();
+         * }</pre>
+         *
+         * @param names the column names
+         * @return the same query with the projection defined
+         * @throws NullPointerException     when names is null or any name is null
+         * @throws IllegalArgumentException when names is empty
+         */
+        MapperFrom columns(String... names);
+
+        /**
+         * Maps the results of the query to the given record or interface instead of the entity. The Jakarta NoSQL
+         * provider only fetches the columns that the type requires and pushes this projection down to the database.
+         *
+         * <ul>
+         *     <li>A record is built through its canonical constructor. Each component is matched to an entity property
+         *     with the same name; a component annotated with {@link Column} is matched through the column name, as in
+         *     the entity mapping.</li>
+         *     <li>An interface is implemented by the provider. Each method without parameters is matched to the entity
+         *     property with the same name, with or without the {@code get} or {@code is} prefix.</li>
+         * </ul>
+         *
+         * <p>When combined with {@link #columns(String...)}, the listed columns must cover the properties that the
+         * type requires.</p>
+         *
+         * <pre>{@code
+         * public record PersonName(String name) {
+         * }
+         *
+         * List<PersonName> names = template.select(Person.class)
+         *         .project(PersonName.class)
+         *         .orderBy("name").asc()
+         *         .result();
+         * }</pre>
+         *
+         * @param type the record or interface of the results
+         * @return the same query with the projection defined
+         * @throws NullPointerException     when type is null
+         * @throws IllegalArgumentException when type is neither a record nor an interface
+         * @throws MappingException         when a component or method does not match any property of the entity
+         */
+        MapperFrom project(Class<?> type);
+
         /**
          * Starts a new condition by specifying a column name.
          *
@@ -248,6 +387,22 @@ public interface QueryMapper {
          * @throws IllegalArgumentException when skip is negative
          */
         MapperSkip skip(long skip);
+
+        /**
+         * Executes the query and returns a page of, at most, the limit of results, together with the {@link Cursor}
+         * to request the next page through {@link MapperNameOrder#after(Cursor)}.
+         *
+         * <p>The results are sorted by the {@code orderBy} steps of the query, followed by the {@link Id} to keep the
+         * order stable between entities with the same sort values. The cursor of the page holds the values of these
+         * columns for its last entity. The page has no next cursor when the database has no further results.</p>
+         *
+         * @param <T> the entity type
+         * @return the page of results
+         * @throws IllegalStateException         when the query has no {@code orderBy} step
+         * @throws UnsupportedOperationException If a NoSQL database does not support a specific operation or if the
+         *                                       database does not support certain query conditions.
+         */
+        <T> CursoredPage<T> page();
     }
 
     /**
@@ -358,6 +513,30 @@ public interface QueryMapper {
          */
         MapperOrder orderBy(String name);
 
+        /**
+         * Restricts the query to the results that come after the given {@link Cursor}, in the order defined by the
+         * {@code orderBy} steps followed by the {@link Id}. It implements keyset pagination: the database seeks to
+         * the position of the cursor instead of skipping the previous results, so a deep page costs the same as the
+         * first one.
+         *
+         * <p>Entities inserted or deleted between two pages do not cause the results of the other pages to be
+         * repeated or dropped: each entity that exists during the whole pagination appears exactly once.</p>
+         *
+         * <pre>{@code
+         * CursoredPage<Book> next = template.select(Book.class)
+         *         .orderBy("title").asc()
+         *         .after(page.next().orElseThrow())
+         *         .limit(20)
+         *         .page();
+         * }</pre>
+         *
+         * @param cursor the position after which the results start
+         * @return a query with the cursor defined
+         * @throws NullPointerException     when cursor is null
+         * @throws IllegalArgumentException when the number of elements of the cursor does not match the number of
+         *                                  {@code orderBy} steps plus the {@link Id}
+         */
+        MapperAfter after(Cursor cursor);
 
         /**
          * Defines the position of the first result to retrieve.
@@ -407,6 +586,9 @@ public interface QueryMapper {
 
     /**
      * Represents the last step of the query fluent API execution.
+     *
+     * <p>A query whose conditions use a {@link Parameter} can only be executed through {@link #prepare()}; its other
+     * terminal operations raise an {@link IllegalStateException}.</p>
      */
     interface MapperQueryBuild {
 
@@ -453,6 +635,126 @@ public interface QueryMapper {
          */
         <T> Optional<T> singleResult();
 
+        /**
+         * Executes the query and returns the number of entities that match it.
+         *
+         * <p>The Jakarta NoSQL provider must push the count down to the database, for example, as a {@code COUNT}
+         * query, instead of reading and mapping the entities. When the query defines a skip or a limit, the count
+         * honors them: it is the number of entities that {@link #result()} would return.</p>
+         *
+         * <pre>{@code
+         * long books = template.select(Book.class)
+         *         .where("author")
+         *         .eq("Joshua Bloch")
+         *         .count();
+         * }</pre>
+         *
+         * @return the number of entities that match the query
+         * @throws UnsupportedOperationException If a NoSQL database does not support a specific operation or if the
+         *                                       database does not support certain query conditions, an exception will be raised. For example, a wide-column
+         *                                       may not support the OR operator, or a document database may not support the BETWEEN operator.
+         *                                       The level of NoSQL database support for various conditions may vary depending on the database provider.
+         */
+        long count();
+
+        /**
+         * Executes the query and returns whether at least one entity matches it.
+         *
+         * <p>The Jakarta NoSQL provider must push the check down to the database and stop at the first match,
+         * instead of reading, mapping or counting every entity.</p>
+         *
+         * <pre>{@code
+         * boolean exists = template.select(Book.class)
+         *         .where("isbn")
+         *         .eq(isbn)
+         *         .exists();
+         * }</pre>
+         *
+         * @return {@code true} if at least one entity matches the query, otherwise {@code false}
+         * @throws UnsupportedOperationException If a NoSQL database does not support a specific operation or if the
+         *                                       database does not support certain query conditions, an exception will be raised. For example, a wide-column
+         *                                       may not support the OR operator, or a document database may not support the BETWEEN operator.
+         *                                       The level of NoSQL database support for various conditions may vary depending on the database provider.
+         */
+        boolean exists();
+
+        /**
+         * Executes the query asynchronously and returns the result as a {@link List}.
+         * Any failure while executing the query completes the returned stage exceptionally with a
+         * {@link NoSQLException} as the cause.
+         *
+         * @param <T> the entity type
+         * @return a {@link CompletionStage} that completes with the result of the query
+         * @throws UnsupportedOperationException If a NoSQL database does not support a specific operation or if the
+         *                                       database does not support certain query conditions.
+         * @see AsyncTemplate
+         */
+        <T> CompletionStage<List<T>> resultAsync();
+
+        /**
+         * Executes the query asynchronously and returns the result as a single element, wrapped in an {@link Optional}.
+         * If more than one result is found, the returned stage completes exceptionally.
+         * Any other failure while executing the query completes the returned stage exceptionally with a
+         * {@link NoSQLException} as the cause.
+         *
+         * @param <T> the type of the entity being queried
+         * @return a {@link CompletionStage} that completes with the single result of the query, if present,
+         * or empty if no result is found
+         * @throws UnsupportedOperationException If a NoSQL database does not support a specific operation or if the
+         *                                       database does not support certain query conditions.
+         * @see AsyncTemplate
+         */
+        <T> CompletionStage<Optional<T>> singleResultAsync();
+
+        /**
+         * Returns the result of the query as a {@link Flow.Publisher} that fetches the entities on demand.
+         *
+         * <p>The query is executed for each {@link Flow.Subscriber} that subscribes to the publisher. The Jakarta NoSQL
+         * provider must honor the demand signaled through {@link Flow.Subscription#request(long)}: it fetches the
+         * entities from the database in pages, only as the subscriber requests them, and it never delivers more
+         * entities than were requested. That allows a subscriber to process a large result, such as a full export,
+         * with bounded memory and without holding a blocking cursor while it is slow.</p>
+         *
+         * <p>The publisher follows the {@link Flow} contract: {@link Flow.Subscriber#onComplete()} is signaled after the
+         * last entity, and {@link Flow.Subscription#cancel()} stops the fetching and releases the database resources.
+         * Any failure while executing the query is signaled through {@link Flow.Subscriber#onError(Throwable)} with a
+         * {@link NoSQLException}.</p>
+         *
+         * <pre>{@code
+         * template.select(Book.class)
+         *         .where("author")
+         *         .eq("Joshua Bloch")
+         *         .publisher()
+         *         .subscribe(subscriber);
+         * }</pre>
+         *
+         * @param <T> the entity type
+         * @return a publisher of the result of the query
+         * @throws UnsupportedOperationException If a NoSQL database does not support a specific operation or if the
+         *                                       database does not support certain query conditions.
+         */
+        <T> Flow.Publisher<T> publisher();
+
+        /**
+         * Compiles the query into a {@link PreparedQuery} that can be executed many times, binding different values
+         * to its {@link Parameter parameters} on each execution.
+         *
+         * <p>The Jakarta NoSQL provider must translate and validate the query once, when it is prepared, so that the
+         * executions of the prepared query only bind the values and run it. The values of the conditions that are not
+         * parameters are kept as they are in every execution.</p>
+         *
+         * <pre>{@code
+         * PreparedQuery<Book> query = template.select(Book.class)
+         *         .where("author").eq(Parameter.named("author"))
+         *         .prepare();
+         * }</pre>
+         *
+         * @param <T> the entity type
+         * @return the prepared query
+         * @throws UnsupportedOperationException If a NoSQL database does not support a specific operation or if the
+         *                                       database does not support certain query conditions.
+         */
+        <T> PreparedQuery<T> prepare();
 
     }
 
@@ -471,6 +773,350 @@ public interface QueryMapper {
         MapperLimit limit(long limit);
     }
 
+    /**
+     * Represents the first step in the update query fluent API, where the first column to update is defined.
+     */
+    interface MapperUpdateFrom {
+
+        /**
+         * Defines the new value of a column. A {@code null} value clears the column.
+         *
+         * <p>The value is converted through the {@link AttributeConverter} of the attribute, if any, before it is
+         * sent to the database.</p>
+         *
+         * @param name  the column name
+         * @param value the new value, or {@code null} to clear the column
+         * @param <T>   the type
+         * @return a {@link MapperUpdateSet} with the assignment appended
+         * @throws NullPointerException     when name is null
+         * @throws IllegalArgumentException when the column is the {@link Id} of the entity
+         */
+        <T> MapperUpdateSet set(String name, T value);
+    }
+
+    /**
+     * Represents the first step in the conditional update fluent API, where the guard of the update starts.
+     *
+     * @see Template#updateIf(Object)
+     */
+    interface MapperUpdateIf {
+
+        /**
+         * Starts the guard of the conditional update by specifying a column name.
+         *
+         * @param name the column name
+         * @return a new {@link MapperUpdateIfNameCondition}
+         * @throws NullPointerException when name is null
+         */
+        MapperUpdateIfNameCondition where(String name);
+    }
+
+    /**
+     * Represents a guard condition of the conditional update based on a column name. The condition is evaluated
+     * against the values stored in the database, not against the values of the entity being written.
+     */
+    interface MapperUpdateIfNameCondition {
+
+
+        /**
+         * Creates a guard condition where the stored column equals the provided value.
+         *
+         * @param value the value for the condition
+         * @param <T>   the type
+         * @return the {@link MapperUpdateIfWhere}
+         * @throws NullPointerException when value is null
+         */
+        <T> MapperUpdateIfWhere eq(T value);
+
+        /**
+         * Creates a guard condition where the stored column is greater than the provided value.
+         *
+         * @param value the value for the condition
+         * @param <T>   the type
+         * @return the {@link MapperUpdateIfWhere}
+         * @throws NullPointerException when value is null
+         */
+        <T> MapperUpdateIfWhere gt(T value);
+
+        /**
+         * Creates a guard condition where the stored column is greater than or equal to the provided value.
+         *
+         * @param value the value for the condition
+         * @param <T>   the type
+         * @return the {@link MapperUpdateIfWhere}
+         * @throws NullPointerException when value is null
+         */
+        <T> MapperUpdateIfWhere gte(T value);
+
+        /**
+         * Creates a guard condition where the stored column is less than the provided value.
+         *
+         * @param value the value for the condition
+         * @param <T>   the type
+         * @return the {@link MapperUpdateIfWhere}
+         * @throws NullPointerException when value is null
+         */
+        <T> MapperUpdateIfWhere lt(T value);
+
+        /**
+         * Creates a guard condition where the stored column is less than or equal to the provided value.
+         *
+         * @param value the value for the condition
+         * @param <T>   the type
+         * @return the {@link MapperUpdateIfWhere}
+         * @throws NullPointerException when value is null
+         */
+        <T> MapperUpdateIfWhere lte(T value);
+
+        /**
+         * Creates a guard condition where the stored column is in the provided iterable values.
+         *
+         * @param values the values for the condition
+         * @param <T>    the type
+         * @return the {@link MapperUpdateIfWhere}
+         * @throws NullPointerException when values is null
+         */
+        <T> MapperUpdateIfWhere in(Iterable<T> values);
+
+        /**
+         * Creates a NOT guard condition for the specified column name.
+         *
+         * @return {@link MapperUpdateIfNotCondition}
+         */
+        MapperUpdateIfNotCondition not();
+    }
+
+    /**
+     * Represents a NOT guard condition in the conditional update fluent API.
+     */
+    interface MapperUpdateIfNotCondition extends MapperUpdateIfNameCondition {
+    }
+
+    /**
+     * Represents the last step of the conditional update fluent API execution.
+     */
+    interface MapperUpdateIfQueryBuild {
+
+
+        /**
+         * Writes the entity if, and only if, the entity stored with the same id matches every guard condition.
+         *
+         * <p>The Jakarta NoSQL provider must evaluate the guard and write the entity as a single atomic operation of
+         * the database, such as a lightweight transaction ({@code UPDATE ... IF}) in a wide-column database or a
+         * filtered {@code updateOne} in a document database, so that no other write can happen between them. The
+         * provider must not emulate it with a read followed by a write.</p>
+         *
+         * @return {@code true} when the entity was written, {@code false} when there is no entity with the id or
+         * the stored entity does not match the guard
+         * @throws UnsupportedOperationException when the database has no atomic conditional write, or does not
+         *                                       support one of the guard conditions
+         */
+        boolean execute();
+
+        /**
+         * Executes the conditional update asynchronously. Any failure while executing it completes the returned
+         * stage exceptionally with a {@link NoSQLException} as the cause.
+         *
+         * @return a {@link CompletionStage} that completes with whether the entity was written
+         * @throws UnsupportedOperationException when the database has no atomic conditional write, or does not
+         *                                       support one of the guard conditions
+         * @see AsyncTemplate
+         */
+        CompletionStage<Boolean> executeAsync();
+    }
+
+    /**
+     * Represents a step where it's possible to add one more guard condition, joined by a logical conjunction (AND),
+     * or end up performing the conditional update.
+     */
+    interface MapperUpdateIfWhere extends MapperUpdateIfQueryBuild {
+
+        /**
+         * Create a new guard condition performing logical conjunction (AND) by specifying a column name.
+         *
+         * @param name the column name
+         * @return the same {@link MapperUpdateIfNameCondition} with the guard condition appended
+         * @throws NullPointerException when name is null
+         */
+        MapperUpdateIfNameCondition and(String name);
+    }
+
+    /**
+     * Represents an update condition based on a column name.
+     */
+    interface MapperUpdateNameCondition {
+
+
+        /**
+         * Creates an update condition where the specified column name equals the provided value.
+         *
+         * @param value the value for the condition
+         * @param <T>   the type
+         * @return the {@link MapperUpdateWhere}
+         * @throws NullPointerException when value is null
+         */
+        <T> MapperUpdateWhere eq(T value);
+
+        /**
+         * Creates an update condition where the specified column name is like the provided value.
+         *
+         * @param value the value for the condition
+         * @return the {@link MapperUpdateWhere}
+         * @throws NullPointerException when value is null
+         */
+        MapperUpdateWhere like(String value);
+
+        /**
+         * Creates an update condition where the specified column name is greater than the provided value.
+         *
+         * @param value the value for the condition
+         * @param <T>   the type
+         * @return the {@link MapperUpdateWhere}
+         * @throws NullPointerException when value is null
+         */
+        <T> MapperUpdateWhere gt(T value);
+
+        /**
+         * Creates an update condition where the specified column name is greater than or equal to the provided value.
+         *
+         * @param <T>   the type
+         * @param value the value for the condition
+         * @return the {@link MapperUpdateWhere}
+         * @throws NullPointerException when value is null
+         */
+        <T> MapperUpdateWhere gte(T value);
+
+        /**
+         * Creates an update condition where the specified column name is less than the provided value.
+         *
+         * @param <T>   the type
+         * @param value the value for the condition
+         * @return the {@link MapperUpdateWhere}
+         * @throws NullPointerException when value is null
+         */
+        <T> MapperUpdateWhere lt(T value);
+
+        /**
+         * Creates an update condition where the specified column name is less than or equal to the provided value.
+         *
+         * @param <T>   the type
+         * @param value the value for the condition
+         * @return the {@link MapperUpdateWhere}
+         * @throws NullPointerException when value is null
+         */
+        <T> MapperUpdateWhere lte(T value);
+
+        /**
+         * Creates an update condition where the specified column name is between the provided values.
+         *
+         * @param <T>    the type
+         * @param valueA the lower bound of the range
+         * @param valueB the upper bound of the range
+         * @return the {@link MapperUpdateWhere}
+         * @throws NullPointerException when either valueA or valueB is null
+         */
+        <T> MapperUpdateWhere between(T valueA, T valueB);
+
+        /**
+         * Creates an update condition where the specified column name is in the provided iterable values.
+         *
+         * @param values the values for the condition
+         * @param <T>    the type
+         * @return the {@link MapperUpdateWhere}
+         * @throws NullPointerException when values is null
+         */
+        <T> MapperUpdateWhere in(Iterable<T> values);
+
+        /**
+         * Creates a NOT update condition for the specified column name.
+         *
+         * @return {@link MapperUpdateNotCondition}
+         */
+        MapperUpdateNotCondition not();
+    }
+
+    /**
+     * Represents a NOT update condition in the update query fluent API.
+     */
+    interface MapperUpdateNotCondition extends MapperUpdateNameCondition {
+    }
+
+    /**
+     * Represents the last step of the update query fluent API execution.
+     */
+    interface MapperUpdateQueryBuild {
+
+
+        /**
+         * Executes the query and returns the number of updated entities.
+         *
+         * <p>The Jakarta NoSQL provider must push the update down to the database as a single partial update, such
+         * as {@code $set} in a document database or {@code UPDATE ... SET} in a wide-column database, writing only
+         * the assigned columns without reading the entities first. The count is taken from the response of the
+         * database whenever the database reports it.</p>
+         *
+         * @return the number of updated entities, or {@code 0} when no entity matches the query
+         * @throws UnsupportedOperationException If a NoSQL database does not support a specific operation or if the
+         *                                       database does not support certain query conditions, an exception will be raised. For example, a wide-column
+         *                                       may not support the OR operator, or a document database may not support the BETWEEN operator.
+         *                                       The level of NoSQL database support for various conditions may vary depending on the database provider.
+         */
+        long execute();
+
+        /**
+         * Executes the query asynchronously. Any failure while executing the query completes the returned stage
+         * exceptionally with a {@link NoSQLException} as the cause.
+         *
+         * @return a {@link CompletionStage} that completes with the number of updated entities
+         * @throws UnsupportedOperationException If a NoSQL database does not support a specific operation or if the
+         *                                       database does not support certain query conditions.
+         * @see AsyncTemplate
+         */
+        CompletionStage<Long> executeAsync();
+
+    }
+
+    /**
+     * Represents a step where it's possible to define one more column to update, start the update condition,
+     * or end up performing the built query, which then updates every entity of the type.
+     */
+    interface MapperUpdateSet extends MapperUpdateFrom, MapperUpdateQueryBuild {
+
+        /**
+         * Starts a new update condition by specifying a column name.
+         *
+         * @param name the column name
+         * @return a new {@link MapperUpdateNameCondition}
+         * @throws NullPointerException when name is null
+         */
+        MapperUpdateNameCondition where(String name);
+    }
+
+    /**
+     * Represents a step where it's possible to perform a logical conjunction or disjunction,
+     * add one more update condition, or end up performing the built query.
+     */
+    interface MapperUpdateWhere extends MapperUpdateQueryBuild {
+
+        /**
+         * Create a new update condition performing logical conjunction (AND) by specifying a column name.
+         *
+         * @param name the column name
+         * @return the same {@link MapperUpdateNameCondition} with the update condition appended
+         * @throws NullPointerException when name is null
+         */
+        MapperUpdateNameCondition and(String name);
+
+        /**
+         * Create a new update condition performing logical disjunction (OR) by specifying a column name.
+         *
+         * @param name the column name
+         * @return the same {@link MapperUpdateNameCondition} with the update condition appended
+         * @throws NullPointerException when name is null
+         */
+        MapperUpdateNameCondition or(String name);
+    }
+
     /**
      * Represents a step where it's possible to:
      * <ul>
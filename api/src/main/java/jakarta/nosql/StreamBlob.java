@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.nosql;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A {@link Blob} that reads its content once from a stream. A stream cannot be mapped, so {@link #toByteBuffer()}
+ * reads the whole content into the heap.
+ */
+final class StreamBlob implements Blob {
+
+    private final InputStream stream;
+
+    private final long length;
+
+    private final AtomicBoolean opened = new AtomicBoolean();
+
+    /**
+     * Creates the blob.
+     *
+     * @param stream the content
+     * @param length the number of bytes of the stream, or {@code -1} when it is not known
+     */
+    public StreamBlob(InputStream stream, long length) {
+        this.stream = stream;
+        this.length = length;
+    }
+
+    @Override
+    public long length() {
+        return length;
+    }
+
+    @Override
+    public InputStream openStream() {
+        if (!opened.compareAndSet(false, true)) {
+            throw new IllegalStateException("The content of this Blob can be read only once");
+        }
+        return stream;
+    }
+
+    @Override
+    public ByteBuffer toByteBuffer() {
+        try (InputStream content = openStream()) {
+            return ByteBuffer.wrap(content.readAllBytes()).asReadOnlyBuffer();
+        } catch (IOException exception) {
+            throw new UncheckedIOException("The content of the Blob cannot be read", exception);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "Blob{length=" + length + ", opened=" + opened.get() + '}';
+    }
+}
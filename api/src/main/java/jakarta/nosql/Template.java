@@ -16,7 +16,11 @@
 package jakarta.nosql;
 
 import java.time.Duration;
+import java.util.Iterator;
+import java.util.Map;
 import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.stream.Stream;
 
 /**
  * {@code Template} is a helper class that increases productivity when performing common NoSQL operations.
@@ -95,6 +99,7 @@ import java.util.Optional;
  * }</pre>
  *
  * @see QueryMapper
+ * @see AsyncTemplate
  * @since 1.0.0
  */
 public interface Template {
@@ -146,6 +151,41 @@ public interface Template {
      */
     <T> T insert(T entity, Duration ttl);
 
+    /**
+     * Inserts an entity into the database only when there is no entity of this type with the same unique identifier,
+     * and reports whether the entity was written. An existing entity is never modified, and no error is raised.
+     *
+     * <p>The Jakarta NoSQL provider must map this operation to a single conditional put of the database, such as
+     * {@code SETNX} in a key-value database, {@code INSERT ... IF NOT EXISTS} in a wide-column database, or an insert
+     * rejected on a duplicate key in a document database, so that it takes one round trip and, among concurrent
+     * inserts of the same identifier, exactly one succeeds. The provider must not emulate it with a
+     * {@link #find(Class, Object)} followed by an {@link #insert(Object)}.</p>
+     *
+     * @param entity the entity to insert. Must not be {@code null}.
+     * @param <T>    the entity type
+     * @return {@code true} when the entity was written, {@code false} when an entity with the same unique identifier
+     * already exists
+     * @throws NullPointerException          if the entity is null.
+     * @throws UnsupportedOperationException when the database has no conditional put
+     */
+    <T> boolean insertIfAbsent(T entity);
+
+    /**
+     * Inserts an entity with an expiration into the database only when there is no entity of this type with the same
+     * unique identifier, and reports whether the entity was written. The rules of {@link #insertIfAbsent(Object)}
+     * apply, and the expiration follows the rules of {@link #insert(Object, Duration)}. An entity that has expired
+     * is absent.
+     *
+     * @param entity the entity to insert. Must not be {@code null}.
+     * @param ttl    time to live
+     * @param <T>    the entity type
+     * @return {@code true} when the entity was written, {@code false} when an entity with the same unique identifier
+     * already exists
+     * @throws NullPointerException          if either the entity or ttl is null.
+     * @throws UnsupportedOperationException when the database has no conditional put or does not provide TTL
+     */
+    <T> boolean insertIfAbsent(T entity, Duration ttl);
+
     /**
      * Inserts multiple entities into the database. If any entity of this type with the same
      * unique identifier as any of the given entities already exists in the database and the database
@@ -199,6 +239,88 @@ public interface Template {
      */
     <T> Iterable<T> insert(Iterable<T> entities, Duration ttl);
 
+    /**
+     * Inserts multiple entities into the database, grouping them into batches as defined by the given
+     * {@link BatchOptions}. The rules of {@link #insert(Iterable)} apply: the position of entities within the
+     * {@code Iterable} return value must correspond to the position of entities in the parameter, whatever the
+     * {@link BatchOptions#ordered()} and {@link BatchOptions#parallelism()} values are.
+     *
+     * <p>The entities are read from the parameter lazily, so the provider never buffers more than the batches in
+     * flight before writing them.</p>
+     *
+     * @param entities entities to insert.
+     * @param options  how the entities are grouped and sent to the database
+     * @param <T>      the entity type
+     * @return an iterable containing the inserted entities, which may or may not be different instances depending
+     * on whether the insert caused values to be generated or automatically incremented.
+     * @throws NullPointerException if the iterable, any element or the options is null.
+     */
+    <T> Iterable<T> insert(Iterable<T> entities, BatchOptions options);
+
+    /**
+     * Inserts all the entities of a {@link Stream} into the database, returning only a summary of the ingestion.
+     * This method is equivalent to {@code ingest(entities, BatchOptions.DEFAULT)}.
+     *
+     * @param entities the entities to insert
+     * @param <T>      the entity type
+     * @return the summary of the ingestion
+     * @throws NullPointerException if the stream is null or any element is null.
+     * @see #ingest(Stream, BatchOptions)
+     */
+    <T> IngestSummary ingest(Stream<T> entities);
+
+    /**
+     * Inserts all the entities of a {@link Stream} into the database, grouping them into batches as defined by the
+     * given {@link BatchOptions}, and returns only a summary of the ingestion.
+     *
+     * <p>Unlike {@link #insert(Iterable, BatchOptions)}, this method does not return the inserted entities, so neither
+     * the caller nor the provider needs to keep them once they are written. The provider consumes the stream lazily:
+     * it only reads the next entities when a batch is sent, so it never holds more than the batches in flight, as
+     * defined by {@link BatchOptions}. That keeps the memory bounded for loads of any size.</p>
+     *
+     * <p>Entities that the database rejects are counted in {@link IngestSummary#failed()} and do not stop the
+     * ingestion. Failures that prevent the ingestion from continuing, such as a lost connection, raise a
+     * {@link NoSQLException}. The stream is consumed but not closed.</p>
+     *
+     * <pre>{@code
+     * try (Stream<Book> books = reader.lines().map(Book::parse)) {
+     *     IngestSummary summary = template.ingest(books, BatchOptions.of(1_000));
+     * }
+     * }</pre>
+     *
+     * @param entities the entities to insert
+     * @param options  how the entities are grouped and sent to the database
+     * @param <T>      the entity type
+     * @return the summary of the ingestion
+     * @throws NullPointerException if the stream, any element or the options is null.
+     */
+    <T> IngestSummary ingest(Stream<T> entities, BatchOptions options);
+
+    /**
+     * Inserts all the entities of an {@link Iterator} into the database, returning only a summary of the ingestion.
+     * This method is equivalent to {@code ingest(entities, BatchOptions.DEFAULT)}.
+     *
+     * @param entities the entities to insert
+     * @param <T>      the entity type
+     * @return the summary of the ingestion
+     * @throws NullPointerException if the iterator is null or any element is null.
+     * @see #ingest(Iterator, BatchOptions)
+     */
+    <T> IngestSummary ingest(Iterator<T> entities);
+
+    /**
+     * Inserts all the entities of an {@link Iterator} into the database, grouping them into batches as defined by the
+     * given {@link BatchOptions}, and returns only a summary of the ingestion. It follows the same rules as
+     * {@link #ingest(Stream, BatchOptions)}: the iterator is consumed lazily, one batch at a time.
+     *
+     * @param entities the entities to insert
+     * @param options  how the entities are grouped and sent to the database
+     * @param <T>      the entity type
+     * @return the summary of the ingestion
+     * @throws NullPointerException if the iterator, any element or the options is null.
+     */
+    <T> IngestSummary ingest(Iterator<T> entities, BatchOptions options);
+
     /**
      * Modifies an entity that already exists in the database.
      *
@@ -211,7 +333,12 @@ public interface Template {
      * then the version must also match. The version is automatically incremented when making
      * the update.</p>
      *
-     * <p>Non-matching entities are ignored and do not cause an error to be raised.</p>
+     * <p>Non-matching entities are ignored and do not cause an error to be raised. Use {@link #upsert(Object)} to
+     * write an entity whether or not it exists, with the same outcome in every database.</p>
+     *
+     * <p>A {@link FetchType#LAZY lazy} attribute that is not {@linkplain #isLoaded(Object, String) loaded} is not
+     * written, so the value in the database is kept. Assigning a value to the attribute marks it loaded, so the
+     * assigned value is written.</p>
      *
      * @param <T>    the entity type
      * @param entity the entity to update. Must not be {@code null}.
@@ -242,6 +369,126 @@ public interface Template {
      */
     <T> Iterable<T> update(Iterable<T> entities);
 
+    /**
+     * Modifies entities that already exist in the database, grouping them into batches as defined by the given
+     * {@link BatchOptions}. The rules of {@link #update(Iterable)} apply, and the position of entities within the
+     * {@code Iterable} return value must correspond to the position of entities in the parameter, whatever the
+     * {@link BatchOptions#ordered()} and {@link BatchOptions#parallelism()} values are.
+     *
+     * <p>The entities are read from the parameter lazily, so the provider never buffers more than the batches in
+     * flight before writing them.</p>
+     *
+     * @param entities entities to update.
+     * @param options  how the entities are grouped and sent to the database
+     * @param <T>      the entity class type
+     * @return the updated entities
+     * @throws NullPointerException if the iterable, any element or the options is null.
+     */
+    <T> Iterable<T> update(Iterable<T> entities, BatchOptions options);
+
+    /**
+     * Writes an entity whether or not an entity of this type with the same unique identifier exists in the database.
+     * A missing entity is inserted; an existing entity is replaced by the given one, so its columns take the values of
+     * the given entity, including {@code null} values.
+     *
+     * <p>Unlike {@link #insert(Object)} and {@link #update(Object)}, whose behavior with an existing or a missing
+     * entity depends on the database, the outcome of this method is the same in every database. The Jakarta NoSQL
+     * provider must map it to a single native write, such as {@code SET} in a key-value database, {@code INSERT} in a
+     * wide-column database, or a replacement with the upsert option in a document database, and must not read the
+     * entity first. No error is raised for either an existing or a missing entity, and the version of a versioned
+     * entity is not compared.</p>
+     *
+     * <p>A {@link FetchType#LAZY lazy} attribute that is not {@linkplain #isLoaded(Object, String) loaded} is not
+     * written, so the value in the database, if any, is kept. Assigning a value to the attribute marks it loaded, so
+     * the assigned value is written.</p>
+     *
+     * @param entity the entity to write. Must not be {@code null}.
+     * @param <T>    the entity type
+     * @return the written entity, which may or may not be a different instance depending on whether the write caused
+     * values to be generated or automatically incremented.
+     * @throws NullPointerException if the entity is null.
+     */
+    <T> T upsert(T entity);
+
+    /**
+     * Writes entities whether or not entities with the same unique identifiers exist in the database, following the
+     * rules of {@link #upsert(Object)} for each entity. The position of entities within the {@code Iterable} return
+     * value must correspond to the position of entities in the parameter.
+     *
+     * @param entities entities to write.
+     * @param <T>      the entity class type
+     * @return the written entities
+     * @throws NullPointerException if either the iterable is null or any element is null.
+     */
+    <T> Iterable<T> upsert(Iterable<T> entities);
+
+    /**
+     * Start a {@link WriteBatch} that collects insert, update, upsert and delete operations across entity types and
+     * sends them to the database as a single native batch, in one round trip. The returned value is a mutable and
+     * non-thread-safe instance.
+     *
+     * <pre>{@code
+     * template.batch()
+     *         .insert(order)
+     *         .update(customer)
+     *         .delete(Cart.class, cartId)
+     *         .execute();
+     * }</pre>
+     *
+     * @return a new, empty {@link WriteBatch}
+     */
+    WriteBatch batch();
+
+    /**
+     * Atomically adds a delta to a numeric column of the entity with the given id and returns the new value.
+     *
+     * <p>The Jakarta NoSQL provider must map this operation to a single atomic operation of the database, such as
+     * {@code INCRBY} in a key-value database, {@code $inc} in a document database, or a counter column or
+     * lightweight transaction in a wide-column database. Concurrent increments of the same column are never lost,
+     * and the provider must not emulate the operation with a {@link #find(Class, Object)} followed by an
+     * {@link #update(Object)}.</p>
+     *
+     * <p>The attribute, or the database column of its {@link AttributeConverter}, must be an integral type:
+     * {@code byte}, {@code short}, {@code int}, {@code long} or their wrappers. A {@code null} column is
+     * incremented from zero.</p>
+     *
+     * @param type   the entity class
+     * @param id     the id value
+     * @param column the column name
+     * @param delta  the value to add, which is negative to decrement the column
+     * @param <T>    the entity class type
+     * @param <K>    the id type
+     * @return the value of the column after the increment, or {@link OptionalLong#empty()} when there is no entity
+     * with the id
+     * @throws NullPointerException          when the type, the id or the column is null
+     * @throws IllegalArgumentException      when the column is not mapped by the entity, is its id, or is not of an
+     *                                       integral type
+     * @throws UnsupportedOperationException when the database has no atomic increment
+     */
+    <T, K> OptionalLong increment(Class<T> type, K id, String column, long delta);
+
+    /**
+     * Start a conditional update of the entity using the fluent API: the entity is written only when the entity
+     * stored with the same id matches the guard defined through {@link QueryMapper.MapperUpdateIf#where(String)}.
+     * The returned value is a mutable and non-thread-safe instance.
+     *
+     * <p>It is the atomic compare-and-set counterpart of {@link #update(Object)}: the guard and the write are a
+     * single operation of the database, so concurrent writers need no external lock.</p>
+     *
+     * <pre>{@code
+     * boolean updated = template.updateIf(account)
+     *         .where("version").eq(3)
+     *         .execute();
+     * }</pre>
+     *
+     * @param entity the entity to update
+     * @param <T>    the entity type
+     * @return a {@link QueryMapper.MapperUpdateIf} instance
+     * @throws NullPointerException          when the entity is null
+     * @throws UnsupportedOperationException when the database has no atomic conditional write
+     */
+    <T> QueryMapper.MapperUpdateIf updateIf(T entity);
+
     /**
      * Retrieves an entity by its Id.
      *
@@ -254,6 +501,69 @@ public interface Template {
      */
     <T, K> Optional<T> find(Class<T> type, K id);
 
+    /**
+     * Retrieves multiple entities by their Ids in as few round trips to the database as possible.
+     *
+     * <p>The Jakarta NoSQL provider should map this operation to the native multi-get of the database, such as
+     * {@code MGET} in a key-value database, a batch get in a wide-column database or an {@code $in} query in a
+     * document database. When the database limits how many keys a single request can hold, the provider must split
+     * the Ids into chunks; the caller may pass any number of Ids.</p>
+     *
+     * <p>The returned {@link Map} is keyed by Id and iterates in the order in which each Id first appears in the
+     * parameter. Ids without a matching entity are not present in the map, and duplicated Ids are retrieved once.</p>
+     *
+     * <pre>{@code
+     * Map<Long, Book> books = template.findAll(Book.class, List.of(1L, 2L, 3L));
+     * }</pre>
+     *
+     * @param type the entity class
+     * @param ids  the id values
+     * @param <T>  the entity class type
+     * @param <K>  the id type
+     * @return the entities found, keyed by Id in the order of the parameter; an empty map when none is found
+     * @throws NullPointerException when either the type or ids are null, or when any id is null
+     */
+    <T, K> Map<K, T> findAll(Class<T> type, Iterable<K> ids);
+
+    /**
+     * Reads the given {@link FetchType#LAZY lazy} attributes of an entity from the database and writes them into the
+     * entity, or all its lazy attributes that are not loaded yet when no attribute is given.
+     *
+     * <p>The attributes are read in a single request to the database. Attributes that are already loaded, and
+     * attributes that are not lazy, are not read again. When the entity no longer exists in the database, the lazy
+     * attributes are set to {@code null}, or to the default value of their primitive type.</p>
+     *
+     * <pre>{@code
+     * Article article = template.find(Article.class, id).orElseThrow();
+     * template.fetch(article, "html");
+     * }</pre>
+     *
+     * @param entity     the entity returned by this template
+     * @param attributes the names of the fields or of the columns to read
+     * @param <T>        the entity type
+     * @return the same entity instance
+     * @throws NullPointerException     when the entity, the attributes or any attribute is null
+     * @throws IllegalArgumentException when an attribute is not mapped by the entity
+     */
+    <T> T fetch(T entity, String... attributes);
+
+    /**
+     * Returns whether an attribute of an entity holds the value read from the database or assigned by the
+     * application. Only a {@link FetchType#LAZY lazy} attribute that was neither fetched, accessed nor assigned can be
+     * not loaded: the attributes of an entity created by the application are always loaded.
+     *
+     * <p>A provider that does not enhance the entity class cannot intercept the assignment. It must then keep, for
+     * each entity it returns, the lazy attributes it left unloaded, and consider such an attribute loaded once its
+     * value is no longer {@code null}, or the default value of its primitive type.</p>
+     *
+     * @param entity    the entity
+     * @param attribute the name of the field or of the column
+     * @return {@code true} if the attribute is loaded
+     * @throws NullPointerException     when the entity or the attribute is null
+     * @throws IllegalArgumentException when the attribute is not mapped by the entity
+     */
+    boolean isLoaded(Object entity, String attribute);
+
     /**
      * Deletes by ID or key.
      *
@@ -265,6 +575,29 @@ public interface Template {
      */
     <T, K> void delete(Class<T> type, K id);
 
+    /**
+     * Deletes multiple entities by their Ids in as few round trips to the database as possible and returns the number
+     * of deleted entities.
+     *
+     * <p>The Jakarta NoSQL provider should map this operation to the native multi-delete of the database, such as
+     * {@code DEL} with several keys in a key-value database, a batch of deletes in a wide-column database or an
+     * {@code $in} delete in a document database. When the database limits how many keys a single request can hold,
+     * the provider must split the Ids into chunks; the caller may pass any number of Ids. Ids without a matching entity
+     * are ignored, and duplicated Ids are deleted once.</p>
+     *
+     * <pre>{@code
+     * long deleted = template.deleteAll(Book.class, List.of(1L, 2L, 3L));
+     * }</pre>
+     *
+     * @param type the entity class
+     * @param ids  the id values
+     * @param <T>  the entity class type
+     * @param <K>  the id type
+     * @return the number of deleted entities, or {@code 0} when no entity matches the Ids
+     * @throws NullPointerException when either the type or ids are null, or when any id is null
+     */
+    <T, K> long deleteAll(Class<T> type, Iterable<K> ids);
+
     /**
      * Start a query using the fluent API. The return value is a mutable and non-thread-safe instance.
      *
@@ -288,4 +621,25 @@ public interface Template {
      *                                       such as key-value where most operations are key-based.
      */
     <T> QueryMapper.MapperDeleteFrom delete(Class<T> type);
+
+    /**
+     * Start a partial update builder using the fluent API. The returned value is a mutable and non-thread-safe
+     * instance. Unlike {@link #update(Object)}, only the columns assigned through
+     * {@link QueryMapper.MapperUpdateFrom#set(String, Object)} are written, and the entities are not read first.
+     *
+     * <pre>{@code
+     * long updated = template.update(Person.class)
+     *         .set("name", "Ada")
+     *         .where("id").eq(id)
+     *         .execute();
+     * }</pre>
+     *
+     * @param type the entity class
+     * @param <T>  the entity type
+     * @return a {@link QueryMapper.MapperUpdateFrom} instance
+     * @throws NullPointerException          when type is null
+     * @throws UnsupportedOperationException when the database cannot operate,
+     *                                       such as key-value where most operations are key-based.
+     */
+    <T> QueryMapper.MapperUpdateFrom update(Class<T> type);
 }
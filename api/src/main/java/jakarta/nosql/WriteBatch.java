@@ -0,0 +1,256 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.nosql;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * A unit of work that collects insert, update, upsert and delete operations across entity types and sends them to the
+ * database together, created through {@link Template#batch()}.
+ *
+ * <p>Each call to a {@link Template} write operation pays its own round trip. A batch is sent as a single native
+ * batch, such as a pipeline in a key-value database, a {@code BATCH} statement in a wide-column database, or a bulk
+ * write in a document database, so that several writes cost one round trip. The operations are applied in the order
+ * they were added. An empty batch does not reach the database.</p>
+ *
+ * <p>By default, a batch is not atomic: a failing operation does not stop the others, and {@link #execute()} reports
+ * the outcome of each operation in the {@link Result}. After {@link #atomic()}, either every operation is applied or
+ * none is: a failing operation fails the whole batch, and {@link #execute()} raises a {@link NoSQLException} whose
+ * cause is the failure of that operation.</p>
+ *
+ * <p>A failure to map an entity, such as an exception raised by its {@link AttributeConverter}, is a failure of that
+ * operation, reported or raised in the same way as a failure of the database.</p>
+ *
+ * <p>A batch is mutable, not thread-safe, and executed at most once.</p>
+ *
+ * <pre>{@code
+ * WriteBatch.Result result = template.batch()
+ *         .insert(order)
+ *         .update(customer)
+ *         .delete(Cart.class, cartId)
+ *         .atomic()
+ *         .execute();
+ * }</pre>
+ *
+ * @see Template#batch()
+ * @since 1.0.0
+ */
+public interface WriteBatch {
+
+    /**
+     * Adds an insert of the entity, following the rules of {@link Template#insert(Object)}.
+     *
+     * @param entity the entity to insert
+     * @param <T>    the entity type
+     * @return this batch
+     * @throws NullPointerException  when the entity is null
+     * @throws IllegalStateException when the batch was already executed
+     */
+    <T> WriteBatch insert(T entity);
+
+    /**
+     * Adds an insert of the entity with an expiration, following the rules of {@link Template#insert(Object, Duration)}.
+     *
+     * @param entity the entity to insert
+     * @param ttl    time to live
+     * @param <T>    the entity type
+     * @return this batch
+     * @throws NullPointerException          when either the entity or ttl is null
+     * @throws IllegalStateException         when the batch was already executed
+     * @throws UnsupportedOperationException when the database does not provide TTL
+     */
+    <T> WriteBatch insert(T entity, Duration ttl);
+
+    /**
+     * Adds an update of the entity, following the rules of {@link Template#update(Object)}. An entity that does not
+     * exist is ignored and is not a failure.
+     *
+     * @param entity the entity to update
+     * @param <T>    the entity type
+     * @return this batch
+     * @throws NullPointerException  when the entity is null
+     * @throws IllegalStateException when the batch was already executed
+     */
+    <T> WriteBatch update(T entity);
+
+    /**
+     * Adds an upsert of the entity, following the rules of {@link Template#upsert(Object)}.
+     *
+     * @param entity the entity to write
+     * @param <T>    the entity type
+     * @return this batch
+     * @throws NullPointerException  when the entity is null
+     * @throws IllegalStateException when the batch was already executed
+     */
+    <T> WriteBatch upsert(T entity);
+
+    /**
+     * Adds a delete by id, following the rules of {@link Template#delete(Class, Object)}.
+     *
+     * @param type the entity class
+     * @param id   the id value
+     * @param <T>  the entity class type
+     * @param <K>  the id type
+     * @return this batch
+     * @throws NullPointerException  when either the type or id is null
+     * @throws IllegalStateException when the batch was already executed
+     */
+    <T, K> WriteBatch delete(Class<T> type, K id);
+
+    /**
+     * Requires the batch to be applied atomically: either every operation is applied or none is.
+     *
+     * <p>The Jakarta NoSQL provider must map an atomic batch to an atomic operation of the database, such as a
+     * {@code MULTI}/{@code EXEC} transaction in a key-value database, a logged batch in a wide-column database, or a
+     * transaction in a document database.</p>
+     *
+     * @return this batch
+     * @throws IllegalStateException         when the batch was already executed
+     * @throws UnsupportedOperationException when the database cannot apply the operations atomically
+     */
+    WriteBatch atomic();
+
+    /**
+     * Returns the number of operations added to the batch.
+     *
+     * @return the number of operations
+     */
+    int size();
+
+    /**
+     * Sends the operations to the database and returns the outcome of each one.
+     *
+     * <p>For a batch that is not atomic, every operation is attempted, and a failing operation is reported through
+     * {@link Outcome#failure()} instead of being raised. A {@link NoSQLException} is raised only when the batch cannot
+     * reach the database, in which case the outcome of each operation is unknown.</p>
+     *
+     * <p>For an {@link #atomic()} batch, a failing operation fails the whole batch: no operation is applied, and a
+     * {@link NoSQLException} is raised with the failure of that operation as its cause. A result returned by an atomic
+     * batch therefore has no failures.</p>
+     *
+     * @return the outcome of each operation, in the order they were added
+     * @throws NoSQLException        when an atomic batch fails or when the batch cannot reach the database
+     * @throws IllegalStateException when the batch was already executed
+     */
+    Result execute();
+
+    /**
+     * Sends the operations to the database asynchronously, following the rules of {@link #execute()}. A failure that
+     * {@link #execute()} would raise completes the returned stage exceptionally with a {@link NoSQLException} as the
+     * cause.
+     *
+     * @return a {@link CompletionStage} that completes with the outcome of each operation
+     * @throws IllegalStateException when the batch was already executed
+     * @see AsyncTemplate
+     */
+    CompletionStage<Result> executeAsync();
+
+    /**
+     * The kind of operation of a batch.
+     */
+    enum Operation {
+        /**
+         * An insert, added through {@link WriteBatch#insert(Object)} or {@link WriteBatch#insert(Object, Duration)}.
+         */
+        INSERT,
+        /**
+         * An update, added through {@link WriteBatch#update(Object)}.
+         */
+        UPDATE,
+        /**
+         * An upsert, added through {@link WriteBatch#upsert(Object)}.
+         */
+        UPSERT,
+        /**
+         * A delete by id, added through {@link WriteBatch#delete(Class, Object)}.
+         */
+        DELETE
+    }
+
+    /**
+     * The outcome of one operation of a batch.
+     *
+     * @param index     the position of the operation in the batch, starting at zero
+     * @param operation the kind of operation
+     * @param value     the written entity for an insert, update or upsert, which may be a different instance with
+     *                  generated values, or the id for a delete; the given entity or id when the operation failed
+     * @param failure   the failure of the operation, or {@code null} when it succeeded
+     */
+    record Outcome(int index, Operation operation, Object value, NoSQLException failure) {
+
+        /**
+         * Creates the outcome.
+         *
+         * @throws NullPointerException     when either operation or value is null
+         * @throws IllegalArgumentException when index is negative
+         */
+        public Outcome {
+            Objects.requireNonNull(operation, "operation is required");
+            Objects.requireNonNull(value, "value is required");
+            if (index < 0) {
+                throw new IllegalArgumentException("The index must not be negative: " + index);
+            }
+        }
+
+        /**
+         * Returns whether the operation succeeded.
+         *
+         * @return {@code true} when there is no failure
+         */
+        public boolean isSuccessful() {
+            return failure == null;
+        }
+    }
+
+    /**
+     * The result of an executed batch.
+     *
+     * @param atomic   whether the batch was applied atomically
+     * @param outcomes the outcome of each operation, in the order they were added
+     */
+    record Result(boolean atomic, List<Outcome> outcomes) {
+
+        /**
+         * Creates the result.
+         *
+         * @throws NullPointerException when outcomes or any of its elements is null
+         */
+        public Result {
+            outcomes = List.copyOf(outcomes);
+        }
+
+        /**
+         * Returns the outcomes of the operations that failed.
+         *
+         * @return the failed outcomes, in the order they were added
+         */
+        public List<Outcome> failures() {
+            return outcomes.stream().filter(outcome -> !outcome.isSuccessful()).toList();
+        }
+
+        /**
+         * Returns whether every operation succeeded.
+         *
+         * @return {@code true} when there is no failure
+         */
+        public boolean isSuccessful() {
+            return outcomes.stream().allMatch(Outcome::isSuccessful);
+        }
+    }
+}
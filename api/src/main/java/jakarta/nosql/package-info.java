@@ -48,5 +48,8 @@
  * <p>
  * The {@link jakarta.nosql.Template} interface provides methods for interacting with NoSQL databases, allowing operations
  * such as insertion, updating, querying, and deletion of entities.
+ * <p>
+ * The {@link jakarta.nosql.AsyncTemplate} interface provides the same operations as {@link jakarta.nosql.Template}
+ * without blocking, returning a {@link java.util.concurrent.CompletionStage} for each of them.
  */
 package jakarta.nosql;
\ No newline at end of file
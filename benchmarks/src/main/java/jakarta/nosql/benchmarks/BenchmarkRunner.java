@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.nosql.benchmarks;
+
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.NoBenchmarksException;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs the benchmarks and writes the reports used to compare Jakarta NoSQL providers.
+ *
+ * <p>The benchmarks run twice: once in {@link Mode#Throughput} reporting operations per second, and once in
+ * {@link Mode#SampleTime} reporting the latency percentiles (p50, p90, p99, p99.9...) per operation in microseconds.
+ * Both runs enable the {@link GCProfiler}, which adds the allocation rate and the bytes allocated per operation.
+ * Each run writes a JSON report to the working directory.</p>
+ *
+ * <p>The {@link MetadataBenchmark} measures a single cold invocation per JVM, so it is left out of both runs and runs
+ * on its own in {@link Mode#SingleShotTime}, writing {@code startup.json}.</p>
+ *
+ * <pre>{@code
+ * java -jar benchmarks/target/benchmarks.jar
+ * java -jar benchmarks/target/benchmarks.jar QueryMapperBenchmark
+ * }</pre>
+ *
+ * <p>The optional argument is a regular expression that selects the benchmarks to run.
+ * Any other option of JMH is available through {@code java -cp benchmarks/target/benchmarks.jar org.openjdk.jmh.Main}.</p>
+ */
+public final class BenchmarkRunner {
+
+    private static final String ALL = BenchmarkRunner.class.getPackageName() + ".*Benchmark";
+
+    private static final String STARTUP = MetadataBenchmark.class.getSimpleName();
+
+    private BenchmarkRunner() {
+    }
+
+    /**
+     * Runs the benchmarks.
+     *
+     * @param args an optional regular expression that selects the benchmarks to run
+     * @throws RunnerException if JMH fails to run the benchmarks
+     */
+    public static void main(String[] args) throws RunnerException {
+        String include = args.length > 0 ? args[0] : ALL;
+        run(options(include, Mode.Throughput, TimeUnit.SECONDS, "throughput.json").exclude(STARTUP).build());
+        run(options(include, Mode.SampleTime, TimeUnit.MICROSECONDS, "latency.json").exclude(STARTUP).build());
+        run(options(include, Mode.SingleShotTime, TimeUnit.MICROSECONDS, "startup.json")
+                .exclude("^(?!.*" + STARTUP + ").*").build());
+    }
+
+    private static void run(Options options) throws RunnerException {
+        try {
+            new Runner(options).run();
+        } catch (NoBenchmarksException exception) {
+            // the regular expression selects no benchmark of this run
+        }
+    }
+
+    private static ChainedOptionsBuilder options(String include, Mode mode, TimeUnit timeUnit, String report) {
+        return new OptionsBuilder()
+                .include(include)
+                .mode(mode)
+                .timeUnit(timeUnit)
+                .addProfiler(GCProfiler.class)
+                .resultFormat(ResultFormatType.JSON)
+                .result(report);
+    }
+}
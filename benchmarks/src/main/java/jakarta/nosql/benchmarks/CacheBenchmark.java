@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.nosql.benchmarks;
+
+import jakarta.nosql.Template;
+import jakarta.nosql.cache.CachingTemplate;
+import jakarta.nosql.tck.entities.Country;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Compares {@link Template#find(Class, Object)} on the provider with the same lookup through a
+ * {@link CachingTemplate}, for a controlled ratio of cache hits.
+ *
+ * <p>The {@code hitRatio} parameter is the share of lookups that ask for one of the hot countries, which are inserted
+ * and read once before the trial so that all of them are in the cache. The other lookups ask for a country that does
+ * not exist: the cache never stores an absent entity, so every one of them reaches the database. The {@code uncached}
+ * benchmark runs the same sequence of lookups on the provider and is the baseline.</p>
+ *
+ * <p>The {@code uncachedConcurrent} and {@code cachedConcurrent} benchmarks run the same lookups from eight threads at
+ * once, to show whether the cache scales with the readers of a shared, hot set of entities.</p>
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class CacheBenchmark {
+
+    @Benchmark
+    public Optional<Country> uncached(TemplateState state, Countries countries) {
+        return state.template().find(Country.class, countries.next());
+    }
+
+    @Benchmark
+    public Optional<Country> cached(Countries countries) {
+        return countries.cache.find(Country.class, countries.next());
+    }
+
+    @Benchmark
+    @Threads(8)
+    public Optional<Country> uncachedConcurrent(TemplateState state, Countries countries) {
+        return state.template().find(Country.class, countries.next());
+    }
+
+    @Benchmark
+    @Threads(8)
+    public Optional<Country> cachedConcurrent(Countries countries) {
+        return countries.cache.find(Country.class, countries.next());
+    }
+
+    /**
+     * The hot countries, stored in the database and in the cache during the whole trial.
+     */
+    @State(Scope.Benchmark)
+    public static class Countries {
+
+        private static final int HOT = 64;
+
+        @Param({"0", "0.5", "0.9", "0.99"})
+        private double hitRatio;
+
+        private final List<String> codes = new ArrayList<>(HOT);
+
+        private CachingTemplate cache;
+
+        /**
+         * Inserts the hot countries and loads them into the cache.
+         *
+         * @param state the shared template state
+         */
+        @Setup(Level.Trial)
+        public void setUp(TemplateState state) {
+            this.cache = CachingTemplate.of(state.template());
+            List<Country> countries = IntStream.range(0, HOT).mapToObj(Countries::country).toList();
+            countries.forEach(country -> codes.add(country.getCode()));
+            state.template().insert(countries);
+            codes.forEach(code -> cache.find(Country.class, code));
+        }
+
+        /**
+         * Removes the hot countries.
+         *
+         * @param state the shared template state
+         */
+        @TearDown(Level.Trial)
+        public void tearDown(TemplateState state) {
+            codes.forEach(code -> state.template().delete(Country.class, code));
+            codes.clear();
+        }
+
+        /**
+         * Picks the code of the next lookup: a hot country with the probability of {@code hitRatio}, otherwise a
+         * country that does not exist.
+         *
+         * @return the code of the country to find
+         */
+        public String next() {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            if (random.nextDouble() < hitRatio) {
+                return codes.get(random.nextInt(HOT));
+            }
+            return "absent-" + random.nextInt(HOT);
+        }
+
+        private static Country country(int index) {
+            Country country = new Country();
+            country.setCode("hot-" + index);
+            country.setName("Country " + index);
+            country.setPopulation(1_000L * index);
+            return country;
+        }
+    }
+}
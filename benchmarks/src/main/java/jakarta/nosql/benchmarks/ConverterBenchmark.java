@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.nosql.benchmarks;
+
+import jakarta.nosql.AttributeConverter;
+import jakarta.nosql.LongAttributeConverter;
+import jakarta.nosql.tck.entities.EpochMillisConverter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Instant;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the allocation of a converter called through the generic {@link AttributeConverter} methods, which box every
+ * column value into a {@link Long}, with the same converter called through the {@link LongAttributeConverter}
+ * primitive methods, as a provider does when it reads or writes a column of many rows.
+ *
+ * <p>Both sides write their column values into an array, so that the JIT cannot remove the boxing through escape
+ * analysis. Run it with the GC profiler, as the {@link BenchmarkRunner} does, and compare {@code gc.alloc.rate.norm}:
+ * the {@code write} benchmarks allocate nothing on the primitive side, and the {@code read} benchmarks allocate only the
+ * {@link Instant} instances.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+@State(Scope.Thread)
+public class ConverterBenchmark {
+
+    private static final long EPOCH = 1_700_000_000_000L;
+
+    @Param({"1000"})
+    private int rows;
+
+    private final LongAttributeConverter<Instant> converter = new EpochMillisConverter();
+
+    private final AttributeConverter<Instant, Long> generic = converter;
+
+    private Instant[] attributes;
+
+    private long[] primitiveColumns;
+
+    private Long[] boxedColumns;
+
+    /**
+     * Creates the rows.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        attributes = new Instant[rows];
+        primitiveColumns = new long[rows];
+        boxedColumns = new Long[rows];
+        for (int index = 0; index < rows; index++) {
+            long millis = EPOCH + random.nextLong(1_000_000_000L);
+            attributes[index] = Instant.ofEpochMilli(millis);
+            primitiveColumns[index] = millis;
+            boxedColumns[index] = millis;
+        }
+    }
+
+    @Benchmark
+    public Long[] genericWrite() {
+        Long[] columns = boxedColumns;
+        for (int index = 0; index < rows; index++) {
+            columns[index] = generic.convertToDatabaseColumn(attributes[index]);
+        }
+        return columns;
+    }
+
+    @Benchmark
+    public long[] primitiveWrite() {
+        long[] columns = primitiveColumns;
+        for (int index = 0; index < rows; index++) {
+            columns[index] = converter.convertToLongColumn(attributes[index]);
+        }
+        return columns;
+    }
+
+    @Benchmark
+    public Instant[] genericRead() {
+        Instant[] values = attributes;
+        for (int index = 0; index < rows; index++) {
+            values[index] = generic.convertToEntityAttribute(primitiveColumns[index]);
+        }
+        return values;
+    }
+
+    @Benchmark
+    public Instant[] primitiveRead() {
+        Instant[] values = attributes;
+        for (int index = 0; index < rows; index++) {
+            values[index] = converter.convertFromLongColumn(primitiveColumns[index]);
+        }
+        return values;
+    }
+}
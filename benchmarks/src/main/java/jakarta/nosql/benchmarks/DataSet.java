@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.nosql.benchmarks;
+
+import jakarta.nosql.Template;
+import jakarta.nosql.tck.entities.Person;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * The persons that exist in the database during the whole trial of the read, update and query benchmarks.
+ * The {@code volume} parameter defines how many persons are inserted before the trial; they are removed after it.
+ */
+@State(Scope.Benchmark)
+public class DataSet {
+
+    @Param({"1000", "10000"})
+    private int volume;
+
+    private List<Person> persons;
+
+    /**
+     * Inserts the data set.
+     *
+     * @param state the shared template state
+     */
+    @Setup(Level.Trial)
+    public void setUp(TemplateState state) {
+        this.persons = state.persons().list(volume);
+        state.template().insert(persons);
+    }
+
+    /**
+     * Removes the data set.
+     *
+     * @param state the shared template state
+     */
+    @TearDown(Level.Trial)
+    public void tearDown(TemplateState state) {
+        Template template = state.template();
+        persons.forEach(person -> template.delete(Person.class, person.getId()));
+    }
+
+    /**
+     * Picks a random person from the data set.
+     *
+     * @return a person that exists in the database
+     */
+    public Person random() {
+        return persons.get(ThreadLocalRandom.current().nextInt(persons.size()));
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.nosql.benchmarks;
+
+import jakarta.nosql.AttributeMetadata;
+import jakarta.nosql.EntityMetadata;
+import jakarta.nosql.EntityMetadataLookup;
+import jakarta.nosql.tck.entities.Person;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the cold start of the mapping of an entity through reflection with the {@link EntityMetadata} generated by
+ * the Jakarta NoSQL annotation processor.
+ *
+ * <p>Each benchmark runs a single time in a fresh JVM, so the results are the cost that a provider pays once per entity
+ * class when it starts: the {@code startup} benchmarks only load the mapping, and the {@code firstOperation} benchmarks
+ * load it and then create an entity, write and read every attribute, as the first {@code find} of the entity does.
+ * The {@link BenchmarkRunner} runs these benchmarks in their own pass, since throughput and sampled latency do not
+ * apply to a single invocation.</p>
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(20)
+public class MetadataBenchmark {
+
+    private static final Object[] VALUES = {10L, "Ada Lovelace", 36};
+
+    @Benchmark
+    public ReflectiveMapping<Person> reflectionStartup() {
+        return ReflectiveMapping.of(Person.class);
+    }
+
+    @Benchmark
+    public EntityMetadata<Person> generatedStartup() {
+        return EntityMetadataLookup.find(Person.class).orElseThrow();
+    }
+
+    @Benchmark
+    public void reflectionFirstOperation(Blackhole blackhole) {
+        ReflectiveMapping<Person> mapping = ReflectiveMapping.of(Person.class);
+        Person person = mapping.newInstance();
+        List<ReflectiveMapping.Attribute> attributes = mapping.attributes();
+        for (int index = 0; index < attributes.size(); index++) {
+            attributes.get(index).set(person, VALUES[index]);
+        }
+        for (ReflectiveMapping.Attribute attribute : attributes) {
+            blackhole.consume(attribute.get(person));
+        }
+    }
+
+    @Benchmark
+    public void generatedFirstOperation(Blackhole blackhole) {
+        EntityMetadata<Person> metadata = EntityMetadataLookup.find(Person.class).orElseThrow();
+        Person person = metadata.newInstance();
+        List<AttributeMetadata<Person>> attributes = metadata.attributes();
+        for (int index = 0; index < attributes.size(); index++) {
+            attributes.get(index).set(person, VALUES[index]);
+        }
+        for (AttributeMetadata<Person> attribute : attributes) {
+            blackhole.consume(attribute.get(person));
+        }
+    }
+}
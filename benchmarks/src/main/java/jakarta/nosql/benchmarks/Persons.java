@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.nosql.benchmarks;
+
+import jakarta.nosql.tck.entities.Person;
+import jakarta.nosql.tck.factories.PersonSupplier;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Generates {@link Person} instances for the benchmarks using the {@link PersonSupplier} from the TCK.
+ *
+ * <p>Generating fake data is far more expensive than building an entity, so a pool of persons is created up front with
+ * the {@link PersonSupplier} and {@link #get()} only copies the name and age of one of them into a new instance. The
+ * {@link PersonSupplier} also picks identifiers from a small range, which makes inserts collide when it runs millions of
+ * times; every generated person receives a unique and increasing identifier instead, so databases with ACID semantics do
+ * not reject the inserts as duplicates.</p>
+ */
+public final class Persons implements Supplier<Person> {
+
+    private static final int POOL_SIZE = 1_024;
+
+    private static final AtomicLong SEQUENCE = new AtomicLong(System.currentTimeMillis() * 1_000L);
+
+    private final Person[] pool = new Person[POOL_SIZE];
+
+    public Persons() {
+        PersonSupplier supplier = new PersonSupplier();
+        for (int index = 0; index < POOL_SIZE; index++) {
+            pool[index] = supplier.get();
+        }
+    }
+
+    @Override
+    public Person get() {
+        long id = SEQUENCE.incrementAndGet();
+        Person sample = pool[(int) (id % POOL_SIZE)];
+        Person person = new Person();
+        person.setId(id);
+        person.setName(sample.getName());
+        person.setAge(sample.getAge());
+        return person;
+    }
+
+    /**
+     * Generates a list with the given number of persons.
+     *
+     * @param size the number of persons
+     * @return a new list with {@code size} persons
+     */
+    public List<Person> list(int size) {
+        List<Person> persons = new ArrayList<>(size);
+        for (int index = 0; index < size; index++) {
+            persons.add(get());
+        }
+        return persons;
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.nosql.benchmarks;
+
+import jakarta.nosql.Parameter;
+import jakarta.nosql.PreparedQuery;
+import jakarta.nosql.QueryMapper;
+import jakarta.nosql.tck.entities.Person;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares a {@link QueryMapper} chain rebuilt on every invocation with the same query compiled once into a
+ * {@link PreparedQuery} and executed by binding its {@link Parameter parameters}.
+ *
+ * <p>The {@code rebuild} benchmarks are the baseline: they pay for the builder steps and for the translation and
+ * validation of the query on each call. The {@code prepared} benchmarks share one prepared query across all the
+ * threads, so the difference between both is the cost that preparing a query saves.</p>
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class PreparedQueryBenchmark {
+
+    private static final long LIMIT = 10;
+
+    @Benchmark
+    public List<Person> rebuildResult(TemplateState state, DataSet dataSet) {
+        Person person = dataSet.random();
+        return state.template().select(Person.class)
+                .where("name").eq(person.getName())
+                .and("age").gte(person.getAge())
+                .orderBy("name").asc()
+                .limit(LIMIT)
+                .result();
+    }
+
+    @Benchmark
+    public List<Person> preparedResult(Queries queries, DataSet dataSet) {
+        Person person = dataSet.random();
+        return queries.result.bind("name", person.getName())
+                .bind("age", person.getAge())
+                .result();
+    }
+
+    @Benchmark
+    public Optional<Person> rebuildSingleResult(TemplateState state, DataSet dataSet) {
+        Person person = dataSet.random();
+        return state.template().select(Person.class)
+                .where("id").eq(person.getId())
+                .and("name").eq(person.getName())
+                .singleResult();
+    }
+
+    @Benchmark
+    public Optional<Person> preparedSingleResult(Queries queries, DataSet dataSet) {
+        Person person = dataSet.random();
+        return queries.singleResult.bind("id", person.getId())
+                .bind("name", person.getName())
+                .singleResult();
+    }
+
+    /**
+     * The prepared queries, compiled once per trial and shared across the benchmark threads.
+     */
+    @State(Scope.Benchmark)
+    public static class Queries {
+
+        private PreparedQuery<Person> result;
+
+        private PreparedQuery<Person> singleResult;
+
+        /**
+         * Prepares the queries.
+         *
+         * @param state the shared template state
+         */
+        @Setup(Level.Trial)
+        public void setUp(TemplateState state) {
+            this.result = state.template().select(Person.class)
+                    .where("name").eq(Parameter.named("name"))
+                    .and("age").gte(Parameter.named("age"))
+                    .orderBy("name").asc()
+                    .limit(LIMIT)
+                    .prepare();
+            this.singleResult = state.template().select(Person.class)
+                    .where("id").eq(Parameter.named("id"))
+                    .and("name").eq(Parameter.named("name"))
+                    .prepare();
+        }
+    }
+}
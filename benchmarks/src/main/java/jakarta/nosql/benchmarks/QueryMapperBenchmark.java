@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.nosql.benchmarks;
+
+import jakarta.nosql.QueryMapper;
+import jakarta.nosql.tck.entities.Person;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Measures complete {@link QueryMapper} chains, from {@link QueryMapper.MapperFrom} through the
+ * {@code where}, {@code and}, {@code orderBy} and {@code limit} steps to each terminal operation:
+ * {@link QueryMapper.MapperQueryBuild#result()}, {@link QueryMapper.MapperQueryBuild#stream()} and
+ * {@link QueryMapper.MapperQueryBuild#singleResult()}.
+ *
+ * <p>Every benchmark builds the whole chain on each invocation, as application code does, so the results include
+ * both the query translation and the execution by the provider.</p>
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class QueryMapperBenchmark {
+
+    @Benchmark
+    public List<Person> result(TemplateState state, DataSet dataSet, Pagination pagination) {
+        Person person = dataSet.random();
+        return state.template().select(Person.class)
+                .where("name").eq(person.getName())
+                .and("age").gte(person.getAge())
+                .orderBy("name").asc()
+                .limit(pagination.limit)
+                .result();
+    }
+
+    @Benchmark
+    public void stream(TemplateState state, DataSet dataSet, Pagination pagination, Blackhole blackhole) {
+        Person person = dataSet.random();
+        try (Stream<Person> people = state.template().select(Person.class)
+                .where("name").eq(person.getName())
+                .and("age").gte(person.getAge())
+                .orderBy("name").asc()
+                .limit(pagination.limit)
+                .stream()) {
+            people.forEach(blackhole::consume);
+        }
+    }
+
+    @Benchmark
+    public Optional<Person> singleResult(TemplateState state, DataSet dataSet) {
+        Person person = dataSet.random();
+        return state.template().select(Person.class)
+                .where("id").eq(person.getId())
+                .and("name").eq(person.getName())
+                .singleResult();
+    }
+
+    /**
+     * The maximum number of results of the {@code result} and {@code stream} benchmarks.
+     */
+    @State(Scope.Benchmark)
+    public static class Pagination {
+
+        @Param({"10", "100"})
+        private long limit;
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.nosql.benchmarks;
+
+import jakarta.nosql.Column;
+import jakarta.nosql.Convert;
+import jakarta.nosql.Entity;
+import jakarta.nosql.Id;
+import jakarta.nosql.MappedSuperclass;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * The mapping of an entity read through reflection, as a provider does when there is no generated
+ * {@link jakarta.nosql.EntityMetadata}. It is the baseline of the {@link MetadataBenchmark}.
+ *
+ * @param constructor the constructor without parameters
+ * @param attributes  the attributes annotated with {@link Id} or {@link Column}, the inherited ones first
+ * @param <T>         the entity type
+ */
+public record ReflectiveMapping<T>(Constructor<T> constructor, List<Attribute> attributes) {
+
+    /**
+     * Reads the mapping of the given entity class.
+     *
+     * @param type the entity class
+     * @param <T>  the entity type
+     * @return the mapping
+     * @throws IllegalStateException when the class has no constructor without parameters
+     */
+    public static <T> ReflectiveMapping<T> of(Class<T> type) {
+        Deque<Class<?>> hierarchy = new ArrayDeque<>();
+        for (Class<?> current = type; current != null && (current == type || current.isAnnotationPresent(Entity.class)
+                || current.isAnnotationPresent(MappedSuperclass.class)); current = current.getSuperclass()) {
+            hierarchy.addFirst(current);
+        }
+        List<Attribute> attributes = new ArrayList<>();
+        for (Class<?> declaring : hierarchy) {
+            for (Field field : declaring.getDeclaredFields()) {
+                Id id = field.getAnnotation(Id.class);
+                Column column = field.getAnnotation(Column.class);
+                if (Modifier.isStatic(field.getModifiers()) || (id == null && column == null)) {
+                    continue;
+                }
+                field.setAccessible(true);
+                String name;
+                if (id != null) {
+                    name = id.value();
+                } else {
+                    name = column.value().isBlank() ? field.getName() : column.value();
+                }
+                Convert convert = field.getAnnotation(Convert.class);
+                attributes.add(new Attribute(field.getName(), name, field, convert == null ? null : convert.value()));
+            }
+        }
+        try {
+            Constructor<T> constructor = type.getDeclaredConstructor();
+            constructor.setAccessible(true);
+            return new ReflectiveMapping<>(constructor, List.copyOf(attributes));
+        } catch (NoSuchMethodException exception) {
+            throw new IllegalStateException("The entity " + type.getName() + " has no constructor without parameters",
+                    exception);
+        }
+    }
+
+    /**
+     * Creates a new instance of the entity.
+     *
+     * @return the new instance
+     * @throws IllegalStateException when the constructor fails
+     */
+    public T newInstance() {
+        try {
+            return constructor.newInstance();
+        } catch (ReflectiveOperationException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+
+    /**
+     * An attribute read through reflection.
+     *
+     * @param name      the name of the field
+     * @param column    the name of the column
+     * @param field     the accessible field
+     * @param converter the converter class, or {@code null} when there is none
+     */
+    public record Attribute(String name, String column, Field field, Class<?> converter) {
+
+        /**
+         * Reads the value of the attribute.
+         *
+         * @param entity the entity instance
+         * @return the value
+         */
+        public Object get(Object entity) {
+            try {
+                return field.get(entity);
+            } catch (IllegalAccessException exception) {
+                throw new IllegalStateException(exception);
+            }
+        }
+
+        /**
+         * Writes the value of the attribute.
+         *
+         * @param entity the entity instance
+         * @param value  the value
+         */
+        public void set(Object entity, Object value) {
+            try {
+                field.set(entity, value);
+            } catch (IllegalAccessException exception) {
+                throw new IllegalStateException(exception);
+            }
+        }
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.nosql.benchmarks;
+
+import jakarta.nosql.Template;
+import jakarta.nosql.tck.entities.Person;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the CRUD operations of {@link Template}: {@link Template#insert(Object)},
+ * {@link Template#insert(Iterable)}, {@link Template#update(Object)}, {@link Template#find(Class, Object)} and
+ * {@link Template#delete(Class, Object)}.
+ *
+ * <p>The entities are generated outside the measured time, so the results only reflect the provider.
+ * The {@link DataSet} volume parameter defines how many persons exist while the read and update benchmarks run,
+ * and the {@link Batch#batchSize} parameter how many persons each {@link Template#insert(Iterable)} call sends.</p>
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class TemplateBenchmark {
+
+    @Benchmark
+    public Person insert(TemplateState state, Target target) {
+        return state.template().insert(target.person);
+    }
+
+    @Benchmark
+    public void insertIterable(TemplateState state, Batch batch, Blackhole blackhole) {
+        state.template().insert(batch.persons).forEach(blackhole::consume);
+    }
+
+    @Benchmark
+    public Person update(TemplateState state, DataSet dataSet, Target target) {
+        target.person.setId(dataSet.random().getId());
+        return state.template().update(target.person);
+    }
+
+    @Benchmark
+    public Optional<Person> find(TemplateState state, DataSet dataSet) {
+        return state.template().find(Person.class, dataSet.random().getId());
+    }
+
+    @Benchmark
+    public void delete(TemplateState state, Inserted inserted) {
+        state.template().delete(Person.class, inserted.id);
+    }
+
+    /**
+     * A new person for each invocation.
+     */
+    @State(Scope.Thread)
+    public static class Target {
+
+        private Person person;
+
+        /**
+         * Generates the person used by the next invocation.
+         *
+         * @param state the shared template state
+         */
+        @Setup(Level.Invocation)
+        public void setUp(TemplateState state) {
+            this.person = state.persons().get();
+        }
+    }
+
+    /**
+     * A new group of persons for each invocation of {@link Template#insert(Iterable)}.
+     */
+    @State(Scope.Thread)
+    public static class Batch {
+
+        @Param({"10", "100", "1000"})
+        private int batchSize;
+
+        private List<Person> persons;
+
+        /**
+         * Generates the persons used by the next invocation.
+         *
+         * @param state the shared template state
+         */
+        @Setup(Level.Invocation)
+        public void setUp(TemplateState state) {
+            this.persons = state.persons().list(batchSize);
+        }
+    }
+
+    /**
+     * A person inserted right before each invocation, so every delete removes an existing entity.
+     */
+    @State(Scope.Thread)
+    public static class Inserted {
+
+        private Long id;
+
+        /**
+         * Inserts the person that the next invocation deletes.
+         *
+         * @param state the shared template state
+         */
+        @Setup(Level.Invocation)
+        public void setUp(TemplateState state) {
+            this.id = state.template().insert(state.persons().get()).getId();
+        }
+    }
+}
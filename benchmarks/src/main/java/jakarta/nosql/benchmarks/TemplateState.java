@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.nosql.benchmarks;
+
+import jakarta.nosql.Template;
+import jakarta.nosql.tck.TemplateSupplier;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Holds the {@link Template} under test, shared by all the benchmark threads.
+ *
+ * <p>The {@link Template} is obtained once per trial through {@link TemplateSupplier#template()}, so the provider is
+ * selected by the {@link java.util.ServiceLoader} exactly like in the TCK. Adding a different provider to the
+ * classpath is all it takes to compare it against another one.</p>
+ */
+@State(Scope.Benchmark)
+public class TemplateState {
+
+    private Template template;
+
+    private Persons persons;
+
+    /**
+     * Loads the {@link Template} from the provider found through the {@link java.util.ServiceLoader}.
+     *
+     * @throws IllegalStateException if no {@link TemplateSupplier} implementation is found
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.template = TemplateSupplier.template().get();
+        this.persons = new Persons();
+    }
+
+    public Template template() {
+        return template;
+    }
+
+    public Persons persons() {
+        return persons;
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.nosql.cache;
+
+import jakarta.nosql.Cacheable;
+
+/**
+ * The statistics of the cache of an entity class in a {@link CachingTemplate}.
+ *
+ * @param hits      the number of reads answered by the cache
+ * @param misses    the number of reads that reached the database, including reads of expired entities
+ * @param evictions the number of entities removed from the cache to keep it within {@link Cacheable#maximumSize()}
+ * @param size      the number of entities in the cache
+ * @see CachingTemplate#statistics(Class)
+ * @since 1.0.0
+ */
+public record CacheStatistics(long hits, long misses, long evictions, long size) {
+
+    /**
+     * Creates the statistics.
+     *
+     * @throws IllegalArgumentException when any value is negative
+     */
+    public CacheStatistics {
+        if (hits < 0L || misses < 0L || evictions < 0L || size < 0L) {
+            throw new IllegalArgumentException("The statistics must not be negative: hits " + hits + ", misses " + misses
+                    + ", evictions " + evictions + ", size " + size);
+        }
+    }
+
+    /**
+     * Returns the number of reads, which is the sum of {@link #hits()} and {@link #misses()}.
+     *
+     * @return the number of reads
+     */
+    public long requests() {
+        return hits + misses;
+    }
+
+    /**
+     * Returns the ratio of reads answered by the cache.
+     *
+     * @return the ratio between {@link #hits()} and {@link #requests()}, or {@code 1.0} when there was no read
+     */
+    public double hitRatio() {
+        long requests = requests();
+        return requests == 0L ? 1.0 : (double) hits / requests;
+    }
+}
@@ -0,0 +1,216 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.nosql.cache;
+
+import jakarta.nosql.Parameter;
+import jakarta.nosql.QueryMapper;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Wraps the steps of a {@link QueryMapper} select chain of a class with a {@link QueryCache}, recording the chain into
+ * a {@link QueryCache.Key} so that {@code result()}, {@code stream()}, {@code singleResult()}, {@code count()} and
+ * {@code exists()} are answered from the cache.
+ *
+ * <p>Each step records into a new handler, so a step shared by several chains keeps its own query. A chain that
+ * selects {@code columns}, maps a {@code project}ion, starts {@code after} a cursor or uses a {@link Parameter} is not
+ * cached: from that step on, the steps of the provider are returned as they are, and so are the other terminal
+ * operations, such as {@code page()} and {@code resultAsync()}.</p>
+ *
+ * <p>On a miss, {@code stream()} reads the stream of the provider rather than its {@code result()}, so that a result
+ * heavier than the cache is never materialized as a whole. It buffers at most {@link QueryCache#maximumWeight()}
+ * entities: a stream that ends within that weight is cached, and a longer one is not, the rest of it being read from
+ * the provider as the returned stream is consumed.</p>
+ */
+final class CachedQuery implements InvocationHandler {
+
+    private static final Set<String> UNCACHEABLE = Set.of("columns", "project", "after");
+
+    private static final Set<String> TERMINALS = Set.of("result", "stream", "singleResult", "count", "exists");
+
+    private static final Set<String> SORTS = Set.of("orderBy", "asc", "desc");
+
+    private static final long NO_LIMIT = -1L;
+
+    private final Object target;
+
+    private final QueryCache cache;
+
+    private final List<Object> conditions;
+
+    private final List<Object> sorts;
+
+    private final long skip;
+
+    private final long limit;
+
+    private CachedQuery(Object target, QueryCache cache, List<Object> conditions, List<Object> sorts, long skip, long limit) {
+        this.target = target;
+        this.cache = cache;
+        this.conditions = conditions;
+        this.sorts = sorts;
+        this.skip = skip;
+        this.limit = limit;
+    }
+
+    /**
+     * Wraps the first step of a select chain.
+     *
+     * @param from  the first step returned by the provider
+     * @param cache the query cache of the selected class
+     * @return the wrapped step
+     */
+    public static QueryMapper.MapperFrom of(QueryMapper.MapperFrom from, QueryCache cache) {
+        if (from == null) {
+            return null;
+        }
+        return new CachedQuery(from, cache, List.of(), List.of(), 0L, NO_LIMIT).proxy(QueryMapper.MapperFrom.class);
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        String name = method.getName();
+        if (method.getDeclaringClass() != Object.class && TERMINALS.contains(name)) {
+            return execute(name);
+        }
+        Object result = call(method, args);
+        Class<?> step = method.getReturnType();
+        boolean chained = result != null && step.isInterface() && step.getEnclosingClass() == QueryMapper.class;
+        if (!chained || UNCACHEABLE.contains(name) || parameterized(args)) {
+            return result;
+        }
+        return next(name, args, result).proxy(step);
+    }
+
+    private Object execute(String name) {
+        boolean stream = "stream".equals(name);
+        QueryCache.Key key = new QueryCache.Key(stream ? "result" : name, conditions, sorts, skip, limit);
+        Optional<Object> cached = cache.get(key);
+        if (cached.isPresent()) {
+            return stream ? ((List<?>) cached.get()).stream() : cached.get();
+        }
+        long stamp = cache.stamp();
+        if (stream) {
+            return stream(key, stamp);
+        }
+        Object value = read(name);
+        cache.put(key, value, stamp);
+        return value;
+    }
+
+    private Stream<?> stream(QueryCache.Key key, long stamp) {
+        Stream<?> source = ((QueryMapper.MapperQueryBuild) target).stream();
+        Iterator<?> entities = source.iterator();
+        List<Object> buffered = new ArrayList<>();
+        while (buffered.size() < cache.maximumWeight() && entities.hasNext()) {
+            buffered.add(entities.next());
+        }
+        if (!entities.hasNext()) {
+            source.close();
+            cache.put(key, buffered, stamp);
+            return buffered.stream();
+        }
+        Stream<?> rest = StreamSupport.stream(Spliterators.spliteratorUnknownSize(entities, Spliterator.ORDERED), false);
+        return Stream.concat(buffered.stream(), rest).onClose(source::close);
+    }
+
+    private Object read(String operation) {
+        QueryMapper.MapperQueryBuild query = (QueryMapper.MapperQueryBuild) target;
+        if ("result".equals(operation)) {
+            return query.result();
+        } else if ("singleResult".equals(operation)) {
+            return query.singleResult();
+        } else if ("count".equals(operation)) {
+            return query.count();
+        }
+        return query.exists();
+    }
+
+    private CachedQuery next(String name, Object[] args, Object step) {
+        if ("skip".equals(name)) {
+            return new CachedQuery(step, cache, conditions, sorts, (Long) args[0], limit);
+        }
+        if ("limit".equals(name)) {
+            return new CachedQuery(step, cache, conditions, sorts, skip, (Long) args[0]);
+        }
+        if (SORTS.contains(name)) {
+            return new CachedQuery(step, cache, conditions, append(sorts, name, args), skip, limit);
+        }
+        return new CachedQuery(step, cache, append(conditions, name, args), sorts, skip, limit);
+    }
+
+    private <Q> Q proxy(Class<Q> step) {
+        return step.cast(Proxy.newProxyInstance(step.getClassLoader(), new Class<?>[]{step}, this));
+    }
+
+    private Object call(Method method, Object... args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException exception) {
+            throw exception.getCause();
+        }
+    }
+
+    private static List<Object> append(List<Object> steps, String name, Object... args) {
+        List<Object> appended = new ArrayList<>(steps);
+        appended.add(name);
+        if (args != null) {
+            for (Object arg : args) {
+                appended.add(arg instanceof Iterable<?> values ? values(values) : arg);
+            }
+        }
+        return Collections.unmodifiableList(appended);
+    }
+
+    private static Set<Object> values(Iterable<?> values) {
+        Set<Object> set = new HashSet<>();
+        values.forEach(set::add);
+        return Collections.unmodifiableSet(set);
+    }
+
+    private static boolean parameterized(Object... args) {
+        if (args == null) {
+            return false;
+        }
+        for (Object arg : args) {
+            if (arg instanceof Parameter) {
+                return true;
+            }
+            if (arg instanceof Iterable<?> values) {
+                for (Object value : values) {
+                    if (value instanceof Parameter) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+}
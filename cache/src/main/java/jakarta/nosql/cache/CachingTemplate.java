@@ -0,0 +1,664 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.nosql.cache;
+
+import jakarta.nosql.BatchOptions;
+import jakarta.nosql.Cacheable;
+import jakarta.nosql.IngestSummary;
+import jakarta.nosql.MappingException;
+import jakarta.nosql.QueryMapper;
+import jakarta.nosql.Template;
+import jakarta.nosql.WriteBatch;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * A {@link Template} decorator that keeps the entities of the {@link Cacheable} classes in a second-level cache, so
+ * that {@link #find(Class, Object)} and {@link #findAll(Class, Iterable)} of a hot working set do not reach the
+ * database.
+ *
+ * <pre>{@code
+ * CachingTemplate cached = CachingTemplate.of(template);
+ *
+ * Optional<Country> country = cached.find(Country.class, "BR");
+ *
+ * List<Country> countries = cached.select(Country.class).where("region").eq("Americas").result();
+ *
+ * CacheStatistics statistics = cached.statistics(Country.class).orElseThrow();
+ * }</pre>
+ *
+ * <p>Each cacheable class has its own cache, bounded by {@link Cacheable#maximumSize()}, whose eviction is
+ * frequency-aware (W-TinyLFU): an entity read once, as in a scan, does not evict the entities read often. An entity
+ * expires {@link Cacheable#ttl()} after it was read from the database, and it is stored
+ * {@linkplain Cacheable#offHeap() outside the heap} when the class requires it. The cache holds copies: every read
+ * returns a new instance, and changing it does not change the cache. Embeddable values, arrays, collections and maps
+ * are copied with their elements, and {@code Date}, {@code BitSet} and {@code ByteBuffer} values are cloned; any other
+ * attribute value is shared between the cache and the entities it returns, so it must be immutable.</p>
+ *
+ * <p>Every write through this template invalidates the entities it writes, after the write: {@code insert},
+ * {@code update}, {@code upsert}, {@code insertIfAbsent}, {@code increment}, {@code updateIf}, {@code delete} and
+ * {@code deleteAll} by id, and the operations of a {@link #batch()}. The writes that are not known by id, such as
+ * {@link #update(Class)}, {@link #delete(Class)}, {@code ingest} and the writes of an {@link Iterable}, invalidate the
+ * whole cache of the classes they write. The writes that do not go through this template, for example, from another
+ * application, are not seen; {@link Cacheable#ttl()} bounds how long a stale entity is returned.</p>
+ *
+ * <p>The results of the {@link #select(Class)} queries of a class that opts in through
+ * {@link Cacheable#maximumQueryWeight()} are cached too, keyed by the normalized query: its conditions, order, skip
+ * and limit. Running the same query again through {@code result()}, {@code stream()}, {@code singleResult()},
+ * {@code count()} or {@code exists()} does not reach the database until any write to the class through this
+ * template removes every cached result of the class. The query values, like the attribute values that are not
+ * copied, must be immutable.</p>
+ *
+ * <p>The other operations are delegated without caching. This class is thread-safe when the decorated template
+ * is.</p>
+ *
+ * @see Cacheable
+ * @see CacheStatistics
+ * @since 1.0.0
+ */
+public final class CachingTemplate implements Template {
+
+    private final Template template;
+
+    private final ConcurrentMap<Class<?>, Optional<EntityCache>> caches = new ConcurrentHashMap<>();
+
+    private final ConcurrentMap<Class<?>, Optional<QueryCache>> queries = new ConcurrentHashMap<>();
+
+    private CachingTemplate(Template template) {
+        this.template = template;
+    }
+
+    /**
+     * Decorates the template with the second-level cache.
+     *
+     * @param template the template that reads and writes the database
+     * @return a caching template
+     * @throws NullPointerException when template is null
+     */
+    public static CachingTemplate of(Template template) {
+        Objects.requireNonNull(template, "template is required");
+        return new CachingTemplate(template);
+    }
+
+    /**
+     * Returns the statistics of the cache of the class.
+     *
+     * @param type the entity class
+     * @return the statistics, or {@link Optional#empty()} when the class is not {@link Cacheable}
+     * @throws NullPointerException when type is null
+     * @throws MappingException     when the class is cacheable but cannot be cached
+     */
+    public Optional<CacheStatistics> statistics(Class<?> type) {
+        Objects.requireNonNull(type, "type is required");
+        return cache(type).map(EntityCache::statistics);
+    }
+
+    /**
+     * Returns the statistics of the query cache of the class, whose size is the number of cached query results.
+     *
+     * @param type the entity class
+     * @return the statistics, or {@link Optional#empty()} when the class does not opt in to the query cache through
+     * {@link Cacheable#maximumQueryWeight()}
+     * @throws NullPointerException when type is null
+     * @throws MappingException     when the class opts in to the query cache but its query results cannot be cached
+     */
+    public Optional<CacheStatistics> queryStatistics(Class<?> type) {
+        Objects.requireNonNull(type, "type is required");
+        return queryCache(type).map(QueryCache::statistics);
+    }
+
+    /**
+     * Removes every entity and query result of the class, its superclasses and its subclasses from the cache, for
+     * example, after the class was written by another application.
+     *
+     * @param type the entity class
+     * @throws NullPointerException when type is null
+     */
+    public void invalidate(Class<?> type) {
+        Objects.requireNonNull(type, "type is required");
+        invalidateType(type);
+    }
+
+    @Override
+    public <T> T insert(T entity) {
+        try {
+            return template.insert(entity);
+        } finally {
+            invalidateEntity(entity);
+        }
+    }
+
+    @Override
+    public <T> T insert(T entity, Duration ttl) {
+        try {
+            return template.insert(entity, ttl);
+        } finally {
+            invalidateEntity(entity);
+        }
+    }
+
+    @Override
+    public <T> boolean insertIfAbsent(T entity) {
+        try {
+            return template.insertIfAbsent(entity);
+        } finally {
+            invalidateEntity(entity);
+        }
+    }
+
+    @Override
+    public <T> boolean insertIfAbsent(T entity, Duration ttl) {
+        try {
+            return template.insertIfAbsent(entity, ttl);
+        } finally {
+            invalidateEntity(entity);
+        }
+    }
+
+    @Override
+    public <T> Iterable<T> insert(Iterable<T> entities) {
+        Set<Class<?>> types = ConcurrentHashMap.newKeySet();
+        try {
+            return template.insert(tracked(entities, types));
+        } finally {
+            types.forEach(this::invalidateType);
+        }
+    }
+
+    @Override
+    public <T> Iterable<T> insert(Iterable<T> entities, Duration ttl) {
+        Set<Class<?>> types = ConcurrentHashMap.newKeySet();
+        try {
+            return template.insert(tracked(entities, types), ttl);
+        } finally {
+            types.forEach(this::invalidateType);
+        }
+    }
+
+    @Override
+    public <T> Iterable<T> insert(Iterable<T> entities, BatchOptions options) {
+        Set<Class<?>> types = ConcurrentHashMap.newKeySet();
+        try {
+            return template.insert(tracked(entities, types), options);
+        } finally {
+            types.forEach(this::invalidateType);
+        }
+    }
+
+    @Override
+    public <T> IngestSummary ingest(Stream<T> entities) {
+        Set<Class<?>> types = ConcurrentHashMap.newKeySet();
+        try {
+            return template.ingest(tracked(entities, types));
+        } finally {
+            types.forEach(this::invalidateType);
+        }
+    }
+
+    @Override
+    public <T> IngestSummary ingest(Stream<T> entities, BatchOptions options) {
+        Set<Class<?>> types = ConcurrentHashMap.newKeySet();
+        try {
+            return template.ingest(tracked(entities, types), options);
+        } finally {
+            types.forEach(this::invalidateType);
+        }
+    }
+
+    @Override
+    public <T> IngestSummary ingest(Iterator<T> entities) {
+        Set<Class<?>> types = ConcurrentHashMap.newKeySet();
+        try {
+            return template.ingest(tracked(entities, types));
+        } finally {
+            types.forEach(this::invalidateType);
+        }
+    }
+
+    @Override
+    public <T> IngestSummary ingest(Iterator<T> entities, BatchOptions options) {
+        Set<Class<?>> types = ConcurrentHashMap.newKeySet();
+        try {
+            return template.ingest(tracked(entities, types), options);
+        } finally {
+            types.forEach(this::invalidateType);
+        }
+    }
+
+    @Override
+    public <T> T update(T entity) {
+        try {
+            return template.update(entity);
+        } finally {
+            invalidateEntity(entity);
+        }
+    }
+
+    @Override
+    public <T> Iterable<T> update(Iterable<T> entities) {
+        Set<Class<?>> types = ConcurrentHashMap.newKeySet();
+        try {
+            return template.update(tracked(entities, types));
+        } finally {
+            types.forEach(this::invalidateType);
+        }
+    }
+
+    @Override
+    public <T> Iterable<T> update(Iterable<T> entities, BatchOptions options) {
+        Set<Class<?>> types = ConcurrentHashMap.newKeySet();
+        try {
+            return template.update(tracked(entities, types), options);
+        } finally {
+            types.forEach(this::invalidateType);
+        }
+    }
+
+    @Override
+    public <T> T upsert(T entity) {
+        try {
+            return template.upsert(entity);
+        } finally {
+            invalidateEntity(entity);
+        }
+    }
+
+    @Override
+    public <T> Iterable<T> upsert(Iterable<T> entities) {
+        Set<Class<?>> types = ConcurrentHashMap.newKeySet();
+        try {
+            return template.upsert(tracked(entities, types));
+        } finally {
+            types.forEach(this::invalidateType);
+        }
+    }
+
+    @Override
+    public WriteBatch batch() {
+        return new InvalidatingBatch(template.batch());
+    }
+
+    @Override
+    public <T, K> OptionalLong increment(Class<T> type, K id, String column, long delta) {
+        try {
+            return template.increment(type, id, column, delta);
+        } finally {
+            invalidateId(type, id);
+        }
+    }
+
+    @Override
+    public <T> QueryMapper.MapperUpdateIf updateIf(T entity) {
+        QueryMapper.MapperUpdateIf update = template.updateIf(entity);
+        return Invalidating.of(QueryMapper.MapperUpdateIf.class, update, () -> invalidateEntity(entity));
+    }
+
+    @Override
+    public <T, K> Optional<T> find(Class<T> type, K id) {
+        Objects.requireNonNull(type, "type is required");
+        Objects.requireNonNull(id, "id is required");
+        Optional<EntityCache> cache = cache(type).filter(entityCache -> entityCache.accepts(id));
+        if (cache.isEmpty()) {
+            return template.find(type, id);
+        }
+        EntityCache entityCache = cache.get();
+        Optional<Object> cached = entityCache.get(id);
+        if (cached.isPresent()) {
+            return cached.map(type::cast);
+        }
+        long stamp = entityCache.stamp();
+        Optional<T> entity = template.find(type, id);
+        entity.ifPresent(value -> entityCache.put(id, value, stamp));
+        return entity;
+    }
+
+    @Override
+    public <T, K> Map<K, T> findAll(Class<T> type, Iterable<K> ids) {
+        Objects.requireNonNull(type, "type is required");
+        Objects.requireNonNull(ids, "ids is required");
+        Optional<EntityCache> cache = cache(type);
+        if (cache.isEmpty()) {
+            return template.findAll(type, ids);
+        }
+        EntityCache entityCache = cache.get();
+        Set<K> keys = new LinkedHashSet<>();
+        ids.forEach(id -> keys.add(Objects.requireNonNull(id, "id is required")));
+        Map<K, T> cached = new LinkedHashMap<>();
+        List<K> missing = new ArrayList<>();
+        for (K id : keys) {
+            Optional<Object> entity = entityCache.accepts(id) ? entityCache.get(id) : Optional.empty();
+            if (entity.isPresent()) {
+                cached.put(id, type.cast(entity.get()));
+            } else {
+                missing.add(id);
+            }
+        }
+        if (missing.isEmpty()) {
+            return cached;
+        }
+        long stamp = entityCache.stamp();
+        Map<K, T> found = template.findAll(type, missing);
+        found.forEach((id, entity) -> entityCache.put(id, entity, stamp));
+        Map<K, T> entities = new LinkedHashMap<>();
+        for (K id : keys) {
+            T entity = cached.containsKey(id) ? cached.get(id) : found.get(id);
+            if (entity != null) {
+                entities.put(id, entity);
+            }
+        }
+        return entities;
+    }
+
+    @Override
+    public <T> T fetch(T entity, String... attributes) {
+        return template.fetch(entity, attributes);
+    }
+
+    @Override
+    public boolean isLoaded(Object entity, String attribute) {
+        return template.isLoaded(entity, attribute);
+    }
+
+    @Override
+    public <T, K> void delete(Class<T> type, K id) {
+        try {
+            template.delete(type, id);
+        } finally {
+            invalidateId(type, id);
+        }
+    }
+
+    @Override
+    public <T, K> long deleteAll(Class<T> type, Iterable<K> ids) {
+        Set<K> deleted = ConcurrentHashMap.newKeySet();
+        try {
+            return template.deleteAll(type, observed(ids, deleted::add));
+        } finally {
+            deleted.forEach(id -> invalidateId(type, id));
+        }
+    }
+
+    @Override
+    public <T> QueryMapper.MapperFrom select(Class<T> type) {
+        QueryMapper.MapperFrom select = template.select(type);
+        Optional<QueryCache> cache = queryCache(type);
+        return cache.isPresent() ? CachedQuery.of(select, cache.get()) : select;
+    }
+
+    @Override
+    public <T> QueryMapper.MapperDeleteFrom delete(Class<T> type) {
+        QueryMapper.MapperDeleteFrom delete = template.delete(type);
+        return Invalidating.of(QueryMapper.MapperDeleteFrom.class, delete, () -> invalidateType(type));
+    }
+
+    @Override
+    public <T> QueryMapper.MapperUpdateFrom update(Class<T> type) {
+        QueryMapper.MapperUpdateFrom update = template.update(type);
+        return Invalidating.of(QueryMapper.MapperUpdateFrom.class, update, () -> invalidateType(type));
+    }
+
+    @Override
+    public String toString() {
+        return "CachingTemplate{" +
+                "template=" + template +
+                '}';
+    }
+
+    private Optional<EntityCache> cache(Class<?> type) {
+        return caches.computeIfAbsent(type, EntityCache::of);
+    }
+
+    private Optional<QueryCache> queryCache(Class<?> type) {
+        return queries.computeIfAbsent(type, QueryCache::of);
+    }
+
+    private void invalidateEntity(Object entity) {
+        if (entity == null) {
+            return;
+        }
+        caches.forEach((type, cache) -> {
+            if (type.isInstance(entity)) {
+                cache.ifPresent(entityCache -> entityCache.invalidateEntity(entity));
+            }
+        });
+        queries.forEach((type, cache) -> {
+            if (type.isInstance(entity)) {
+                cache.ifPresent(QueryCache::invalidateAll);
+            }
+        });
+    }
+
+    private void invalidateId(Class<?> type, Object id) {
+        if (type == null || id == null) {
+            return;
+        }
+        caches.forEach((cached, cache) -> {
+            if (cached.isAssignableFrom(type) || type.isAssignableFrom(cached)) {
+                cache.ifPresent(entityCache -> entityCache.invalidate(id));
+            }
+        });
+        invalidateQueries(type);
+    }
+
+    private void invalidateType(Class<?> type) {
+        if (type == null) {
+            return;
+        }
+        caches.forEach((cached, cache) -> {
+            if (cached.isAssignableFrom(type) || type.isAssignableFrom(cached)) {
+                cache.ifPresent(EntityCache::invalidateAll);
+            }
+        });
+        invalidateQueries(type);
+    }
+
+    private void invalidateQueries(Class<?> type) {
+        queries.forEach((cached, cache) -> {
+            if (cached.isAssignableFrom(type) || type.isAssignableFrom(cached)) {
+                cache.ifPresent(QueryCache::invalidateAll);
+            }
+        });
+    }
+
+    private static <T> Iterable<T> tracked(Iterable<T> entities, Set<Class<?>> types) {
+        return observed(entities, entity -> types.add(entity.getClass()));
+    }
+
+    private static <T> Iterator<T> tracked(Iterator<T> entities, Set<Class<?>> types) {
+        return observed(entities, entity -> types.add(entity.getClass()));
+    }
+
+    private static <T> Iterable<T> observed(Iterable<T> elements, Consumer<? super T> observer) {
+        if (elements == null) {
+            return null;
+        }
+        return () -> observed(elements.iterator(), observer);
+    }
+
+    private static <T> Iterator<T> observed(Iterator<T> elements, Consumer<? super T> observer) {
+        if (elements == null) {
+            return null;
+        }
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return elements.hasNext();
+            }
+
+            @Override
+            public T next() {
+                T element = elements.next();
+                if (element != null) {
+                    observer.accept(element);
+                }
+                return element;
+            }
+        };
+    }
+
+    private static <T> Stream<T> tracked(Stream<T> entities, Set<Class<?>> types) {
+        if (entities == null) {
+            return null;
+        }
+        return entities.peek(entity -> {
+            if (entity != null) {
+                types.add(entity.getClass());
+            }
+        });
+    }
+
+    /**
+     * Wraps the steps of a fluent write, so that the cache is invalidated once the write is executed.
+     */
+    private static final class Invalidating implements InvocationHandler {
+
+        private final Object target;
+
+        private final Runnable invalidation;
+
+        private Invalidating(Object target, Runnable invalidation) {
+            this.target = target;
+            this.invalidation = invalidation;
+        }
+
+        private static <Q> Q of(Class<Q> type, Q target, Runnable invalidation) {
+            if (target == null) {
+                return null;
+            }
+            Object proxy = Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, new Invalidating(target, invalidation));
+            return type.cast(proxy);
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            boolean execute = "execute".equals(method.getName());
+            Object result;
+            try {
+                result = method.invoke(target, args);
+            } catch (InvocationTargetException exception) {
+                if (execute) {
+                    invalidation.run();
+                }
+                throw exception.getCause();
+            }
+            if (execute) {
+                invalidation.run();
+                return result;
+            }
+            if (result instanceof CompletionStage<?> stage) {
+                return stage.whenComplete((value, failure) -> invalidation.run());
+            }
+            Class<?> step = method.getReturnType();
+            if (result != null && step.isInterface() && step.getEnclosingClass() == QueryMapper.class) {
+                return Proxy.newProxyInstance(step.getClassLoader(), new Class<?>[]{step}, new Invalidating(result, invalidation));
+            }
+            return result;
+        }
+    }
+
+    /**
+     * A {@link WriteBatch} that invalidates the entities of its operations once it is executed.
+     */
+    private final class InvalidatingBatch implements WriteBatch {
+
+        private final WriteBatch batch;
+
+        private final List<Runnable> invalidations = new ArrayList<>();
+
+        private InvalidatingBatch(WriteBatch batch) {
+            this.batch = batch;
+        }
+
+        @Override
+        public <T> WriteBatch insert(T entity) {
+            batch.insert(entity);
+            invalidations.add(() -> invalidateEntity(entity));
+            return this;
+        }
+
+        @Override
+        public <T> WriteBatch insert(T entity, Duration ttl) {
+            batch.insert(entity, ttl);
+            invalidations.add(() -> invalidateEntity(entity));
+            return this;
+        }
+
+        @Override
+        public <T> WriteBatch update(T entity) {
+            batch.update(entity);
+            invalidations.add(() -> invalidateEntity(entity));
+            return this;
+        }
+
+        @Override
+        public <T> WriteBatch upsert(T entity) {
+            batch.upsert(entity);
+            invalidations.add(() -> invalidateEntity(entity));
+            return this;
+        }
+
+        @Override
+        public <T, K> WriteBatch delete(Class<T> type, K id) {
+            batch.delete(type, id);
+            invalidations.add(() -> invalidateId(type, id));
+            return this;
+        }
+
+        @Override
+        public WriteBatch atomic() {
+            batch.atomic();
+            return this;
+        }
+
+        @Override
+        public int size() {
+            return batch.size();
+        }
+
+        @Override
+        public Result execute() {
+            try {
+                return batch.execute();
+            } finally {
+                invalidations.forEach(Runnable::run);
+            }
+        }
+
+        @Override
+        public CompletionStage<Result> executeAsync() {
+            return batch.executeAsync().whenComplete((result, failure) -> invalidations.forEach(Runnable::run));
+        }
+    }
+}
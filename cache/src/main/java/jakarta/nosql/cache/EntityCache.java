@@ -0,0 +1,455 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.nosql.cache;
+
+import jakarta.nosql.Cacheable;
+import jakarta.nosql.EntityMetadata;
+import jakarta.nosql.EntityMetadataLookup;
+import jakarta.nosql.FetchType;
+import jakarta.nosql.Id;
+import jakarta.nosql.MappingException;
+
+import java.lang.invoke.MethodType;
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * The bounded cache of the entities of a {@link Cacheable} class in a {@link CachingTemplate}, keyed by their
+ * {@link Id}.
+ *
+ * <p>The eviction follows W-TinyLFU. A new entity enters a small window, about one percent of the cache, ordered by
+ * last access. The entity leaving the window competes with the least recently used entity of the probation segment of
+ * the main cache, and the {@link FrequencySketch} keeps the one read more often, so that a scan of entities read once
+ * does not flush the working set. An entity read again while in probation moves to the protected segment, which holds
+ * up to eighty percent of the main cache.</p>
+ *
+ * <p>The cache stores {@link EntitySnapshot snapshots}, on the heap or serialized into direct buffers, and restores a
+ * new instance on each read. Every write to the class increments a stamp; an entity read from the database is cached
+ * only when no write happened since the read started, so that a read racing with a write never caches a stale entity.
+ * The cache is thread-safe.</p>
+ *
+ * <p>A read takes no lock. It looks the entity up in a concurrent map and records the access in a small ring buffer,
+ * which is replayed against the sketch and the segments under the lock once it fills up, or before the next write.
+ * When the buffer is full or contended the access is dropped: the eviction order only needs a sample of the reads,
+ * and the hit and miss counts are kept apart from it.</p>
+ */
+final class EntityCache {
+
+    private static final int BUFFER_SIZE = 128;
+
+    private static final int BUFFER_MASK = BUFFER_SIZE - 1;
+
+    private static final long DRAIN_THRESHOLD = BUFFER_SIZE / 4;
+
+    private final EntityMetadata<?> metadata;
+
+    private final Class<?> idType;
+
+    private final long maximumSize;
+
+    private final long windowMaximum;
+
+    private final long protectedMaximum;
+
+    private final long ttl;
+
+    private final boolean offHeap;
+
+    private final FrequencySketch sketch;
+
+    private final Map<Object, Entry> data = new ConcurrentHashMap<>();
+
+    private final Map<Object, Entry> window = new LinkedHashMap<>(16, 0.75f, true);
+
+    private final Map<Object, Entry> probation = new LinkedHashMap<>(16, 0.75f, true);
+
+    private final Map<Object, Entry> protectedSegment = new LinkedHashMap<>(16, 0.75f, true);
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final AtomicReferenceArray<Object> buffer = new AtomicReferenceArray<>(BUFFER_SIZE);
+
+    private final AtomicLong bufferHead = new AtomicLong();
+
+    private final AtomicLong bufferTail = new AtomicLong();
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final AtomicLong writes = new AtomicLong();
+
+    private long evictions;
+
+    private EntityCache(EntityMetadata<?> metadata, Cacheable cacheable, long ttl) {
+        this.metadata = metadata;
+        this.idType = wrapper(metadata.id().orElseThrow().type());
+        this.maximumSize = cacheable.maximumSize();
+        this.windowMaximum = Math.max(1L, maximumSize / 100L);
+        this.protectedMaximum = (maximumSize - windowMaximum) * 4L / 5L;
+        this.ttl = ttl;
+        this.offHeap = cacheable.offHeap();
+        this.sketch = new FrequencySketch(maximumSize);
+    }
+
+    /**
+     * Creates the cache of the class, when it is annotated with {@link Cacheable}.
+     *
+     * @param type the entity class
+     * @return the cache, or {@link Optional#empty()} when the class is not cacheable
+     * @throws MappingException when the class is cacheable but has no generated metadata, no id or a lazy attribute,
+     *                          when {@link Cacheable#maximumSize()}, {@link Cacheable#ttl()} or {@link Cacheable#unit()}
+     *                          are invalid, or when it is {@link Cacheable#offHeap() off the heap} and an attribute
+     *                          cannot be serialized
+     */
+    public static Optional<EntityCache> of(Class<?> type) {
+        Cacheable cacheable = type.getAnnotation(Cacheable.class);
+        if (cacheable == null) {
+            return Optional.empty();
+        }
+        if (cacheable.maximumSize() < 1L) {
+            throw new MappingException("The cache of " + type.getName() + " needs a positive maximumSize");
+        }
+        long ttl = ttl(type, cacheable);
+        EntityMetadata<?> metadata = EntityMetadataLookup.find(type).orElseThrow(() ->
+                new MappingException("The cacheable entity " + type.getName() + " has no generated metadata"));
+        if (metadata.id().isEmpty()) {
+            throw new MappingException("The cacheable entity " + type.getName() + " has no id");
+        }
+        if (metadata.attributes().stream().anyMatch(attribute -> attribute.fetch() == FetchType.LAZY)) {
+            throw new MappingException("The cacheable entity " + type.getName() + " must not have lazy attributes");
+        }
+        if (cacheable.offHeap()) {
+            EntitySnapshot.requireSerializable(metadata);
+        }
+        return Optional.of(new EntityCache(metadata, cacheable, ttl));
+    }
+
+    /**
+     * Returns the {@link Cacheable#ttl()} of a class in nanoseconds.
+     *
+     * @param type      the entity class
+     * @param cacheable the annotation of the class
+     * @return the time to live in nanoseconds, or {@code 0} when the entities do not expire
+     * @throws MappingException when the time to live is negative, has an estimated unit, such as
+     *                          {@link java.time.temporal.ChronoUnit#MONTHS}, or does not fit in a {@link Duration} of
+     *                          nanoseconds
+     */
+    public static long ttl(Class<?> type, Cacheable cacheable) {
+        if (cacheable.ttl() < 0L) {
+            throw new MappingException("The cache of " + type.getName() + " needs a ttl that is not negative");
+        }
+        try {
+            return Duration.of(cacheable.ttl(), cacheable.unit()).toNanos();
+        } catch (DateTimeException | ArithmeticException exception) {
+            throw new MappingException("The cache of " + type.getName() + " cannot expire its entities after " + cacheable.ttl() + " "
+                    + cacheable.unit() + ": the ttl needs an exact unit and must fit in a Duration of nanoseconds", exception);
+        }
+    }
+
+    /**
+     * Returns whether the id can be a key of this cache, which requires it to be an instance of the id type.
+     *
+     * @param id the id
+     * @return {@code true} when the id has the type of the id of the entity
+     */
+    public boolean accepts(Object id) {
+        return idType.isInstance(id);
+    }
+
+    /**
+     * Returns the current stamp, to be passed to {@link #put(Object, Object, long)} with the entity read after it.
+     *
+     * @return the number of writes so far
+     */
+    public long stamp() {
+        return writes.get();
+    }
+
+    /**
+     * Reads an entity from the cache, recording a hit or a miss.
+     *
+     * @param id the id, accepted by {@link #accepts(Object)}
+     * @return a new instance of the cached entity, or {@link Optional#empty()} when it is absent or expired
+     */
+    public Optional<Object> get(Object id) {
+        Entry entry = data.get(id);
+        if (entry == null || expired(entry)) {
+            misses.increment();
+            record(id);
+            return Optional.empty();
+        }
+        Object stored = entry.value;
+        hits.increment();
+        record(entry);
+        return Optional.of(EntitySnapshot.restore(stored));
+    }
+
+    /**
+     * Caches an entity read from the database, unless the class was written after the given stamp.
+     *
+     * @param id     the id of the entity
+     * @param entity the entity
+     * @param stamp  the value of {@link #stamp()} before the entity was read
+     */
+    public void put(Object id, Object entity, long stamp) {
+        if (!accepts(id)) {
+            return;
+        }
+        Object stored = EntitySnapshot.store(entity, offHeap);
+        lock.lock();
+        try {
+            if (stamp != writes.get()) {
+                return;
+            }
+            drain();
+            long expiresAt = ttl == 0L ? 0L : System.nanoTime() + ttl;
+            Entry entry = data.get(id);
+            if (entry == null) {
+                entry = new Entry(id, Region.WINDOW, stored, expiresAt);
+                data.put(id, entry);
+                window.put(id, entry);
+            } else {
+                touch(entry);
+                entry.expiresAt = expiresAt;
+                entry.value = stored;
+            }
+            evict();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes the entity with the given id after it was written. An id of another type removes every entity.
+     *
+     * @param id the id of the written entity
+     */
+    public void invalidate(Object id) {
+        lock.lock();
+        try {
+            writes.incrementAndGet();
+            if (!accepts(id)) {
+                clear();
+                return;
+            }
+            Entry entry = data.get(id);
+            if (entry != null) {
+                remove(entry);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes the written entity, found by its id.
+     *
+     * @param entity the written entity, an instance of the class of this cache
+     */
+    public void invalidateEntity(Object entity) {
+        invalidate(id(metadata, entity));
+    }
+
+    /**
+     * Removes every entity after an operation wrote entities that are not known by id.
+     */
+    public void invalidateAll() {
+        lock.lock();
+        try {
+            writes.incrementAndGet();
+            clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the statistics of the cache.
+     *
+     * @return the statistics
+     */
+    public CacheStatistics statistics() {
+        lock.lock();
+        try {
+            drain();
+            return new CacheStatistics(hits.sum(), misses.sum(), evictions, data.size());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void record(Object access) {
+        long head = bufferHead.get();
+        long tail = bufferTail.get();
+        long pending = tail - head;
+        if (pending < BUFFER_SIZE && bufferTail.compareAndSet(tail, tail + 1L)) {
+            buffer.lazySet((int) (tail & BUFFER_MASK), access);
+            pending++;
+        }
+        if (pending >= DRAIN_THRESHOLD && lock.tryLock()) {
+            try {
+                drain();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private void drain() {
+        long head = bufferHead.get();
+        long tail = bufferTail.get();
+        while (head != tail) {
+            int index = (int) (head & BUFFER_MASK);
+            Object access = buffer.get(index);
+            if (access == null) {
+                break;
+            }
+            buffer.lazySet(index, null);
+            replay(access);
+            head++;
+        }
+        bufferHead.set(head);
+    }
+
+    private void replay(Object access) {
+        if (access instanceof Entry hit) {
+            sketch.increment(hit.key);
+            if (data.get(hit.key) == hit) {
+                touch(hit);
+            }
+            return;
+        }
+        sketch.increment(access);
+        Entry entry = data.get(access);
+        if (entry != null && expired(entry)) {
+            remove(entry);
+        }
+    }
+
+    private void touch(Entry entry) {
+        if (entry.region == Region.PROBATION) {
+            move(entry, protectedSegment, Region.PROTECTED);
+            if (protectedSegment.size() > protectedMaximum) {
+                move(eldest(protectedSegment), probation, Region.PROBATION);
+            }
+        } else {
+            segment(entry.region).get(entry.key);
+        }
+    }
+
+    private void evict() {
+        Entry candidate = null;
+        if (window.size() > windowMaximum) {
+            candidate = eldest(window);
+            move(candidate, probation, Region.PROBATION);
+        }
+        while (data.size() > maximumSize) {
+            Entry victim = victim(candidate);
+            Entry evicted = victim;
+            if (candidate != null && victim != candidate) {
+                evicted = sketch.frequency(candidate.key) > sketch.frequency(victim.key) ? victim : candidate;
+                candidate = null;
+            }
+            remove(evicted);
+            evictions++;
+        }
+    }
+
+    private Entry victim(Entry candidate) {
+        for (Entry entry : probation.values()) {
+            if (entry != candidate) {
+                return entry;
+            }
+        }
+        if (!protectedSegment.isEmpty()) {
+            return eldest(protectedSegment);
+        }
+        return window.isEmpty() ? candidate : eldest(window);
+    }
+
+    private void move(Entry entry, Map<Object, Entry> segment, Region region) {
+        segment(entry.region).remove(entry.key);
+        entry.region = region;
+        segment.put(entry.key, entry);
+    }
+
+    private void remove(Entry entry) {
+        data.remove(entry.key);
+        segment(entry.region).remove(entry.key);
+    }
+
+    private void clear() {
+        data.clear();
+        window.clear();
+        probation.clear();
+        protectedSegment.clear();
+    }
+
+    private Map<Object, Entry> segment(Region region) {
+        return switch (region) {
+            case WINDOW -> window;
+            case PROBATION -> probation;
+            case PROTECTED -> protectedSegment;
+        };
+    }
+
+    private boolean expired(Entry entry) {
+        return ttl != 0L && System.nanoTime() - entry.expiresAt > 0L;
+    }
+
+    private static Entry eldest(Map<Object, Entry> segment) {
+        return segment.values().iterator().next();
+    }
+
+    private static <T> Object id(EntityMetadata<T> metadata, Object entity) {
+        return metadata.id().orElseThrow().get(metadata.type().cast(entity));
+    }
+
+    private static Class<?> wrapper(Class<?> type) {
+        return type.isPrimitive() ? MethodType.methodType(type).wrap().returnType() : type;
+    }
+
+    private enum Region {
+        WINDOW, PROBATION, PROTECTED
+    }
+
+    private static final class Entry {
+
+        private final Object key;
+
+        private Region region;
+
+        private volatile Object value;
+
+        private volatile long expiresAt;
+
+        private Entry(Object key, Region region, Object value, long expiresAt) {
+            this.key = key;
+            this.region = region;
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,330 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.nosql.cache;
+
+import jakarta.nosql.AttributeMetadata;
+import jakarta.nosql.Embeddable;
+import jakarta.nosql.EntityMetadata;
+import jakarta.nosql.EntityMetadataLookup;
+import jakarta.nosql.MappingException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Array;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.Deque;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.UnaryOperator;
+
+/**
+ * A copy of the attribute values of an entity, read and restored through its generated {@link EntityMetadata}, so that
+ * an {@link EntityCache} never shares an entity instance with the application.
+ *
+ * <p>The values of {@link Embeddable} attributes are copied as nested snapshots. Arrays, collections and maps are
+ * copied with their elements, and {@link Date}, {@link BitSet} and {@link ByteBuffer} values are cloned, both when the
+ * snapshot is taken and when it is restored, so that changing a value of a cached or returned entity never changes
+ * the cache. A collection is copied into a {@link List}, {@link Set}, {@link SortedSet} or {@link Deque} of the
+ * standard library, and a map into a {@link Map} or {@link SortedMap}, so the type of such an attribute must be one
+ * that the copy is an instance of, such as {@code List} or {@code Set}. Any other value is kept as it is, so it must be
+ * immutable. A snapshot can also be serialized into a direct buffer, outside the
+ * Java heap, when its values are {@link Serializable}; {@link #requireSerializable(EntityMetadata)} checks the
+ * attribute types of a class when its cache is created.</p>
+ */
+final class EntitySnapshot implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Class<?> type;
+
+    private final Object[] values;
+
+    private EntitySnapshot(Class<?> type, Object... values) {
+        this.type = type;
+        this.values = values;
+    }
+
+    /**
+     * Copies the attribute values of the entity.
+     *
+     * @param entity the entity
+     * @return the snapshot of the entity
+     * @throws MappingException when the class of the entity has no generated metadata
+     */
+    public static EntitySnapshot of(Object entity) {
+        EntityMetadata<?> metadata = EntityMetadataLookup.find(entity.getClass()).orElseThrow(() ->
+                new MappingException("The entity " + entity.getClass().getName() + " has no generated metadata to be cached"));
+        return new EntitySnapshot(entity.getClass(), values(metadata, entity));
+    }
+
+    /**
+     * Reads a snapshot serialized by {@link #toByteBuffer()}.
+     *
+     * @param buffer the serialized snapshot, which is not modified
+     * @return the snapshot
+     * @throws UncheckedIOException when the buffer cannot be read
+     */
+    public static EntitySnapshot of(ByteBuffer buffer) {
+        try (ObjectInputStream input = new ObjectInputStream(new BufferInput(buffer.duplicate().rewind()))) {
+            return (EntitySnapshot) input.readObject();
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        } catch (ClassNotFoundException exception) {
+            throw new UncheckedIOException(new IOException(exception));
+        }
+    }
+
+    /**
+     * Creates a new instance of the entity with the copied values.
+     *
+     * @return a new instance of the entity
+     */
+    public Object restore() {
+        EntityMetadata<?> metadata = EntityMetadataLookup.find(type).orElseThrow();
+        Object[] restored = new Object[values.length];
+        for (int index = 0; index < values.length; index++) {
+            restored[index] = instance(values[index]);
+        }
+        return metadata.newInstance(restored);
+    }
+
+    /**
+     * Serializes the snapshot into a direct buffer.
+     *
+     * @return the read-only buffer
+     * @throws MappingException when a value is not {@link Serializable}, such as an element of a collection that the
+     *                          attribute types could not tell
+     */
+    public ByteBuffer toByteBuffer() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream output = new ObjectOutputStream(bytes)) {
+            output.writeObject(this);
+        } catch (IOException exception) {
+            throw new MappingException("The cacheable entity " + type.getName() + " has a value that cannot be stored off the heap", exception);
+        }
+        ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.size());
+        buffer.put(bytes.toByteArray()).flip();
+        return buffer.asReadOnlyBuffer();
+    }
+
+    /**
+     * Copies the entity into the form kept by a cache: the snapshot itself, or its serialized buffer when the cache
+     * is off the heap.
+     *
+     * @param entity  the entity
+     * @param offHeap whether the snapshot is serialized into a direct buffer
+     * @return the stored form
+     * @throws MappingException when the class of the entity has no generated metadata, or when it must be off the heap
+     *                          and a value cannot be serialized
+     */
+    public static Object store(Object entity, boolean offHeap) {
+        EntitySnapshot snapshot = of(entity);
+        return offHeap ? snapshot.toByteBuffer() : snapshot;
+    }
+
+    /**
+     * Checks that the values of every attribute of the class can be serialized off the heap: the type of each
+     * attribute must be a primitive type, a {@link Serializable} type, a {@link Collection} or {@link Map} type, or an
+     * {@link Embeddable} class that follows the same rule.
+     *
+     * @param metadata the metadata of the class
+     * @throws MappingException when an attribute has another type
+     */
+    public static void requireSerializable(EntityMetadata<?> metadata) {
+        metadata.attributes().forEach(attribute -> requireSerializable(metadata, attribute));
+    }
+
+    /**
+     * Creates a new instance of the entity from the form returned by {@link #store(Object, boolean)}.
+     *
+     * @param stored the stored form
+     * @return a new instance of the entity
+     */
+    public static Object restore(Object stored) {
+        EntitySnapshot snapshot = stored instanceof ByteBuffer buffer ? of(buffer) : (EntitySnapshot) stored;
+        return snapshot.restore();
+    }
+
+    private static <T> Object[] values(EntityMetadata<T> metadata, Object entity) {
+        T instance = metadata.type().cast(entity);
+        List<AttributeMetadata<T>> attributes = metadata.attributes();
+        Object[] values = new Object[attributes.size()];
+        for (int index = 0; index < values.length; index++) {
+            AttributeMetadata<T> attribute = attributes.get(index);
+            values[index] = snapshot(attribute.get(instance));
+            if (copied(values[index]) && !attribute.type().isPrimitive() && !attribute.type().isInstance(values[index])) {
+                throw new MappingException("The attribute " + attribute.name() + " of the cacheable entity " + metadata.type().getName()
+                        + " has the type " + attribute.type().getName() + ", which the cache cannot copy a "
+                        + values[index].getClass().getName() + " into");
+            }
+        }
+        return values;
+    }
+
+    private static boolean copied(Object value) {
+        return value != null && !(value instanceof EntitySnapshot);
+    }
+
+    private static Object snapshot(Object value) {
+        if (value != null && embeddable(value.getClass())) {
+            return of(value);
+        }
+        return copy(value, EntitySnapshot::snapshot);
+    }
+
+    private static Object instance(Object value) {
+        if (value instanceof EntitySnapshot snapshot) {
+            return snapshot.restore();
+        }
+        return copy(value, EntitySnapshot::instance);
+    }
+
+    private static Object copy(Object value, UnaryOperator<Object> element) {
+        if (value == null) {
+            return null;
+        }
+        if (value.getClass().isArray()) {
+            return array(value, element);
+        }
+        if (value instanceof Collection<?> collection) {
+            return collection(collection, element);
+        }
+        if (value instanceof Map<?, ?> map) {
+            return map(map, element);
+        }
+        if (value instanceof Date date) {
+            return date.clone();
+        }
+        if (value instanceof BitSet bits) {
+            return bits.clone();
+        }
+        if (value instanceof ByteBuffer buffer) {
+            return ByteBuffer.allocate(buffer.remaining()).put(buffer.duplicate()).flip();
+        }
+        return value;
+    }
+
+    private static Object array(Object array, UnaryOperator<Object> element) {
+        int length = Array.getLength(array);
+        Object copy = Array.newInstance(array.getClass().getComponentType(), length);
+        System.arraycopy(array, 0, copy, 0, length);
+        if (copy instanceof Object[] elements) {
+            UnaryOperator<Object> copier = embeddable(elements.getClass().getComponentType())
+                    ? embedded -> embedded == null ? null : of(embedded).restore()
+                    : element;
+            Arrays.setAll(elements, index -> copier.apply(elements[index]));
+        }
+        return copy;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Collection<Object> collection(Collection<?> values, UnaryOperator<Object> element) {
+        if (values instanceof EnumSet) {
+            return EnumSet.copyOf((Collection) values);
+        }
+        Collection<Object> copy;
+        if (values instanceof SortedSet<?> sorted) {
+            copy = new TreeSet<>((Comparator<Object>) sorted.comparator());
+        } else if (values instanceof Set<?>) {
+            copy = new LinkedHashSet<>();
+        } else if (values instanceof List<?>) {
+            copy = new ArrayList<>(values.size());
+        } else if (values instanceof Deque<?>) {
+            copy = new LinkedList<>();
+        } else {
+            copy = new ArrayList<>(values.size());
+        }
+        values.stream().map(element).forEach(copy::add);
+        return copy;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<Object, Object> map(Map<?, ?> values, UnaryOperator<Object> element) {
+        Map<Object, Object> copy = values instanceof SortedMap<?, ?> sorted
+                ? new TreeMap<>((Comparator<Object>) sorted.comparator())
+                : new LinkedHashMap<>();
+        values.forEach((key, value) -> copy.put(element.apply(key), element.apply(value)));
+        return copy;
+    }
+
+    private static boolean embeddable(Class<?> type) {
+        return type.isAnnotationPresent(Embeddable.class);
+    }
+
+    private static void requireSerializable(EntityMetadata<?> metadata, AttributeMetadata<?> attribute) {
+        Class<?> type = attribute.type();
+        if (embeddable(type)) {
+            requireSerializable(EntityMetadataLookup.find(type).orElseThrow(() ->
+                    new MappingException("The embeddable " + type.getName() + " has no generated metadata")));
+        } else if (!serializable(type)) {
+            throw new MappingException("The attribute " + attribute.name() + " of the cacheable entity " + metadata.type().getName()
+                    + " has the type " + type.getName() + ", which cannot be stored off the heap");
+        }
+    }
+
+    private static boolean serializable(Class<?> type) {
+        return type.isPrimitive() || Serializable.class.isAssignableFrom(type)
+                || Collection.class.isAssignableFrom(type) || Map.class.isAssignableFrom(type);
+    }
+
+    /**
+     * Reads a buffer without copying it into an array first.
+     */
+    private static final class BufferInput extends InputStream {
+
+        private final ByteBuffer buffer;
+
+        private BufferInput(ByteBuffer buffer) {
+            super();
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int count = Math.min(length, buffer.remaining());
+            buffer.get(bytes, offset, count);
+            return count;
+        }
+    }
+}
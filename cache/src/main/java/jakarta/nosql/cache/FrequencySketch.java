@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.nosql.cache;
+
+/**
+ * A count-min sketch that estimates how often each key was read, with four-bit counters, used by {@link EntityCache}
+ * to admit only the entities read more often than the ones they would evict (TinyLFU).
+ *
+ * <p>Each key maps to one counter in each of four rows, and its frequency is the lowest of those counters, so
+ * collisions can only overestimate it. Sixteen counters share a {@code long}. Once the number of increments reaches ten
+ * times the number of counters, every counter is halved, so that the sketch forgets old reads and follows a changing
+ * working set. The sketch is not thread-safe.</p>
+ */
+final class FrequencySketch {
+
+    private static final long[] SEEDS = {0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L};
+
+    private static final long RESET_MASK = 0x7777_7777_7777_7777L;
+
+    private static final int MAXIMUM_COUNT = 15;
+
+    private static final int MAXIMUM_CAPACITY = 1 << 26;
+
+    private final long[] table;
+
+    private final int sampleSize;
+
+    private int additions;
+
+    /**
+     * Creates a sketch sized for a cache of the given maximum size.
+     *
+     * @param maximumSize the maximum number of entries of the cache
+     */
+    public FrequencySketch(long maximumSize) {
+        int capacity = (int) Math.min(Math.max(maximumSize, 16L), MAXIMUM_CAPACITY);
+        this.table = new long[Integer.highestOneBit(capacity - 1) << 1];
+        this.sampleSize = 10 * table.length;
+    }
+
+    /**
+     * Returns the estimated number of reads of the key, between {@code 0} and {@code 15}.
+     *
+     * @param key the key
+     * @return the estimated frequency
+     */
+    public int frequency(Object key) {
+        int hash = spread(key.hashCode());
+        int frequency = MAXIMUM_COUNT;
+        for (int row = 0; row < SEEDS.length; row++) {
+            frequency = Math.min(frequency, (int) (table[index(hash, row)] >>> shift(hash, row)) & MAXIMUM_COUNT);
+        }
+        return frequency;
+    }
+
+    /**
+     * Records a read of the key.
+     *
+     * @param key the key
+     */
+    public void increment(Object key) {
+        int hash = spread(key.hashCode());
+        boolean added = false;
+        for (int row = 0; row < SEEDS.length; row++) {
+            int index = index(hash, row);
+            int shift = shift(hash, row);
+            if (((table[index] >>> shift) & MAXIMUM_COUNT) < MAXIMUM_COUNT) {
+                table[index] += 1L << shift;
+                added = true;
+            }
+        }
+        if (added && ++additions == sampleSize) {
+            reset();
+        }
+    }
+
+    private void reset() {
+        for (int index = 0; index < table.length; index++) {
+            table[index] = (table[index] >>> 1) & RESET_MASK;
+        }
+        additions /= 2;
+    }
+
+    private int index(int hash, int row) {
+        long value = (hash + SEEDS[row]) * SEEDS[row];
+        value += value >>> 32;
+        return (int) value & (table.length - 1);
+    }
+
+    private static int shift(int hash, int row) {
+        return ((row << 2) + ((hash >>> (row << 3)) & 3)) << 2;
+    }
+
+    private static int spread(int hash) {
+        int value = ((hash >>> 16) ^ hash) * 0x45d9f3b;
+        value = ((value >>> 16) ^ value) * 0x45d9f3b;
+        return (value >>> 16) ^ value;
+    }
+}
@@ -0,0 +1,296 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.nosql.cache;
+
+import jakarta.nosql.Cacheable;
+import jakarta.nosql.EntityMetadata;
+import jakarta.nosql.EntityMetadataLookup;
+import jakarta.nosql.FetchType;
+import jakarta.nosql.MappingException;
+import jakarta.nosql.QueryMapper;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * The bounded cache of the query results of a {@link Cacheable} class in a {@link CachingTemplate}, keyed by the
+ * normalized {@link Key} of the {@link QueryMapper} chain of each query.
+ *
+ * <p>The results are ordered by last access, and the least recently used ones are evicted when the total weight
+ * exceeds {@link Cacheable#maximumQueryWeight()}. The entities of a result are stored as {@link EntitySnapshot
+ * snapshots}, on the heap or serialized into direct buffers, and each read restores new instances. Any write to the
+ * class removes every result and increments a stamp; a result read from the database is cached only when no write
+ * happened since the query started. The cache is thread-safe.</p>
+ */
+final class QueryCache {
+
+    private final long maximumWeight;
+
+    private final long ttl;
+
+    private final boolean offHeap;
+
+    private final Map<Key, Entry> data = new LinkedHashMap<>(16, 0.75f, true);
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private long weight;
+
+    private long hits;
+
+    private long misses;
+
+    private long evictions;
+
+    private long writes;
+
+    private QueryCache(Cacheable cacheable, long ttl) {
+        this.maximumWeight = cacheable.maximumQueryWeight();
+        this.ttl = ttl;
+        this.offHeap = cacheable.offHeap();
+    }
+
+    /**
+     * Creates the query cache of the class, when it is annotated with {@link Cacheable} and opts in through
+     * {@link Cacheable#maximumQueryWeight()}.
+     *
+     * @param type the entity class
+     * @return the cache, or {@link Optional#empty()} when the query results of the class are not cacheable
+     * @throws MappingException when the class has no generated metadata or a lazy attribute, when
+     *                          {@link Cacheable#maximumQueryWeight()} is negative, when {@link Cacheable#ttl()} or
+     *                          {@link Cacheable#unit()} are invalid, as in {@link EntityCache#ttl(Class, Cacheable)},
+     *                          or when it is {@link Cacheable#offHeap() off the heap} and an attribute cannot be
+     *                          serialized
+     */
+    public static Optional<QueryCache> of(Class<?> type) {
+        Cacheable cacheable = type.getAnnotation(Cacheable.class);
+        if (cacheable == null || cacheable.maximumQueryWeight() == 0L) {
+            return Optional.empty();
+        }
+        if (cacheable.maximumQueryWeight() < 0L) {
+            throw new MappingException("The query cache of " + type.getName() + " needs a maximumQueryWeight that is not negative");
+        }
+        long ttl = EntityCache.ttl(type, cacheable);
+        EntityMetadata<?> metadata = EntityMetadataLookup.find(type).orElseThrow(() ->
+                new MappingException("The cacheable entity " + type.getName() + " has no generated metadata"));
+        if (metadata.attributes().stream().anyMatch(attribute -> attribute.fetch() == FetchType.LAZY)) {
+            throw new MappingException("The cacheable entity " + type.getName() + " must not have lazy attributes");
+        }
+        if (cacheable.offHeap()) {
+            EntitySnapshot.requireSerializable(metadata);
+        }
+        return Optional.of(new QueryCache(cacheable, ttl));
+    }
+
+    /**
+     * Returns the maximum total weight of the cached results, which is also the weight of the heaviest result that
+     * can be cached.
+     *
+     * @return the {@link Cacheable#maximumQueryWeight()} of the class
+     */
+    public long maximumWeight() {
+        return maximumWeight;
+    }
+
+    /**
+     * Returns the current stamp, to be passed to {@link #put(Key, Object, long)} with the result read after it.
+     *
+     * @return the number of writes so far
+     */
+    public long stamp() {
+        lock.lock();
+        try {
+            return writes;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Reads a query result from the cache, recording a hit or a miss.
+     *
+     * @param key the normalized query
+     * @return a copy of the cached result, or {@link Optional#empty()} when it is absent or expired
+     */
+    public Optional<Object> get(Key key) {
+        Object stored;
+        lock.lock();
+        try {
+            Entry entry = data.get(key);
+            if (entry == null || expired(entry)) {
+                if (entry != null) {
+                    remove(key, entry);
+                }
+                misses++;
+                return Optional.empty();
+            }
+            hits++;
+            stored = entry.value;
+        } finally {
+            lock.unlock();
+        }
+        return Optional.of(restore(stored));
+    }
+
+    /**
+     * Caches a query result read from the database, unless the class was written after the given stamp. A result
+     * heavier than the cache, or with an entity that cannot be stored, is not cached.
+     *
+     * @param key    the normalized query
+     * @param result the result: a {@link List} or an {@link Optional} of entities, a {@link Long} or a {@link Boolean}
+     * @param stamp  the value of {@link #stamp()} before the query started
+     */
+    public void put(Key key, Object result, long stamp) {
+        long entryWeight = result instanceof List<?> list ? Math.max(1L, list.size()) : 1L;
+        if (entryWeight > maximumWeight) {
+            return;
+        }
+        Optional<Object> stored = store(result);
+        if (stored.isEmpty()) {
+            return;
+        }
+        lock.lock();
+        try {
+            if (stamp != writes) {
+                return;
+            }
+            Entry previous = data.put(key, new Entry(stored.get(), entryWeight, ttl == 0L ? 0L : System.nanoTime() + ttl));
+            weight += entryWeight - (previous == null ? 0L : previous.weight);
+            evict();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes every result after a write to the class.
+     */
+    public void invalidateAll() {
+        lock.lock();
+        try {
+            writes++;
+            data.clear();
+            weight = 0L;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the statistics of the cache, whose size is the number of cached results.
+     *
+     * @return the statistics
+     */
+    public CacheStatistics statistics() {
+        lock.lock();
+        try {
+            return new CacheStatistics(hits, misses, evictions, data.size());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void evict() {
+        Iterator<Map.Entry<Key, Entry>> eldest = data.entrySet().iterator();
+        while (weight > maximumWeight) {
+            weight -= eldest.next().getValue().weight;
+            eldest.remove();
+            evictions++;
+        }
+    }
+
+    private void remove(Key key, Entry entry) {
+        data.remove(key);
+        weight -= entry.weight;
+    }
+
+    private boolean expired(Entry entry) {
+        return ttl != 0L && System.nanoTime() - entry.expiresAt > 0L;
+    }
+
+    private Optional<Object> store(Object result) {
+        if (result instanceof List<?> list) {
+            List<Object> stored = new ArrayList<>(list.size());
+            for (Object entity : list) {
+                Optional<Object> snapshot = storeEntity(entity);
+                if (snapshot.isEmpty()) {
+                    return Optional.empty();
+                }
+                stored.add(snapshot.get());
+            }
+            return Optional.of(stored);
+        }
+        if (result instanceof Optional<?> optional) {
+            return optional.isEmpty() ? Optional.of(optional) : storeEntity(optional.get()).map(Optional::of);
+        }
+        return result instanceof Long || result instanceof Boolean ? Optional.of(result) : Optional.empty();
+    }
+
+    private Optional<Object> storeEntity(Object entity) {
+        if (entity == null || EntityMetadataLookup.find(entity.getClass()).isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(EntitySnapshot.store(entity, offHeap));
+    }
+
+    private static Object restore(Object stored) {
+        if (stored instanceof List<?> list) {
+            List<Object> entities = new ArrayList<>(list.size());
+            list.forEach(snapshot -> entities.add(EntitySnapshot.restore(snapshot)));
+            return entities;
+        }
+        if (stored instanceof Optional<?> optional) {
+            return optional.map(EntitySnapshot::restore);
+        }
+        return stored;
+    }
+
+    /**
+     * The normalized form of a query: the same query built through different chains has the same key.
+     *
+     * <p>The conditions keep the order in which they were added, and the values of an {@code in} condition are kept as
+     * a set. The skip and limit are the same wherever they appear in the chain. The operation is {@code result} for
+     * both {@code result()} and {@code stream()}, which share their cached results.</p>
+     *
+     * @param operation  the terminal operation: {@code result}, {@code singleResult}, {@code count} or {@code exists}
+     * @param conditions the steps of the conditions: the connectors, names, {@code not}, operators and values
+     * @param sorts      the names and directions of the order
+     * @param skip       the number of skipped results, or {@code 0}
+     * @param limit      the maximum number of results, or {@code -1} when there is no limit
+     */
+    public record Key(String operation, List<Object> conditions, List<Object> sorts, long skip, long limit) {
+    }
+
+    private static final class Entry {
+
+        private final Object value;
+
+        private final long weight;
+
+        private final long expiresAt;
+
+        private Entry(Object value, long weight, long expiresAt) {
+            this.value = value;
+            this.weight = weight;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
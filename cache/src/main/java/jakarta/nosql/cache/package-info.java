@@ -0,0 +1,24 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+/**
+ * An optional second-level cache for Jakarta NoSQL, built only on the Jakarta NoSQL API, so it works with any
+ * provider.
+ * <p>
+ * {@link jakarta.nosql.cache.CachingTemplate} decorates the {@link jakarta.nosql.Template} of a provider and keeps
+ * the entities and the query results of the classes annotated with {@link jakarta.nosql.Cacheable}. The cache is not
+ * part of the Jakarta NoSQL specification; providers do not have to implement it.
+ */
+package jakarta.nosql.cache;
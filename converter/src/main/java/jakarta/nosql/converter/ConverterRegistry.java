@@ -0,0 +1,441 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.nosql.converter;
+
+import jakarta.nosql.AttributeConverter;
+import jakarta.nosql.AttributeMetadata;
+import jakarta.nosql.Convert;
+import jakarta.nosql.Converter;
+import jakarta.nosql.DoubleAttributeConverter;
+import jakarta.nosql.Embeddable;
+import jakarta.nosql.Entity;
+import jakarta.nosql.EntityIndex;
+import jakarta.nosql.EntityMetadata;
+import jakarta.nosql.Id;
+import jakarta.nosql.IntAttributeConverter;
+import jakarta.nosql.LongAttributeConverter;
+import jakarta.nosql.MappingException;
+
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The converters of an application, and the {@link Table} of each entity resolved from them.
+ *
+ * <p>A provider that resolves the converter of an attribute on every operation pays a map lookup, and often a
+ * reflective instantiation, per attribute per read or write. The registry instead instantiates every converter once,
+ * resolves the attribute type of each {@link Converter#autoApply() auto-applied} converter from its type arguments,
+ * and builds the table of an entity the first time it is requested: afterwards, converting an attribute is a direct
+ * call on the converter found at the position of the attribute.</p>
+ *
+ * <p>The converter of an attribute is resolved in the following order:</p>
+ * <ol>
+ *     <li>the converter declared by {@link Convert} on the attribute;</li>
+ *     <li>the auto-applied converter whose attribute type is the type of the attribute, or its wrapper type when it is
+ *     primitive, unless the attribute is annotated with {@link Id};</li>
+ *     <li>no converter.</li>
+ * </ol>
+ *
+ * <p>The metadata of an attribute has its class but not its type arguments, so an auto-applied converter must have a
+ * class, not a parameterized type, as its attribute type: a converter of {@code List<String>} would otherwise be
+ * applied to a {@code List<Integer>} attribute too. Such a converter is declared with {@link Convert} instead. A
+ * converter applied to a primitive attribute must not return {@code null}; the {@link Table} raises a
+ * {@link MappingException} when it does.</p>
+ *
+ * <pre>{@code
+ * ConverterRegistry registry = ConverterRegistry.load(EntityIndex.load(loader));
+ * Table<Person> table = registry.table(EntityMetadataLookup.find(Person.class).orElseThrow());
+ * Object column = table.read(person, 2);
+ * }</pre>
+ *
+ * <p>Instances are thread-safe.</p>
+ *
+ * @see Converter
+ * @since 1.0.0
+ */
+public final class ConverterRegistry {
+
+    private final Map<Class<?>, AttributeConverter<?, ?>> autoApplied;
+
+    private final Map<Class<?>, AttributeConverter<?, ?>> converters;
+
+    private final Map<Class<?>, Table<?>> tables = new ConcurrentHashMap<>();
+
+    private ConverterRegistry(Map<Class<?>, AttributeConverter<?, ?>> autoApplied,
+                              Map<Class<?>, AttributeConverter<?, ?>> converters) {
+        this.autoApplied = autoApplied;
+        this.converters = converters;
+    }
+
+    /**
+     * Creates a registry from the given converter classes. Each class is instantiated once, and the classes annotated
+     * with {@code @Converter(autoApply = true)} are applied to the attributes of their attribute type.
+     *
+     * @param types the converter classes
+     * @return the registry
+     * @throws NullPointerException when types or any of its elements is null
+     * @throws MappingException     when a class is not an {@link AttributeConverter} or cannot be instantiated, or
+     *                              when an auto-applied class has an attribute type that cannot be resolved, that is
+     *                              parameterized, or that another auto-applied converter already has
+     */
+    public static ConverterRegistry of(Iterable<? extends Class<?>> types) {
+        Objects.requireNonNull(types, "types is required");
+        Map<Class<?>, AttributeConverter<?, ?>> autoApplied = new HashMap<>();
+        Map<Class<?>, AttributeConverter<?, ?>> converters = new ConcurrentHashMap<>();
+        for (Class<?> type : types) {
+            Objects.requireNonNull(type, "type is required");
+            AttributeConverter<?, ?> converter = instantiate(type);
+            converters.put(type, converter);
+            Converter annotation = type.getAnnotation(Converter.class);
+            if (annotation != null && annotation.autoApply()) {
+                Class<?> attributeType = attributeType(type);
+                AttributeConverter<?, ?> existing = autoApplied.putIfAbsent(attributeType, converter);
+                if (existing != null && existing != converter) {
+                    throw new MappingException("The converters " + existing.getClass().getName() + " and "
+                            + type.getName() + " are both auto-applied to " + attributeType.getName());
+                }
+            }
+        }
+        return new ConverterRegistry(Collections.unmodifiableMap(autoApplied), converters);
+    }
+
+    /**
+     * Creates a registry from the classes annotated with {@link Converter} in the given index.
+     *
+     * @param index the entity index
+     * @return the registry
+     * @throws NullPointerException when index is null
+     * @throws MappingException     when an indexed converter does not exist or is invalid, as in {@link #of(Iterable)}
+     */
+    public static ConverterRegistry load(EntityIndex index) {
+        Objects.requireNonNull(index, "index is required");
+        return of(index.classes(EntityIndex.Kind.CONVERTER));
+    }
+
+    /**
+     * Returns the converter auto-applied to the given attribute type.
+     *
+     * @param attributeType the type of the attribute; a primitive type is looked up by its wrapper type
+     * @return the converter, or {@link Optional#empty()} when no converter is auto-applied to the type
+     * @throws NullPointerException when attributeType is null
+     */
+    public Optional<AttributeConverter<?, ?>> autoApplied(Class<?> attributeType) {
+        Objects.requireNonNull(attributeType, "attributeType is required");
+        return Optional.ofNullable(autoApplied.get(wrapper(attributeType)));
+    }
+
+    /**
+     * Returns the shared instance of the given converter class, instantiating it on first use when the registry was
+     * not created with it.
+     *
+     * @param type the converter class
+     * @return the converter instance
+     * @throws NullPointerException when type is null
+     * @throws MappingException     when the class is not an {@link AttributeConverter} or cannot be instantiated
+     */
+    public AttributeConverter<?, ?> converter(Class<?> type) {
+        Objects.requireNonNull(type, "type is required");
+        return converters.computeIfAbsent(type, ConverterRegistry::instantiate);
+    }
+
+    /**
+     * Returns the converter table of an entity or embeddable, resolving it on the first call for its type.
+     *
+     * @param metadata the metadata of the entity
+     * @param <T>      the entity type
+     * @return the immutable converter table
+     * @throws NullPointerException when metadata is null
+     * @throws MappingException     when a converter declared by {@link Convert} cannot be instantiated
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Table<T> table(EntityMetadata<T> metadata) {
+        Objects.requireNonNull(metadata, "metadata is required");
+        return (Table<T>) tables.computeIfAbsent(metadata.type(), type -> resolve(metadata));
+    }
+
+    /**
+     * Returns the attribute type of a converter class: the first type argument of {@link AttributeConverter}, resolved
+     * through its superclasses and interfaces.
+     *
+     * @param type the converter class
+     * @return the attribute type
+     * @throws NullPointerException when type is null
+     * @throws MappingException     when the class is not an {@link AttributeConverter}, or its attribute type is a
+     *                              parameterized type or a type variable that the class does not bind
+     */
+    public static Class<?> attributeType(Class<?> type) {
+        Objects.requireNonNull(type, "type is required");
+        if (!AttributeConverter.class.isAssignableFrom(type)) {
+            throw new MappingException("The class " + type.getName() + " is not an AttributeConverter");
+        }
+        Type attributeType = find(type, Map.of());
+        if (attributeType instanceof Class<?> resolved) {
+            return resolved;
+        }
+        if (attributeType instanceof ParameterizedType parameterized) {
+            throw new MappingException("The converter " + type.getName() + " has the parameterized attribute type "
+                    + parameterized.getTypeName() + ", which cannot be auto-applied; declare it with @Convert instead");
+        }
+        throw new MappingException("The attribute type of the converter " + type.getName() + " cannot be resolved");
+    }
+
+    @Override
+    public String toString() {
+        return "ConverterRegistry{autoApplied=" + autoApplied + '}';
+    }
+
+    private <T> Table<T> resolve(EntityMetadata<T> metadata) {
+        List<AttributeMetadata<T>> attributes = metadata.attributes();
+        AttributeConverter<?, ?>[] table = new AttributeConverter<?, ?>[attributes.size()];
+        for (int index = 0; index < table.length; index++) {
+            AttributeMetadata<T> attribute = attributes.get(index);
+            Optional<Class<? extends AttributeConverter<?, ?>>> declared = attribute.converter();
+            if (declared.isPresent()) {
+                table[index] = converter(declared.get());
+            } else if (!attribute.id()) {
+                table[index] = autoApplied.get(wrapper(attribute.type()));
+            }
+        }
+        return new Table<>(metadata, table);
+    }
+
+    private static AttributeConverter<?, ?> instantiate(Class<?> type) {
+        if (!AttributeConverter.class.isAssignableFrom(type)) {
+            throw new MappingException("The class " + type.getName() + " is not an AttributeConverter");
+        }
+        try {
+            return (AttributeConverter<?, ?>) type.getConstructor().newInstance();
+        } catch (ReflectiveOperationException exception) {
+            throw new MappingException("The converter " + type.getName() + " cannot be instantiated", exception);
+        }
+    }
+
+    private static Type find(Type type, Map<TypeVariable<?>, Type> bindings) {
+        if (type instanceof ParameterizedType parameterized) {
+            Class<?> raw = (Class<?>) parameterized.getRawType();
+            Type[] arguments = parameterized.getActualTypeArguments();
+            for (int index = 0; index < arguments.length; index++) {
+                arguments[index] = bindings.getOrDefault(arguments[index], arguments[index]);
+            }
+            if (raw == AttributeConverter.class) {
+                return arguments[0];
+            }
+            TypeVariable<?>[] parameters = raw.getTypeParameters();
+            Map<TypeVariable<?>, Type> rawBindings = new HashMap<>();
+            for (int index = 0; index < parameters.length; index++) {
+                rawBindings.put(parameters[index], arguments[index]);
+            }
+            return supertypes(raw, rawBindings);
+        }
+        if (type instanceof Class<?> raw && raw != AttributeConverter.class) {
+            return supertypes(raw, Map.of());
+        }
+        return null;
+    }
+
+    private static Type supertypes(Class<?> raw, Map<TypeVariable<?>, Type> bindings) {
+        for (Type supertype : raw.getGenericInterfaces()) {
+            Type found = find(supertype, bindings);
+            if (found != null) {
+                return found;
+            }
+        }
+        Type superclass = raw.getGenericSuperclass();
+        return superclass == null ? null : find(superclass, bindings);
+    }
+
+    private static Class<?> wrapper(Class<?> type) {
+        if (!type.isPrimitive()) {
+            return type;
+        }
+        return switch (type.getName()) {
+            case "int" -> Integer.class;
+            case "long" -> Long.class;
+            case "double" -> Double.class;
+            case "float" -> Float.class;
+            case "boolean" -> Boolean.class;
+            case "byte" -> Byte.class;
+            case "short" -> Short.class;
+            case "char" -> Character.class;
+            default -> Void.class;
+        };
+    }
+
+    /**
+     * The converter of each attribute of an {@link Entity} or {@link Embeddable}, resolved once by a
+     * {@code ConverterRegistry} and indexed by the position of the attribute in {@link EntityMetadata#attributes()}.
+     *
+     * <p>{@link #read(Object, int)} and {@link #write(Object, int, Object)} combine the accessors of the attribute with
+     * its converter, so that a provider maps an entity with one array access and one direct call per attribute. A
+     * provider that stores primitive columns can check whether {@link #converter(int)} is a
+     * {@link LongAttributeConverter}, {@link IntAttributeConverter} or {@link DoubleAttributeConverter} and call it
+     * without boxing.</p>
+     *
+     * <p>Instances are immutable and thread-safe, as long as the converters are.</p>
+     *
+     * @param <T> the entity type
+     */
+    public static final class Table<T> {
+
+        private final EntityMetadata<T> metadata;
+
+        private final List<AttributeMetadata<T>> attributes;
+
+        private final AttributeConverter<?, ?>[] converters;
+
+        private final boolean[] primitives;
+
+        private Table(EntityMetadata<T> metadata, AttributeConverter<?, ?>... converters) {
+            this.metadata = metadata;
+            this.attributes = metadata.attributes();
+            this.converters = converters;
+            this.primitives = new boolean[converters.length];
+            for (int index = 0; index < converters.length; index++) {
+                primitives[index] = attributes.get(index).type().isPrimitive();
+            }
+        }
+
+        /**
+         * Returns the metadata of the entity.
+         *
+         * @return the entity metadata
+         */
+        public EntityMetadata<T> metadata() {
+            return metadata;
+        }
+
+        /**
+         * Returns the number of attributes, which is the size of {@link EntityMetadata#attributes()}.
+         *
+         * @return the number of attributes
+         */
+        public int size() {
+            return converters.length;
+        }
+
+        /**
+         * Returns the converter of the attribute at the given position.
+         *
+         * @param index the position of the attribute in {@link EntityMetadata#attributes()}
+         * @return the converter, or {@code null} when the attribute has none
+         * @throws IndexOutOfBoundsException when index is not the position of an attribute
+         */
+        public AttributeConverter<?, ?> converter(int index) {
+            return converters[index];
+        }
+
+        /**
+         * Returns the converter of the attribute with the given field or column name.
+         *
+         * @param name the name of the field or of the column
+         * @return the converter, or {@link Optional#empty()} when the attribute does not exist or has no converter
+         * @throws NullPointerException when name is null
+         */
+        public Optional<AttributeConverter<?, ?>> converter(String name) {
+            Objects.requireNonNull(name, "name is required");
+            return metadata.attribute(name).map(attributes::indexOf).map(index -> converters[index]);
+        }
+
+        /**
+         * Reads the attribute at the given position and converts it to its database representation.
+         *
+         * @param entity the entity instance
+         * @param index  the position of the attribute in {@link EntityMetadata#attributes()}
+         * @return the column value, or the attribute value when the attribute has no converter
+         * @throws NullPointerException      when entity is null
+         * @throws IndexOutOfBoundsException when index is not the position of an attribute
+         */
+        @SuppressWarnings("unchecked")
+        public Object read(T entity, int index) {
+            Object value = attributes.get(index).get(entity);
+            AttributeConverter<Object, Object> converter = (AttributeConverter<Object, Object>) converters[index];
+            return converter == null ? value : converter.convertToDatabaseColumn(value);
+        }
+
+        /**
+         * Converts a column value to the attribute at the given position and writes it.
+         *
+         * @param entity the entity instance
+         * @param index  the position of the attribute in {@link EntityMetadata#attributes()}
+         * @param column the column value
+         * @throws NullPointerException          when entity is null
+         * @throws IndexOutOfBoundsException     when index is not the position of an attribute
+         * @throws ClassCastException            when the converted value is not an instance of the attribute type
+         * @throws MappingException              when the converter returns {@code null} for a primitive attribute
+         * @throws UnsupportedOperationException when the entity is {@linkplain EntityMetadata#immutable() immutable}
+         */
+        public void write(T entity, int index, Object column) {
+            attributes.get(index).set(entity, attribute(index, column));
+        }
+
+        /**
+         * Converts the column values of a row to the attributes, in place, and creates the entity through
+         * {@link EntityMetadata#newInstance(Object...)}, which is how an {@linkplain EntityMetadata#immutable()
+         * immutable} entity is read.
+         *
+         * @param columns the column values, indexed by the position of the attributes in
+         *                {@link EntityMetadata#attributes()}; the array is overwritten with the converted values
+         * @return a new instance of the entity
+         * @throws NullPointerException     when columns is null
+         * @throws IllegalArgumentException when the number of values differs from the number of attributes
+         * @throws MappingException         when a converter returns {@code null} for a primitive attribute
+         */
+        public T newInstance(Object... columns) {
+            if (columns.length != converters.length) {
+                throw new IllegalArgumentException("Expected " + converters.length + " values, but got "
+                        + columns.length);
+            }
+            for (int index = 0; index < columns.length; index++) {
+                columns[index] = attribute(index, columns[index]);
+            }
+            return metadata.newInstance(columns);
+        }
+
+        @SuppressWarnings("unchecked")
+        private Object attribute(int index, Object column) {
+            AttributeConverter<Object, Object> converter = (AttributeConverter<Object, Object>) converters[index];
+            if (converter == null) {
+                return column;
+            }
+            Object value = converter.convertToEntityAttribute(column);
+            if (value == null && primitives[index]) {
+                throw new MappingException("The converter " + converter.getClass().getName() + " returned null for the primitive attribute "
+                        + attributes.get(index).name() + " of " + metadata.type().getName());
+            }
+            return value;
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder builder = new StringBuilder(64).append("Table{type=").append(metadata.type().getName());
+            for (int index = 0; index < converters.length; index++) {
+                if (converters[index] != null) {
+                    builder.append(", ").append(attributes.get(index).name()).append('=')
+                            .append(converters[index].getClass().getName());
+                }
+            }
+            return builder.append('}').toString();
+        }
+    }
+}
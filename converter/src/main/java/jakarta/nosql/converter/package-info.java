@@ -0,0 +1,25 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+/**
+ * An optional converter registry for Jakarta NoSQL providers, built only on the Jakarta NoSQL API.
+ * <p>
+ * {@link jakarta.nosql.converter.ConverterRegistry} instantiates the converters listed in the
+ * {@link jakarta.nosql.EntityIndex} once and resolves the converter of every attribute of an entity into a table, so
+ * that a provider converts an attribute with a direct call. The registry is not part of the Jakarta NoSQL
+ * specification; a provider may resolve its converters in any other way that follows the rules of
+ * {@link jakarta.nosql.Converter}.
+ */
+package jakarta.nosql.converter;
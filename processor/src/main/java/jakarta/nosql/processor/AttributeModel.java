@@ -0,0 +1,35 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.nosql.processor;
+
+/**
+ * An attribute of an {@link EntityModel}, with the Java expressions that read and write it in the generated code.
+ *
+ * @param name      the name of the field
+ * @param column    the name of the column
+ * @param type      the erased type of the field, as written in source code
+ * @param castType  the type that a value is cast to before it is written, the wrapper for a primitive field
+ * @param id        whether the attribute is annotated with {@code @Id}
+ * @param udt       the name of the user-defined type
+ * @param converter the converter class, as written in source code, or {@code null} when there is none
+ * @param lazy      whether the column is annotated with {@code @Column(fetch = FetchType.LAZY)}
+ * @param getter    the expression that reads the attribute from a variable named {@code entity}
+ * @param setter    the statement that writes a variable named {@code value} into a variable named {@code entity}, or
+ *                  {@code null} when the entity is immutable
+ */
+record AttributeModel(String name, String column, String type, String castType, boolean id, String udt,
+                      String converter, boolean lazy, String getter, String setter) {
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.nosql.processor;
+
+import javax.lang.model.element.TypeElement;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The mapping of an entity or embeddable class read from its annotations, from which the metadata class is generated.
+ *
+ * @param element             the annotated class
+ * @param packageName         the package of the class and of the generated metadata
+ * @param type                the class, as written in source code
+ * @param metadata            the simple name of the generated metadata class
+ * @param name                the name of the entity
+ * @param embeddable          whether the class is an embeddable
+ * @param instantiable        whether the class is not abstract
+ * @param immutable           whether the class is created through a constructor that receives all its attributes
+ * @param attributes          the attributes, the inherited ones first
+ * @param discriminatorColumn the discriminator column, or {@code null} outside an inheritance hierarchy
+ * @param discriminatorValue  the discriminator value, or {@code null} outside an inheritance hierarchy
+ * @param subtypes            the concrete subtypes, including the class itself, keyed by their discriminator value
+ */
+record EntityModel(TypeElement element, String packageName, String type, String metadata, String name,
+                   boolean embeddable, boolean instantiable, boolean immutable, List<AttributeModel> attributes,
+                   String discriminatorColumn, String discriminatorValue, Map<String, String> subtypes) {
+
+    /**
+     * Returns a copy of this model with the given discriminator table.
+     *
+     * @param table the concrete subtypes keyed by their discriminator value
+     * @return the new model
+     */
+    public EntityModel withSubtypes(Map<String, String> table) {
+        return new EntityModel(element, packageName, type, metadata, name, embeddable, instantiable, immutable,
+                attributes, discriminatorColumn, discriminatorValue, table);
+    }
+
+    /**
+     * Returns whether the class is part of an inheritance hierarchy.
+     *
+     * @return {@code true} if the class has a discriminator
+     */
+    public boolean inheritance() {
+        return discriminatorColumn != null;
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.nosql.processor;
+
+import jakarta.nosql.EntityIndex;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Generates the {@link jakarta.nosql.EntityMetadata} of every class annotated with {@link jakarta.nosql.Entity} or
+ * {@link jakarta.nosql.Embeddable}, so that a Jakarta NoSQL provider can load the mapping of the entities through
+ * {@link jakarta.nosql.EntityMetadataLookup} instead of reflecting on them at startup.
+ *
+ * <p>The processor reads the {@code @Id}, {@code @Column}, {@code @Convert}, {@code @MappedSuperclass},
+ * {@code @Inheritance}, {@code @DiscriminatorColumn} and {@code @DiscriminatorValue} annotations. The discriminator
+ * table of an inheritance hierarchy covers the entities compiled together. A class whose constructor or attributes are
+ * not visible from its package is reported with a note and left to reflection.</p>
+ *
+ * <p>The processor also writes the {@link EntityIndex} of the classes annotated with {@code @Entity},
+ * {@code @Embeddable}, {@code @MappedSuperclass} or {@code @Converter}, so that the provider does not need to scan the
+ * classpath. A class annotated with {@code @Converter} that does not implement {@code AttributeConverter} is an
+ * error.</p>
+ *
+ * <pre>{@code
+ * <annotationProcessorPaths>
+ *     <path>
+ *         <groupId>jakarta.nosql</groupId>
+ *         <artifactId>jakarta.nosql-processor</artifactId>
+ *         <version>${jakarta.nosql.version}</version>
+ *     </path>
+ * </annotationProcessorPaths>
+ * }</pre>
+ */
+@SupportedAnnotationTypes({"jakarta.nosql.Entity", "jakarta.nosql.Embeddable", "jakarta.nosql.MappedSuperclass",
+        "jakarta.nosql.Converter"})
+public class EntityProcessor extends AbstractProcessor {
+
+    private EntityReader reader;
+
+    private MetadataWriter writer;
+
+    private IndexWriter index;
+
+    @Override
+    public synchronized void init(ProcessingEnvironment environment) {
+        super.init(environment);
+        this.reader = new EntityReader(environment);
+        this.writer = new MetadataWriter(environment.getFiler());
+        this.index = new IndexWriter(environment);
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment round) {
+        if (round.processingOver()) {
+            try {
+                index.write();
+            } catch (IOException exception) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                        "The entity index cannot be written: " + exception.getMessage());
+            }
+            return false;
+        }
+        Set<TypeElement> types = new LinkedHashSet<>();
+        for (TypeElement annotation : annotations) {
+            for (Element element : round.getElementsAnnotatedWith(annotation)) {
+                if (element instanceof TypeElement type) {
+                    types.add(type);
+                }
+            }
+        }
+        List<EntityModel> models = new ArrayList<>();
+        for (TypeElement type : types) {
+            EntityIndex.Kind kind = IndexWriter.kind(type);
+            if (kind == EntityIndex.Kind.CONVERTER && !converter(type)) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                        "A class annotated with @Converter must implement jakarta.nosql.AttributeConverter", type);
+                continue;
+            }
+            index.add(type, kind);
+            if (kind == EntityIndex.Kind.ENTITY || kind == EntityIndex.Kind.EMBEDDABLE) {
+                reader.read(type).ifPresent(models::add);
+            }
+        }
+        for (EntityModel model : models) {
+            try {
+                writer.write(model.inheritance() ? model.withSubtypes(subtypes(model, models)) : model);
+            } catch (IOException exception) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                        "The entity metadata cannot be written: " + exception.getMessage(), model.element());
+            }
+        }
+        return false;
+    }
+
+    private boolean converter(TypeElement type) {
+        Types types = processingEnv.getTypeUtils();
+        TypeElement converter = processingEnv.getElementUtils().getTypeElement("jakarta.nosql.AttributeConverter");
+        return converter != null && types.isAssignable(types.erasure(type.asType()), types.erasure(converter.asType()));
+    }
+
+    private Map<String, String> subtypes(EntityModel model, List<EntityModel> models) {
+        Types types = processingEnv.getTypeUtils();
+        Map<String, String> subtypes = new LinkedHashMap<>();
+        for (EntityModel candidate : models) {
+            if (candidate.inheritance() && candidate.instantiable() && types.isSubtype(
+                    types.erasure(candidate.element().asType()), types.erasure(model.element().asType()))) {
+                Optional.ofNullable(subtypes.putIfAbsent(candidate.discriminatorValue(), candidate.type()))
+                        .ifPresent(existing -> processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                                "The discriminator value " + candidate.discriminatorValue() + " is used by both "
+                                        + existing + " and " + candidate.type(), candidate.element()));
+            }
+        }
+        return subtypes;
+    }
+}
@@ -0,0 +1,387 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.nosql.processor;
+
+import jakarta.nosql.Column;
+import jakarta.nosql.Convert;
+import jakarta.nosql.DiscriminatorColumn;
+import jakarta.nosql.DiscriminatorValue;
+import jakarta.nosql.Embeddable;
+import jakarta.nosql.Entity;
+import jakarta.nosql.EntityMetadataLookup;
+import jakarta.nosql.FetchType;
+import jakarta.nosql.Id;
+import jakarta.nosql.Inheritance;
+import jakarta.nosql.MappedSuperclass;
+
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.RecordComponentElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Reads the mapping of an entity or embeddable class from its annotations, in the same way as a reflection-based
+ * provider does.
+ *
+ * <p>The metadata calls the accessors and the constructor of the class directly, so it can only be generated when they
+ * are visible from the package of the class. Otherwise, the reader reports a note and the provider falls back to
+ * reflection for that class.</p>
+ *
+ * <p>A record is created through its canonical constructor, and its attributes are the components annotated with
+ * {@code @Id} or {@code @Column}, read through their accessors. A class is created through the constructor whose
+ * parameters are all annotated with {@code @Id} or {@code @Column}, when it has one, and its attributes are then those
+ * parameters, read through the getter, the accessor or the field of the same name. Both are immutable.</p>
+ */
+final class EntityReader {
+
+    private final Elements elements;
+
+    private final Types types;
+
+    private final Messager messager;
+
+    /**
+     * Creates the reader.
+     *
+     * @param environment the processing environment
+     */
+    public EntityReader(ProcessingEnvironment environment) {
+        this.elements = environment.getElementUtils();
+        this.types = environment.getTypeUtils();
+        this.messager = environment.getMessager();
+    }
+
+    /**
+     * Reads the mapping of the given class.
+     *
+     * @param type the class annotated with {@code @Entity} or {@code @Embeddable}
+     * @return the model, or {@link Optional#empty()} when the metadata cannot be generated for the class
+     */
+    public Optional<EntityModel> read(TypeElement type) {
+        boolean record = type.getKind() == ElementKind.RECORD;
+        if (type.getKind() != ElementKind.CLASS && !record) {
+            return skip(type, "only classes and records are supported");
+        }
+        if (!accessible(type)) {
+            return skip(type, "the class must be visible from its package and nested classes must be static");
+        }
+        String packageName = elements.getPackageOf(type).getQualifiedName().toString();
+        List<ExecutableElement> constructors = record ? canonicalConstructor(type) : annotatedConstructors(type);
+        if (constructors.size() > 1) {
+            return skip(type, "more than one constructor has all its parameters annotated with @Id or @Column");
+        }
+        if (record && constructors.isEmpty()) {
+            return skip(type, "the canonical constructor of the record must not be private");
+        }
+        boolean immutable = !constructors.isEmpty();
+        boolean instantiable = !type.getModifiers().contains(Modifier.ABSTRACT);
+        if (immutable && superclass(type).filter(this::mapped).isPresent()) {
+            return skip(type, "an entity created through its constructor cannot inherit attributes");
+        }
+        if (instantiable && !immutable && !hasDefaultConstructor(type)) {
+            return skip(type, "the class needs a constructor without parameters that is not private, "
+                    + "or a constructor whose parameters are all annotated with @Id or @Column");
+        }
+        List<AttributeModel> attributes = new ArrayList<>();
+        for (VariableElement element : immutable ? constructorAttributes(type, constructors.get(0)) : fields(type)) {
+            if (element.getAnnotation(Id.class) == null && element.getAnnotation(Column.class) == null) {
+                return skip(type, describe(type, element) + " must be annotated with @Id or @Column");
+            }
+            Optional<AttributeModel> attribute = attribute(type, packageName, element, immutable);
+            if (attribute.isEmpty()) {
+                return skip(type, describe(type, element) + " has no visible accessors or field");
+            }
+            attributes.add(attribute.get());
+        }
+        boolean embeddable = type.getAnnotation(Embeddable.class) != null;
+        String simpleName = type.getSimpleName().toString();
+        Entity entity = type.getAnnotation(Entity.class);
+        String name = embeddable || entity == null || entity.value().isBlank() ? simpleName : entity.value();
+        String binaryName = elements.getBinaryName(type).toString();
+        String metadata = binaryName.substring(packageName.isEmpty() ? 0 : packageName.length() + 1)
+                .replace('$', '_') + EntityMetadataLookup.SUFFIX;
+
+        String discriminatorColumn = null;
+        String discriminatorValue = null;
+        Optional<TypeElement> root = inheritanceRoot(type);
+        if (root.isPresent()) {
+            DiscriminatorColumn column = root.get().getAnnotation(DiscriminatorColumn.class);
+            discriminatorColumn = column == null ? DiscriminatorColumn.DEFAULT_DISCRIMINATOR_COLUMN : column.value();
+            DiscriminatorValue value = type.getAnnotation(DiscriminatorValue.class);
+            discriminatorValue = value == null ? simpleName : value.value();
+        }
+        return Optional.of(new EntityModel(type, packageName, type.getQualifiedName().toString(), metadata, name,
+                embeddable, instantiable, immutable, List.copyOf(attributes), discriminatorColumn, discriminatorValue,
+                Map.of()));
+    }
+
+    private Optional<EntityModel> skip(TypeElement type, String reason) {
+        messager.printMessage(Diagnostic.Kind.NOTE, "The entity metadata of " + type.getQualifiedName()
+                + " is not generated, the provider uses reflection instead: " + reason, type);
+        return Optional.empty();
+    }
+
+    private Optional<AttributeModel> attribute(TypeElement type, String packageName, VariableElement element,
+                                               boolean immutable) {
+        String name = element.getSimpleName().toString();
+        TypeMirror fieldType = types.erasure(element.asType());
+        String typeName = fieldType.toString();
+        boolean primitive = fieldType.getKind().isPrimitive();
+        String castType = primitive ? types.boxedClass(types.getPrimitiveType(fieldType.getKind())).getQualifiedName().toString()
+                : typeName;
+        Optional<VariableElement> field = element.getKind() == ElementKind.FIELD ? Optional.of(element)
+                : ElementFilter.fieldsIn(type.getEnclosedElements()).stream()
+                .filter(candidate -> candidate.getSimpleName().contentEquals(name)).findFirst().map(VariableElement.class::cast);
+        boolean visibleField = field.filter(candidate -> visible(candidate, packageName)).isPresent();
+
+        String suffix = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+        Optional<ExecutableElement> getter = immutable ? method(type, packageName, name, fieldType, null)
+                : Optional.empty();
+        if (getter.isEmpty()) {
+            getter = method(type, packageName, "get" + suffix, fieldType, null);
+        }
+        if (getter.isEmpty() && fieldType.getKind() == TypeKind.BOOLEAN) {
+            getter = method(type, packageName, "is" + suffix, fieldType, null);
+        }
+
+        String read;
+        if (getter.isPresent()) {
+            read = "entity." + getter.get().getSimpleName() + "()";
+        } else if (visibleField) {
+            read = "entity." + name;
+        } else {
+            return Optional.empty();
+        }
+        String write = null;
+        if (!immutable) {
+            Optional<ExecutableElement> setter = method(type, packageName, "set" + suffix, null, fieldType);
+            if (setter.isPresent()) {
+                write = "entity." + setter.get().getSimpleName() + "((" + castType + ") value)";
+            } else if (visibleField && !element.getModifiers().contains(Modifier.FINAL)) {
+                write = "entity." + name + " = (" + castType + ") value";
+            } else {
+                return Optional.empty();
+            }
+        }
+
+        Id id = element.getAnnotation(Id.class);
+        Column column = element.getAnnotation(Column.class);
+        String columnName;
+        if (id != null) {
+            columnName = id.value();
+        } else {
+            columnName = column.value().isBlank() ? name : column.value();
+        }
+        String udt = column == null ? "" : column.udt();
+        boolean lazy = id == null && column.fetch() == FetchType.LAZY;
+        if (lazy && immutable) {
+            messager.printMessage(Diagnostic.Kind.WARNING, "@Column(fetch = FetchType.LAZY) has no effect on "
+                    + describe(type, element) + " of " + type.getQualifiedName()
+                    + ": an entity created through its constructor always loads all its attributes", element);
+        }
+        return Optional.of(new AttributeModel(name, columnName, typeName, castType, id != null, udt,
+                converter(element), lazy && !immutable, read, write));
+    }
+
+    private static String describe(TypeElement type, VariableElement element) {
+        if (type.getKind() == ElementKind.RECORD) {
+            return "the record component " + element.getSimpleName();
+        }
+        if (element.getKind() == ElementKind.PARAMETER) {
+            return "the constructor parameter " + element.getSimpleName();
+        }
+        return "the attribute " + element.getSimpleName();
+    }
+
+    private List<VariableElement> fields(TypeElement type) {
+        List<VariableElement> fields = new ArrayList<>();
+        for (TypeElement declaring : hierarchy(type)) {
+            for (VariableElement field : ElementFilter.fieldsIn(declaring.getEnclosedElements())) {
+                if (!field.getModifiers().contains(Modifier.STATIC)
+                        && (field.getAnnotation(Id.class) != null || field.getAnnotation(Column.class) != null)) {
+                    fields.add(field);
+                }
+            }
+        }
+        return fields;
+    }
+
+    private List<VariableElement> constructorAttributes(TypeElement type, ExecutableElement constructor) {
+        if (type.getKind() != ElementKind.RECORD) {
+            return List.copyOf(constructor.getParameters());
+        }
+        List<VariableElement> fields = new ArrayList<>();
+        for (RecordComponentElement component : type.getRecordComponents()) {
+            ElementFilter.fieldsIn(type.getEnclosedElements()).stream()
+                    .filter(field -> field.getSimpleName().contentEquals(component.getSimpleName()))
+                    .findFirst()
+                    .ifPresent(fields::add);
+        }
+        return fields;
+    }
+
+    private List<ExecutableElement> canonicalConstructor(TypeElement type) {
+        List<? extends RecordComponentElement> components = type.getRecordComponents();
+        return ElementFilter.constructorsIn(type.getEnclosedElements()).stream()
+                .filter(constructor -> !constructor.getModifiers().contains(Modifier.PRIVATE))
+                .filter(constructor -> sameTypes(constructor.getParameters(), components))
+                .toList();
+    }
+
+    private boolean sameTypes(List<? extends VariableElement> parameters, List<? extends RecordComponentElement> components) {
+        if (parameters.size() != components.size()) {
+            return false;
+        }
+        for (int index = 0; index < parameters.size(); index++) {
+            if (!types.isSameType(types.erasure(parameters.get(index).asType()),
+                    types.erasure(components.get(index).asType()))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private List<ExecutableElement> annotatedConstructors(TypeElement type) {
+        return ElementFilter.constructorsIn(type.getEnclosedElements()).stream()
+                .filter(constructor -> !constructor.getModifiers().contains(Modifier.PRIVATE))
+                .filter(constructor -> !constructor.getParameters().isEmpty() && constructor.getParameters().stream()
+                        .allMatch(parameter -> parameter.getAnnotation(Id.class) != null
+                                || parameter.getAnnotation(Column.class) != null))
+                .toList();
+    }
+
+    private boolean mapped(TypeElement type) {
+        return type.getAnnotation(Entity.class) != null || type.getAnnotation(MappedSuperclass.class) != null;
+    }
+
+    private Optional<ExecutableElement> method(TypeElement type, String packageName, String name,
+                                               TypeMirror returnType, TypeMirror parameterType) {
+        for (ExecutableElement method : ElementFilter.methodsIn(elements.getAllMembers(type))) {
+            if (!method.getSimpleName().contentEquals(name) || method.getModifiers().contains(Modifier.STATIC)
+                    || !visible(method, packageName)) {
+                continue;
+            }
+            List<? extends VariableElement> parameters = method.getParameters();
+            if (returnType != null && parameters.isEmpty()
+                    && types.isSameType(types.erasure(method.getReturnType()), returnType)) {
+                return Optional.of(method);
+            }
+            if (parameterType != null && parameters.size() == 1
+                    && types.isSameType(types.erasure(parameters.get(0).asType()), parameterType)) {
+                return Optional.of(method);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private String converter(VariableElement element) {
+        for (AnnotationMirror annotation : element.getAnnotationMirrors()) {
+            TypeElement annotationType = (TypeElement) annotation.getAnnotationType().asElement();
+            if (!annotationType.getQualifiedName().contentEquals(Convert.class.getName())) {
+                continue;
+            }
+            for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry
+                    : annotation.getElementValues().entrySet()) {
+                if (entry.getKey().getSimpleName().contentEquals("value")) {
+                    return types.erasure((TypeMirror) entry.getValue().getValue()).toString();
+                }
+            }
+        }
+        return null;
+    }
+
+    private Deque<TypeElement> hierarchy(TypeElement type) {
+        Deque<TypeElement> hierarchy = new ArrayDeque<>();
+        hierarchy.addFirst(type);
+        Optional<TypeElement> parent = superclass(type);
+        while (parent.isPresent() && mapped(parent.get())) {
+            hierarchy.addFirst(parent.get());
+            parent = superclass(parent.get());
+        }
+        return hierarchy;
+    }
+
+    private Optional<TypeElement> inheritanceRoot(TypeElement type) {
+        Optional<TypeElement> root = Optional.empty();
+        Optional<TypeElement> current = Optional.of(type);
+        while (current.isPresent()) {
+            if (current.get().getAnnotation(Inheritance.class) != null) {
+                root = current;
+            }
+            current = superclass(current.get());
+        }
+        return root;
+    }
+
+    private Optional<TypeElement> superclass(TypeElement type) {
+        TypeMirror superclass = type.getSuperclass();
+        if (superclass.getKind() != TypeKind.DECLARED) {
+            return Optional.empty();
+        }
+        return Optional.of((TypeElement) ((DeclaredType) superclass).asElement());
+    }
+
+    private boolean hasDefaultConstructor(TypeElement type) {
+        return ElementFilter.constructorsIn(type.getEnclosedElements()).stream()
+                .anyMatch(constructor -> constructor.getParameters().isEmpty()
+                        && !constructor.getModifiers().contains(Modifier.PRIVATE));
+    }
+
+    private boolean accessible(TypeElement type) {
+        Element current = type;
+        while (current.getKind().isClass() || current.getKind().isInterface()) {
+            if (current.getModifiers().contains(Modifier.PRIVATE)) {
+                return false;
+            }
+            Element enclosing = current.getEnclosingElement();
+            if ((enclosing.getKind().isClass() || enclosing.getKind().isInterface())
+                    && !current.getModifiers().contains(Modifier.STATIC)
+                    && current.getKind() == ElementKind.CLASS && enclosing.getKind() == ElementKind.CLASS) {
+                return false;
+            }
+            current = enclosing;
+        }
+        return true;
+    }
+
+    private boolean visible(Element member, String packageName) {
+        if (member.getModifiers().contains(Modifier.PUBLIC)) {
+            return true;
+        }
+        return !member.getModifiers().contains(Modifier.PRIVATE)
+                && elements.getPackageOf(member).getQualifiedName().contentEquals(packageName);
+    }
+}
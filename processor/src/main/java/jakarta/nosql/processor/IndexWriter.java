@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.nosql.processor;
+
+import jakarta.nosql.Converter;
+import jakarta.nosql.Embeddable;
+import jakarta.nosql.Entity;
+import jakarta.nosql.EntityIndex;
+import jakarta.nosql.MappedSuperclass;
+
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.Elements;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.annotation.Annotation;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Collects the annotated classes of a compilation and writes them to the {@link EntityIndex} resource.
+ *
+ * <p>On an incremental compilation, only the changed classes are processed; the entries of the previous index whose
+ * classes still exist with the same annotation are kept, so the index always covers the whole output directory.</p>
+ */
+final class IndexWriter {
+
+    private final Filer filer;
+
+    private final Elements elements;
+
+    private final Map<String, EntityIndex.Kind> entries = new TreeMap<>();
+
+    /**
+     * Creates the writer and reads the index left by a previous compilation, if any.
+     *
+     * @param environment the processing environment
+     */
+    public IndexWriter(ProcessingEnvironment environment) {
+        this.filer = environment.getFiler();
+        this.elements = environment.getElementUtils();
+        readPrevious();
+    }
+
+    /**
+     * Adds a class to the index.
+     *
+     * @param type the annotated class
+     * @param kind the kind of class
+     */
+    public void add(TypeElement type, EntityIndex.Kind kind) {
+        entries.put(elements.getBinaryName(type).toString(), kind);
+    }
+
+    /**
+     * Writes the index, when it has any entry.
+     *
+     * @throws IOException when the resource cannot be written
+     */
+    public void write() throws IOException {
+        if (entries.isEmpty()) {
+            return;
+        }
+        FileObject resource = filer.createResource(StandardLocation.CLASS_OUTPUT, "", EntityIndex.LOCATION);
+        try (Writer writer = resource.openWriter()) {
+            writer.write("# Generated by the Jakarta NoSQL annotation processor\n");
+            for (Map.Entry<String, EntityIndex.Kind> entry : entries.entrySet()) {
+                writer.write(entry.getValue().name() + ' ' + entry.getKey() + '\n');
+            }
+        }
+    }
+
+    private void readPrevious() {
+        try {
+            FileObject previous = filer.getResource(StandardLocation.CLASS_OUTPUT, "", EntityIndex.LOCATION);
+            try (BufferedReader reader = new BufferedReader(previous.openReader(true))) {
+                String line = reader.readLine();
+                while (line != null) {
+                    readEntry(line.strip());
+                    line = reader.readLine();
+                }
+            }
+        } catch (IOException | IllegalArgumentException exception) {
+            // no previous index, or an unreadable one that the new index replaces
+            entries.clear();
+        }
+    }
+
+    private void readEntry(String line) {
+        int separator = line.indexOf(' ');
+        if (line.isEmpty() || line.charAt(0) == '#' || separator < 0) {
+            return;
+        }
+        EntityIndex.Kind kind = EntityIndex.Kind.valueOf(line.substring(0, separator));
+        String name = line.substring(separator + 1);
+        TypeElement type = elements.getTypeElement(name.replace('$', '.'));
+        if (type != null && type.getAnnotation(annotation(kind)) != null) {
+            entries.put(name, kind);
+        }
+    }
+
+    private static Class<? extends Annotation> annotation(EntityIndex.Kind kind) {
+        return switch (kind) {
+            case ENTITY -> Entity.class;
+            case EMBEDDABLE -> Embeddable.class;
+            case MAPPED_SUPERCLASS -> MappedSuperclass.class;
+            case CONVERTER -> Converter.class;
+        };
+    }
+
+    /**
+     * Returns the kind of the given annotated class.
+     *
+     * @param element the annotated class
+     * @return the kind of class, checking {@link Entity} first
+     */
+    public static EntityIndex.Kind kind(Element element) {
+        if (element.getAnnotation(Entity.class) != null) {
+            return EntityIndex.Kind.ENTITY;
+        }
+        if (element.getAnnotation(Embeddable.class) != null) {
+            return EntityIndex.Kind.EMBEDDABLE;
+        }
+        if (element.getAnnotation(MappedSuperclass.class) != null) {
+            return EntityIndex.Kind.MAPPED_SUPERCLASS;
+        }
+        return EntityIndex.Kind.CONVERTER;
+    }
+}
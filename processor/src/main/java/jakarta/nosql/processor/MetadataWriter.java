@@ -0,0 +1,347 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.nosql.processor;
+
+import javax.annotation.processing.Filer;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes the source code of the {@link jakarta.nosql.EntityMetadata} implementation of an {@link EntityModel}.
+ *
+ * <p>The generated class keeps the attributes in a constant list and reads and writes them through a {@code switch}
+ * over their position, so that loading it links no lambda and calls no reflection. Every type is written with its
+ * qualified name, which avoids any clash with the simple names of the entity package.</p>
+ */
+final class MetadataWriter {
+
+    private static final String TEMPLATE = """
+            /**
+             * The metadata of {@link $TYPE}, generated by the Jakarta NoSQL annotation processor.
+             */
+            @SuppressWarnings({"unchecked", "rawtypes"})
+            public final class $METADATA implements jakarta.nosql.EntityMetadata<$TYPE> {
+
+                private static final java.util.List<jakarta.nosql.AttributeMetadata<$TYPE>> ATTRIBUTES = java.util.List.of($ATTRIBUTES);
+
+                private static final jakarta.nosql.AttributeMetadata<$TYPE> ID = $ID;
+
+                private static final java.util.Map<String, Class<? extends $TYPE>> SUBTYPES = java.util.Map.ofEntries($SUBTYPES);
+
+                @Override
+                public Class<$TYPE> type() {
+                    return $TYPE.class;
+                }
+
+                @Override
+                public String name() {
+                    return $NAME;
+                }
+
+                @Override
+                public boolean embeddable() {
+                    return $EMBEDDABLE;
+                }
+
+                @Override
+                public java.util.Optional<jakarta.nosql.AttributeMetadata<$TYPE>> id() {
+                    return java.util.Optional.ofNullable(ID);
+                }
+
+                @Override
+                public java.util.List<jakarta.nosql.AttributeMetadata<$TYPE>> attributes() {
+                    return ATTRIBUTES;
+                }
+
+                @Override
+                public java.util.Optional<jakarta.nosql.AttributeMetadata<$TYPE>> attribute(String name) {
+                    java.util.Objects.requireNonNull(name, "name is required");
+                    for (jakarta.nosql.AttributeMetadata<$TYPE> attribute : ATTRIBUTES) {
+                        if (attribute.name().equals(name) || attribute.column().equals(name)) {
+                            return java.util.Optional.of(attribute);
+                        }
+                    }
+                    return java.util.Optional.empty();
+                }
+
+                @Override
+                public boolean immutable() {
+                    return $IMMUTABLE;
+                }
+
+                @Override
+                public $TYPE newInstance() {
+                    $NEW_INSTANCE
+                }
+
+                @Override
+                public $TYPE newInstance(Object... values) {
+                    if (values.length != ATTRIBUTES.size()) {
+                        throw new IllegalArgumentException("Expected " + ATTRIBUTES.size() + " values, but got " + values.length);
+                    }
+            $CREATE    }
+
+                @Override
+                public java.util.Optional<String> discriminatorColumn() {
+                    return $DISCRIMINATOR_COLUMN;
+                }
+
+                @Override
+                public java.util.Optional<String> discriminatorValue() {
+                    return $DISCRIMINATOR_VALUE;
+                }
+
+                @Override
+                public java.util.Map<String, Class<? extends $TYPE>> subtypes() {
+                    return SUBTYPES;
+                }
+
+                private static final class Attribute implements jakarta.nosql.AttributeMetadata<$TYPE> {
+
+                    private final int index;
+
+                    private final String name;
+
+                    private final String column;
+
+                    private final Class<?> type;
+
+                    private final boolean id;
+
+                    private final String udt;
+
+                    private final Class<? extends jakarta.nosql.AttributeConverter<?, ?>> converter;
+
+                    private final jakarta.nosql.FetchType fetch;
+
+                    private Attribute(int index, String name, String column, Class<?> type, boolean id, String udt,
+                                      Class<? extends jakarta.nosql.AttributeConverter<?, ?>> converter,
+                                      jakarta.nosql.FetchType fetch) {
+                        this.index = index;
+                        this.name = name;
+                        this.column = column;
+                        this.type = type;
+                        this.id = id;
+                        this.udt = udt;
+                        this.converter = converter;
+                        this.fetch = fetch;
+                    }
+
+                    @Override
+                    public String name() {
+                        return name;
+                    }
+
+                    @Override
+                    public String column() {
+                        return column;
+                    }
+
+                    @Override
+                    public Class<?> type() {
+                        return type;
+                    }
+
+                    @Override
+                    public boolean id() {
+                        return id;
+                    }
+
+                    @Override
+                    public String udt() {
+                        return udt;
+                    }
+
+                    @Override
+                    public java.util.Optional<Class<? extends jakarta.nosql.AttributeConverter<?, ?>>> converter() {
+                        return java.util.Optional.ofNullable(converter);
+                    }
+
+                    @Override
+                    public jakarta.nosql.FetchType fetch() {
+                        return fetch;
+                    }
+
+                    @Override
+                    public Object get($TYPE entity) {
+                        switch (index) {
+            $GET                default:
+                                throw new IllegalStateException("Unknown attribute " + name);
+                        }
+                    }
+
+                    @Override
+                    public void set($TYPE entity, Object value) {
+                        switch (index) {
+            $SET                default:
+                                throw new IllegalStateException("Unknown attribute " + name);
+                        }
+                    }
+                }
+            }
+            """;
+
+    private final Filer filer;
+
+    /**
+     * Creates the writer.
+     *
+     * @param filer the filer of the processing environment
+     */
+    public MetadataWriter(Filer filer) {
+        this.filer = filer;
+    }
+
+    /**
+     * Generates the metadata class of the given model.
+     *
+     * @param model the entity model
+     * @throws IOException when the source file cannot be written
+     */
+    public void write(EntityModel model) throws IOException {
+        String qualifiedName = model.packageName().isEmpty() ? model.metadata()
+                : model.packageName() + '.' + model.metadata();
+        JavaFileObject file = filer.createSourceFile(qualifiedName, model.element());
+        try (Writer writer = file.openWriter()) {
+            writer.write(source(model));
+        }
+    }
+
+    private static String source(EntityModel model) {
+        String type = model.type();
+        List<AttributeModel> attributes = model.attributes();
+        StringBuilder constants = new StringBuilder(256);
+        StringBuilder get = new StringBuilder(256);
+        StringBuilder set = new StringBuilder(256);
+        for (int index = 0; index < attributes.size(); index++) {
+            AttributeModel attribute = attributes.get(index);
+            constants.append(index == 0 ? "\n" : ",\n").append("            new Attribute(").append(index).append(", ")
+                    .append(literal(attribute.name())).append(", ").append(literal(attribute.column())).append(", ")
+                    .append(attribute.type()).append(".class, ").append(attribute.id()).append(", ")
+                    .append(literal(attribute.udt())).append(", ")
+                    .append(attribute.converter() == null ? "null" : attribute.converter() + ".class")
+                    .append(attribute.lazy() ? ", jakarta.nosql.FetchType.LAZY)" : ", jakarta.nosql.FetchType.EAGER)");
+            get.append("                case ").append(index).append(":\n                    return ")
+                    .append(attribute.getter()).append(";\n");
+            set.append("                case ").append(index).append(":\n                    ");
+            if (attribute.setter() == null) {
+                set.append("throw new UnsupportedOperationException(").append(literal(type + " is immutable"))
+                        .append(");\n");
+            } else {
+                set.append(attribute.setter()).append(";\n                    return;\n");
+            }
+        }
+        StringBuilder subtypes = new StringBuilder(128);
+        for (Map.Entry<String, String> subtype : model.subtypes().entrySet()) {
+            subtypes.append(subtypes.isEmpty() ? "\n" : ",\n").append("            java.util.Map.entry(")
+                    .append(literal(subtype.getKey())).append(", ").append(subtype.getValue()).append(".class)");
+        }
+        int id = idIndex(attributes);
+        String packageDeclaration = model.packageName().isEmpty() ? "" : "package " + model.packageName() + ";\n\n";
+        String newInstance;
+        if (model.immutable()) {
+            newInstance = "throw new UnsupportedOperationException(" + literal(type + " is immutable") + ");";
+        } else if (model.instantiable()) {
+            newInstance = "return new " + type + "();";
+        } else {
+            newInstance = "throw new UnsupportedOperationException(" + literal(type + " is abstract") + ");";
+        }
+        return packageDeclaration + TEMPLATE.replace("$METADATA", model.metadata())
+                .replace("$ATTRIBUTES", constants)
+                .replace("$ID", id < 0 ? "null" : "ATTRIBUTES.get(" + id + ')')
+                .replace("$SUBTYPES", subtypes)
+                .replace("$NAME", literal(model.name()))
+                .replace("$EMBEDDABLE", Boolean.toString(model.embeddable()))
+                .replace("$NEW_INSTANCE", newInstance)
+                .replace("$CREATE", create(model))
+                .replace("$IMMUTABLE", Boolean.toString(model.immutable()))
+                .replace("$DISCRIMINATOR_COLUMN", optional(model.discriminatorColumn()))
+                .replace("$DISCRIMINATOR_VALUE", optional(model.discriminatorValue()))
+                .replace("$GET", get)
+                .replace("$SET", set)
+                .replace("$TYPE", type);
+    }
+
+    private static String create(EntityModel model) {
+        if (!model.instantiable()) {
+            return "        throw new UnsupportedOperationException(" + literal(model.type() + " is abstract") + ");\n";
+        }
+        if (!model.immutable()) {
+            return "        $TYPE entity = new $TYPE();\n"
+                    + "        for (int index = 0; index < values.length; index++) {\n"
+                    + "            if (values[index] != null) {\n"
+                    + "                ATTRIBUTES.get(index).set(entity, values[index]);\n"
+                    + "            }\n"
+                    + "        }\n"
+                    + "        return entity;\n";
+        }
+        List<AttributeModel> attributes = model.attributes();
+        StringBuilder create = new StringBuilder(64 + attributes.size() * 48).append("        return new $TYPE(");
+        for (int index = 0; index < attributes.size(); index++) {
+            AttributeModel attribute = attributes.get(index);
+            create.append(index == 0 ? "\n" : ",\n").append("                ");
+            if (attribute.type().equals(attribute.castType())) {
+                create.append('(').append(attribute.castType()).append(") values[").append(index).append(']');
+            } else {
+                create.append("values[").append(index).append("] == null ? ").append(defaultValue(attribute.type()))
+                        .append(" : (").append(attribute.castType()).append(") values[").append(index).append(']');
+            }
+        }
+        return create.append(");\n").toString();
+    }
+
+    private static String defaultValue(String primitive) {
+        return switch (primitive) {
+            case "boolean" -> "false";
+            case "char" -> "'\\0'";
+            case "long" -> "0L";
+            case "float" -> "0.0F";
+            case "double" -> "0.0D";
+            case "byte" -> "(byte) 0";
+            case "short" -> "(short) 0";
+            default -> "0";
+        };
+    }
+
+    private static int idIndex(List<AttributeModel> attributes) {
+        for (int index = 0; index < attributes.size(); index++) {
+            if (attributes.get(index).id()) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    private static String optional(String value) {
+        return value == null ? "java.util.Optional.empty()" : "java.util.Optional.of(" + literal(value) + ')';
+    }
+
+    private static String literal(String value) {
+        StringBuilder literal = new StringBuilder(value.length() + 2).append('"');
+        for (char character : value.toCharArray()) {
+            switch (character) {
+                case '"' -> literal.append("\\\"");
+                case '\\' -> literal.append("\\\\");
+                case '\n' -> literal.append("\\n");
+                default -> literal.append(character);
+            }
+        }
+        return literal.append('"').toString();
+    }
+}
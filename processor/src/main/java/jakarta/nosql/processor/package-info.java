@@ -0,0 +1,23 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+/**
+ * The Jakarta NoSQL annotation processor, which generates the {@link jakarta.nosql.EntityMetadata} of the classes
+ * annotated with {@link jakarta.nosql.Entity} or {@link jakarta.nosql.Embeddable} while the application is compiled.
+ * <p>
+ * Add the processor to the annotation processor path of the compiler; the generated classes are found at runtime
+ * through {@link jakarta.nosql.EntityMetadataLookup}.
+ */
+package jakarta.nosql.processor;
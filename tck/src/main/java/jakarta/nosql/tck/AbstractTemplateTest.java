@@ -16,8 +16,13 @@
 package jakarta.nosql.tck;
 
 import jakarta.nosql.Template;
+import jakarta.nosql.tck.entities.Person;
+import jakarta.nosql.tck.factories.PersonSupplier;
 import org.junit.jupiter.api.BeforeEach;
 
+import java.util.List;
+import java.util.stream.StreamSupport;
+
 public abstract class AbstractTemplateTest {
 
     protected Template template;
@@ -28,4 +33,23 @@ public abstract class AbstractTemplateTest {
         this.template = supplier.get();
     }
 
+    protected List<Person> insert(int size) {
+        List<Person> people = new PersonSupplier().list(size);
+        template.insert(people);
+        return people;
+    }
+
+    protected List<Person> insert(int size, String name) {
+        List<Person> people = new PersonSupplier().list(size, name);
+        template.insert(people);
+        return people;
+    }
+
+    protected void delete(List<Person> people) {
+        people.forEach(person -> template.delete(Person.class, person.getId()));
+    }
+
+    protected static List<Long> ids(Iterable<Person> people) {
+        return StreamSupport.stream(people.spliterator(), false).map(Person::getId).toList();
+    }
 }
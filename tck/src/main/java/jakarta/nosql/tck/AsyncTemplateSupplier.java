@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.nosql.tck;
+
+import jakarta.nosql.AsyncTemplate;
+
+import java.util.ServiceLoader;
+import java.util.function.Supplier;
+
+/**
+ * The {@code AsyncTemplateSupplier} interface provides a mechanism for obtaining instances of {@link AsyncTemplate},
+ * the non-blocking counterpart of {@link jakarta.nosql.Template}.
+ *
+ * <p>It follows the same rules as {@link TemplateSupplier}: the Jakarta NoSQL provider implements this interface as
+ * part of the Service Provider Interface (SPI), and the {@link AsyncTemplate} returned by {@link #get()} must be fully
+ * configured and ready for interaction with the same database used by the {@link TemplateSupplier}.</p>
+ *
+ * @see AsyncTemplate
+ * @see TemplateSupplier
+ * @since 1.0
+ */
+public interface AsyncTemplateSupplier extends Supplier<AsyncTemplate> {
+
+    /**
+     * Retrieves an instance of {@code AsyncTemplateSupplier} using the {@link ServiceLoader} mechanism.
+     *
+     * @return an instance of {@code AsyncTemplateSupplier}
+     * @throws IllegalStateException if no {@code AsyncTemplateSupplier} implementation is found
+     */
+    static AsyncTemplateSupplier template() {
+        ServiceLoader<AsyncTemplateSupplier> loader = ServiceLoader.load(AsyncTemplateSupplier.class);
+        return loader.findFirst().orElseThrow(() -> new IllegalStateException("The AsyncTemplate instance was not found"));
+    }
+}
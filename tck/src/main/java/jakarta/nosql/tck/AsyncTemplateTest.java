@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.nosql.tck;
+
+import jakarta.nosql.AsyncTemplate;
+import jakarta.nosql.NoSQLException;
+import jakarta.nosql.tck.entities.Person;
+import jakarta.nosql.tck.factories.PersonSupplier;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ArgumentsSource;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AsyncTemplateTest extends AbstractTemplateTest {
+
+    private static final int CONCURRENT_OPERATIONS = 500;
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    private AsyncTemplate asyncTemplate;
+
+    @BeforeEach
+    void setUpAsync() {
+        this.asyncTemplate = AsyncTemplateSupplier.template().get();
+    }
+
+    @ParameterizedTest
+    @ArgumentsSource(PersonSupplier.class)
+    @DisplayName("Should insert the person asynchronously: {0}")
+    void shouldInsert(Person entity) {
+        var person = asyncTemplate.insert(entity).toCompletableFuture().join();
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(person).isNotNull();
+            soft.assertThat(person.getId()).isNotNull();
+            soft.assertThat(person.getName()).isEqualTo(entity.getName());
+            soft.assertThat(person.getAge()).isEqualTo(entity.getAge());
+        });
+        asyncTemplate.delete(Person.class, person.getId()).toCompletableFuture().join();
+    }
+
+    @ParameterizedTest
+    @ArgumentsSource(PersonSupplier.class)
+    @DisplayName("Should see the result of each chained operation in order: {0}")
+    void shouldExecuteChainedOperationsInOrder(Person entity) {
+        Long id = entity.getId();
+        Optional<Person> updated = asyncTemplate.insert(entity)
+                .thenCompose(person -> {
+                    person.setName("Ada Lovelace");
+                    return asyncTemplate.update(person);
+                })
+                .thenCompose(person -> asyncTemplate.find(Person.class, id))
+                .toCompletableFuture().join();
+
+        Optional<Person> deleted = asyncTemplate.delete(Person.class, id)
+                .thenCompose(ignored -> asyncTemplate.find(Person.class, id))
+                .toCompletableFuture().join();
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(updated).isPresent().get().extracting(Person::getName).isEqualTo("Ada Lovelace");
+            soft.assertThat(deleted).isEmpty();
+        });
+    }
+
+    @ParameterizedTest
+    @ArgumentsSource(PersonSupplier.class)
+    @DisplayName("Should share the data with the blocking Template: {0}")
+    void shouldShareDataWithTemplate(Person entity) {
+        asyncTemplate.insert(entity).toCompletableFuture().join();
+
+        assertThat(template.find(Person.class, entity.getId())).isPresent()
+                .get().extracting(Person::getName).isEqualTo(entity.getName());
+        template.delete(Person.class, entity.getId());
+    }
+
+    @Test
+    @DisplayName("Should find multiple entities by their ids asynchronously, in the order of the ids")
+    void shouldFindAll() {
+        List<Person> people = insert(3);
+        List<Long> ids = ids(people);
+
+        Map<Long, Person> found = asyncTemplate.findAll(Person.class,
+                        List.of(ids.get(2), -1L, ids.get(0), ids.get(2), ids.get(1)))
+                .toCompletableFuture().join();
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(found.keySet()).containsExactly(ids.get(2), ids.get(0), ids.get(1));
+            found.forEach((id, person) -> soft.assertThat(person.getId()).isEqualTo(id));
+        });
+        delete(people);
+    }
+
+    @Test
+    @DisplayName("Should raise NullPointerException from the method call when arguments are null")
+    void shouldThrowNullPointerException() {
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThatThrownBy(() -> asyncTemplate.insert((Person) null)).isInstanceOf(NullPointerException.class);
+            soft.assertThatThrownBy(() -> asyncTemplate.update((Person) null)).isInstanceOf(NullPointerException.class);
+            soft.assertThatThrownBy(() -> asyncTemplate.find(null, 1L)).isInstanceOf(NullPointerException.class);
+            soft.assertThatThrownBy(() -> asyncTemplate.find(Person.class, null)).isInstanceOf(NullPointerException.class);
+            soft.assertThatThrownBy(() -> asyncTemplate.delete(Person.class, null)).isInstanceOf(NullPointerException.class);
+            soft.assertThatThrownBy(() -> asyncTemplate.findAll(null, List.of(1L))).isInstanceOf(NullPointerException.class);
+            soft.assertThatThrownBy(() -> asyncTemplate.findAll(Person.class, null)).isInstanceOf(NullPointerException.class);
+        });
+    }
+
+    @Test
+    @DisplayName("Should complete the stage exceptionally with a NoSQLException when the operation fails")
+    void shouldPropagateFailureAsNoSQLException() {
+        var stage = asyncTemplate.insert(new Unmapped("not an entity")).toCompletableFuture();
+
+        assertThatThrownBy(() -> stage.get(TIMEOUT.toSeconds(), TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .cause()
+                .isInstanceOf(NoSQLException.class);
+    }
+
+    @Test
+    @DisplayName("Should complete hundreds of concurrent operations without a thread per operation")
+    void shouldCompleteConcurrentOperations() {
+        List<Person> people = new PersonSupplier().list(CONCURRENT_OPERATIONS);
+
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        int threadsBefore = threads.getThreadCount();
+        threads.resetPeakThreadCount();
+
+        List<CompletableFuture<Optional<Person>>> lookups = people.stream()
+                .map(person -> asyncTemplate.insert(person)
+                        .thenCompose(inserted -> asyncTemplate.find(Person.class, inserted.getId()))
+                        .toCompletableFuture())
+                .toList();
+
+        CompletableFuture.allOf(lookups.toArray(CompletableFuture[]::new)).orTimeout(TIMEOUT.toSeconds(), TimeUnit.SECONDS).join();
+
+        int extraThreads = threads.getPeakThreadCount() - threadsBefore;
+        List<Long> found = lookups.stream().map(CompletableFuture::join)
+                .flatMap(Optional::stream)
+                .map(Person::getId)
+                .collect(Collectors.toList());
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(found).containsExactlyInAnyOrderElementsOf(ids(people));
+            soft.assertThat(extraThreads).isLessThan(CONCURRENT_OPERATIONS);
+        });
+        delete(people);
+    }
+
+    private record Unmapped(String name) {
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.nosql.tck;
+
+import jakarta.nosql.tck.entities.Counter;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+class AtomicUpdateTemplateTest extends AbstractTemplateTest {
+
+    private static final int THREADS = 8;
+
+    private static final int INCREMENTS = 250;
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(60);
+
+    @Test
+    @DisplayName("Should increment and decrement the column and return the new value")
+    void shouldIncrement() {
+        Counter counter = template.insert(counter("increment", 10L, 0));
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(template.increment(Counter.class, counter.getId(), "hits", 5L)).hasValue(15L);
+            soft.assertThat(template.increment(Counter.class, counter.getId(), "hits", -20L)).hasValue(-5L);
+            soft.assertThat(template.find(Counter.class, counter.getId()))
+                    .hasValueSatisfying(found -> soft.assertThat(found.getHits()).isEqualTo(-5L));
+        });
+        template.delete(Counter.class, counter.getId());
+    }
+
+    @Test
+    @DisplayName("Should return empty when incrementing an entity that does not exist")
+    void shouldReturnEmptyWhenIncrementingMissingEntity() {
+        OptionalLong hits = template.increment(Counter.class, "missing-counter", "hits", 1L);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(hits).isEmpty();
+            soft.assertThat(template.find(Counter.class, "missing-counter")).isEmpty();
+        });
+    }
+
+    @Test
+    @DisplayName("Should not lose any increment when several threads increment the same column")
+    void shouldNotLoseConcurrentIncrements() throws Exception {
+        Counter counter = template.insert(counter("concurrent-increment", 0L, 0));
+        CountDownLatch start = new CountDownLatch(1);
+        List<Callable<Long>> tasks = IntStream.range(0, THREADS).<Callable<Long>>mapToObj(thread -> () -> {
+            start.await();
+            long last = 0L;
+            for (int index = 0; index < INCREMENTS; index++) {
+                last = template.increment(Counter.class, counter.getId(), "hits", 1L).orElseThrow();
+            }
+            return last;
+        }).toList();
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<Long>> futures = tasks.stream().map(executor::submit).toList();
+            start.countDown();
+
+            SoftAssertions.assertSoftly(soft -> {
+                futures.forEach(future -> soft.assertThat(future).succeedsWithin(TIMEOUT)
+                        .satisfies(last -> soft.assertThat(last).isBetween(1L, (long) THREADS * INCREMENTS)));
+                soft.assertThat(template.find(Counter.class, counter.getId()))
+                        .hasValueSatisfying(found -> soft.assertThat(found.getHits()).isEqualTo((long) THREADS * INCREMENTS));
+            });
+        } finally {
+            executor.shutdownNow();
+        }
+        template.delete(Counter.class, counter.getId());
+    }
+
+    @Test
+    @DisplayName("Should write the entity only when the stored entity matches the guard")
+    void shouldUpdateIf() {
+        Counter counter = template.insert(counter("update-if", 1L, 1));
+        Counter changed = counter("update-if", 2L, 2);
+        Counter stale = counter("update-if", 3L, 2);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(template.updateIf(changed).where("version").eq(1).execute()).isTrue();
+            soft.assertThat(template.updateIf(stale).where("version").eq(1).execute()).isFalse();
+            soft.assertThat(template.updateIf(stale).where("version").eq(2).and("hits").gt(2L).execute()).isFalse();
+            soft.assertThat(template.find(Counter.class, counter.getId()))
+                    .hasValueSatisfying(found -> soft.assertThat(found.getHits()).isEqualTo(2L));
+        });
+        template.delete(Counter.class, counter.getId());
+    }
+
+    @Test
+    @DisplayName("Should not write the entity when there is no entity with the same id")
+    void shouldNotUpdateIfMissing() {
+        Counter counter = counter("missing-update-if", 1L, 1);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(template.updateIf(counter).where("version").eq(1).execute()).isFalse();
+            soft.assertThat(template.find(Counter.class, counter.getId())).isEmpty();
+        });
+    }
+
+    @Test
+    @DisplayName("Should let exactly one of the concurrent conditional updates win")
+    void shouldLetOneConditionalUpdateWin() throws Exception {
+        Counter counter = template.insert(counter("concurrent-update-if", 0L, 0));
+        CountDownLatch start = new CountDownLatch(1);
+        List<Callable<Boolean>> tasks = IntStream.range(0, THREADS).<Callable<Boolean>>mapToObj(thread -> () -> {
+            start.await();
+            return template.updateIf(counter(counter.getId(), thread, 1)).where("version").eq(0).execute();
+        }).toList();
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<Boolean>> futures = tasks.stream().map(executor::submit).toList();
+            start.countDown();
+            long winners = 0L;
+            for (Future<Boolean> future : futures) {
+                if (future.get(TIMEOUT.toSeconds(), TimeUnit.SECONDS)) {
+                    winners++;
+                }
+            }
+            long won = winners;
+
+            SoftAssertions.assertSoftly(soft -> {
+                soft.assertThat(won).isEqualTo(1L);
+                soft.assertThat(template.find(Counter.class, counter.getId()))
+                        .hasValueSatisfying(found -> soft.assertThat(found.getVersion()).isEqualTo(1));
+            });
+        } finally {
+            executor.shutdownNow();
+        }
+        template.delete(Counter.class, counter.getId());
+    }
+
+    @Test
+    @DisplayName("Should raise an exception when the column cannot be incremented")
+    void shouldThrowWhenColumnIsInvalid() {
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThatThrownBy(() -> template.increment(Counter.class, "counter", "unknown", 1L))
+                    .isInstanceOf(IllegalArgumentException.class);
+            soft.assertThatThrownBy(() -> template.increment(Counter.class, "counter", "id", 1L))
+                    .isInstanceOf(IllegalArgumentException.class);
+            soft.assertThatThrownBy(() -> template.increment(Counter.class, null, "hits", 1L))
+                    .isInstanceOf(NullPointerException.class);
+            soft.assertThatThrownBy(() -> template.increment(Counter.class, "counter", null, 1L))
+                    .isInstanceOf(NullPointerException.class);
+            soft.assertThatThrownBy(() -> template.updateIf(null)).isInstanceOf(NullPointerException.class);
+        });
+    }
+
+    private static Counter counter(String id, long hits, int version) {
+        Counter counter = new Counter();
+        counter.setId(id);
+        counter.setHits(hits);
+        counter.setVersion(version);
+        return counter;
+    }
+}
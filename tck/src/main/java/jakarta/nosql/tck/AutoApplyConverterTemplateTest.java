@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.nosql.tck;
+
+import jakarta.nosql.AttributeConverter;
+import jakarta.nosql.AttributeMetadata;
+import jakarta.nosql.EntityIndex;
+import jakarta.nosql.EntityMetadataLookup;
+import jakarta.nosql.MappingException;
+import jakarta.nosql.converter.ConverterRegistry;
+import jakarta.nosql.tck.entities.Assignment;
+import jakarta.nosql.tck.entities.DurationMillisConverter;
+import jakarta.nosql.tck.entities.DurationMinutesConverter;
+import jakarta.nosql.tck.entities.EpochMillisConverter;
+import jakarta.nosql.tck.entities.LevelConverter;
+import jakarta.nosql.tck.entities.Reading;
+import jakarta.nosql.tck.entities.TagsConverter;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+class AutoApplyConverterTemplateTest extends AbstractTemplateTest {
+
+    private static final Duration DURATION = Duration.ofSeconds(150);
+
+    @Test
+    @DisplayName("Should convert an attribute without @Convert through the converter auto-applied to its type")
+    void shouldAutoApplyConverter() {
+        Assignment assignment = assignment(1L);
+        template.insert(assignment);
+
+        Optional<Assignment> found = template.find(Assignment.class, assignment.getId());
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(found).isPresent();
+            soft.assertThat(found).get().extracting(Assignment::getEstimate).isEqualTo(DURATION);
+            soft.assertThat(found).get().extracting(Assignment::getName).isEqualTo(assignment.getName());
+        });
+        template.delete(Assignment.class, assignment.getId());
+    }
+
+    @Test
+    @DisplayName("Should give precedence to the converter declared by @Convert over the auto-applied converter")
+    void shouldPreferFieldConverter() {
+        Assignment assignment = assignment(2L);
+        template.insert(assignment);
+
+        Optional<Assignment> found = template.find(Assignment.class, assignment.getId());
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(found).isPresent();
+            soft.assertThat(found).get().extracting(Assignment::getSpent).isEqualTo(Duration.ofMinutes(2));
+            soft.assertThat(found).get().extracting(Assignment::getEstimate).isEqualTo(DURATION);
+        });
+        template.delete(Assignment.class, assignment.getId());
+    }
+
+    @Test
+    @DisplayName("Should convert the value of a query condition on an auto-applied attribute")
+    void shouldQueryAutoAppliedColumn() {
+        Assignment shorter = assignment(3L);
+        shorter.setEstimate(Duration.ofSeconds(30));
+        Assignment longer = assignment(4L);
+        template.insert(shorter);
+        template.insert(longer);
+
+        List<Assignment> found = template.select(Assignment.class)
+                .where("estimate").gt(Duration.ofMinutes(1))
+                .and("name").in(List.of(shorter.getName(), longer.getName()))
+                .result();
+
+        SoftAssertions.assertSoftly(soft -> soft.assertThat(found).containsExactly(longer));
+        template.delete(Assignment.class, shorter.getId());
+        template.delete(Assignment.class, longer.getId());
+    }
+
+    @Test
+    @DisplayName("Should resolve the converter table of an entity once, with @Convert first and the Id left alone")
+    void shouldResolveConverterTable() {
+        ConverterRegistry registry = ConverterRegistry.load(EntityIndex.load(Assignment.class.getClassLoader()));
+        ConverterRegistry.Table<Assignment> table = registry.table(EntityMetadataLookup.find(Assignment.class).orElseThrow());
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(table.converter("estimate")).get().isInstanceOf(DurationMillisConverter.class);
+            soft.assertThat(table.converter("spent")).get().isInstanceOf(DurationMinutesConverter.class);
+            soft.assertThat(table.converter("id")).isEmpty();
+            soft.assertThat(table.converter("name")).isEmpty();
+            soft.assertThat(registry.table(table.metadata())).isSameAs(table);
+            soft.assertThat(registry.autoApplied(Duration.class)).get().isInstanceOf(DurationMillisConverter.class);
+        });
+    }
+
+    @Test
+    @DisplayName("Should resolve the attribute type of a converter through its generic interfaces")
+    void shouldResolveAttributeType() {
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(ConverterRegistry.attributeType(DurationMillisConverter.class)).isEqualTo(Duration.class);
+            soft.assertThat(ConverterRegistry.attributeType(EpochMillisConverter.class)).isEqualTo(Instant.class);
+            soft.assertThatThrownBy(() -> ConverterRegistry.attributeType(AttributeConverter.class))
+                    .isInstanceOf(MappingException.class);
+        });
+    }
+
+    @Test
+    @DisplayName("Should refuse to auto-apply a converter whose attribute type is parameterized")
+    void shouldRejectParameterizedAttributeType() {
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThatThrownBy(() -> ConverterRegistry.attributeType(TagsConverter.class))
+                    .isInstanceOf(MappingException.class);
+            soft.assertThat(ConverterRegistry.of(List.of(TagsConverter.class)).converter(TagsConverter.class))
+                    .isInstanceOf(TagsConverter.class);
+        });
+    }
+
+    @Test
+    @DisplayName("Should apply the converter of a wrapper type to a primitive attribute and refuse a null value for it")
+    void shouldRejectNullForPrimitiveAttribute() {
+        ConverterRegistry registry = ConverterRegistry.load(EntityIndex.load(Reading.class.getClassLoader()));
+        ConverterRegistry.Table<Reading> table = registry.table(EntityMetadataLookup.find(Reading.class).orElseThrow());
+        List<AttributeMetadata<Reading>> attributes = table.metadata().attributes();
+        int level = attributes.indexOf(table.metadata().attribute("level").orElseThrow());
+        Reading reading = new Reading();
+        table.write(reading, level, "7");
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(table.converter(level)).isInstanceOf(LevelConverter.class);
+            soft.assertThat(reading.getLevel()).isEqualTo((short) 7);
+            soft.assertThatThrownBy(() -> table.write(reading, level, "")).isInstanceOf(MappingException.class);
+        });
+    }
+
+    private static Assignment assignment(Long id) {
+        Assignment assignment = new Assignment();
+        assignment.setId(id);
+        assignment.setName("assignment-" + id);
+        assignment.setEstimate(DURATION);
+        assignment.setSpent(DURATION);
+        return assignment;
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.nosql.tck;
+
+import jakarta.nosql.BatchOptions;
+import jakarta.nosql.tck.entities.Person;
+import jakarta.nosql.tck.factories.PersonSupplier;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+class BatchTemplateTest extends AbstractTemplateTest {
+
+    private static final int SIZE = 1_000;
+
+    private static Stream<Arguments> options() {
+        return Stream.of(
+                Arguments.of(BatchOptions.DEFAULT),
+                Arguments.of(BatchOptions.of(1)),
+                Arguments.of(BatchOptions.of(50).withParallelism(4).withOrdered(false)),
+                Arguments.of(BatchOptions.of(64).withParallelism(8).withOrdered(false)),
+                Arguments.of(BatchOptions.DEFAULT.withMaxBytes(4_096L).withOrdered(false)));
+    }
+
+    @ParameterizedTest
+    @MethodSource("options")
+    @DisplayName("Should insert in batches keeping the position of the entities: {0}")
+    void shouldInsert(BatchOptions options) {
+        List<Person> people = new PersonSupplier().list(SIZE);
+
+        Iterable<Person> inserted = template.insert(people, options);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(ids(inserted)).containsExactlyElementsOf(ids(people));
+            soft.assertThat(template.findAll(Person.class, ids(people))).hasSize(SIZE);
+        });
+        delete(people);
+    }
+
+    @ParameterizedTest
+    @MethodSource("options")
+    @DisplayName("Should update in batches keeping the position of the entities: {0}")
+    void shouldUpdate(BatchOptions options) {
+        List<Person> people = insert(SIZE);
+        people.forEach(person -> person.setName("Updated " + person.getId()));
+
+        Iterable<Person> updated = template.update(people, options);
+        Map<Long, Person> found = template.findAll(Person.class, ids(people));
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(ids(updated)).containsExactlyElementsOf(ids(people));
+            found.forEach((id, person) -> soft.assertThat(person.getName()).isEqualTo("Updated " + id));
+        });
+        delete(people);
+    }
+
+    @ParameterizedTest
+    @MethodSource("options")
+    @DisplayName("Should raise NullPointerException when the entities or options are null: {0}")
+    void shouldThrowNullPointerException(BatchOptions options) {
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThatThrownBy(() -> template.insert((Iterable<Person>) null, options))
+                    .isInstanceOf(NullPointerException.class);
+            soft.assertThatThrownBy(() -> template.insert(new PersonSupplier().list(SIZE), (BatchOptions) null))
+                    .isInstanceOf(NullPointerException.class);
+            soft.assertThatThrownBy(() -> template.update((Iterable<Person>) null, options))
+                    .isInstanceOf(NullPointerException.class);
+        });
+    }
+}
@@ -0,0 +1,221 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.nosql.tck;
+
+import jakarta.nosql.Blob;
+import jakarta.nosql.tck.entities.Attachment;
+import jakarta.nosql.tck.entities.BitSetConverter;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.BitSet;
+import java.util.zip.CRC32;
+
+class BinaryTemplateTest extends AbstractTemplateTest {
+
+    private static final int STREAM_SIZE = 32 * 1024 * 1024;
+
+    private static final byte[] BYTES = "Jakarta NoSQL binary content".getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    @DisplayName("Should store a ByteBuffer attribute without changing the position of the buffer")
+    void shouldStoreByteBuffer() {
+        ByteBuffer thumbnail = ByteBuffer.allocateDirect(BYTES.length).put(BYTES).flip();
+        Attachment attachment = attachment("binary-1");
+        attachment.setThumbnail(thumbnail);
+        template.insert(attachment);
+
+        Attachment found = template.find(Attachment.class, attachment.getId()).orElseThrow();
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(found.getThumbnail()).isEqualTo(ByteBuffer.wrap(BYTES));
+            soft.assertThat(thumbnail.position()).isZero();
+        });
+        template.delete(Attachment.class, attachment.getId());
+    }
+
+    @Test
+    @DisplayName("Should stream a large Blob in and out of the database without materializing it")
+    void shouldStreamBlob() throws IOException {
+        Attachment attachment = attachment("binary-2");
+        attachment.setContent(Blob.of(new PatternInputStream(STREAM_SIZE), STREAM_SIZE));
+        template.insert(attachment);
+
+        Blob content = template.find(Attachment.class, attachment.getId()).orElseThrow().getContent();
+        long actual = crc(content);
+        long expected = crc(Blob.of(new PatternInputStream(STREAM_SIZE), STREAM_SIZE));
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(content.length()).isEqualTo(STREAM_SIZE);
+            soft.assertThat(actual).isEqualTo(expected);
+        });
+        template.delete(Attachment.class, attachment.getId());
+    }
+
+    @Test
+    @DisplayName("Should store an InputStream attribute and read it back as a stream")
+    void shouldStoreInputStream() throws IOException {
+        Attachment attachment = attachment("binary-3");
+        attachment.setSource(new ByteArrayInputStream(BYTES));
+        template.insert(attachment);
+
+        Attachment found = template.find(Attachment.class, attachment.getId()).orElseThrow();
+        byte[] source;
+        try (InputStream stream = found.getSource()) {
+            source = stream.readAllBytes();
+        }
+
+        SoftAssertions.assertSoftly(soft -> soft.assertThat(source).isEqualTo(BYTES));
+        template.delete(Attachment.class, attachment.getId());
+    }
+
+    @Test
+    @DisplayName("Should convert an attribute through a ByteBuffer converter")
+    void shouldConvertThroughByteBuffer() {
+        BitSet flags = BitSet.valueOf(new long[]{0b1010_0110L, Long.MIN_VALUE});
+        Attachment attachment = attachment("binary-4");
+        attachment.setFlags(flags);
+        template.insert(attachment);
+
+        Attachment found = template.find(Attachment.class, attachment.getId()).orElseThrow();
+
+        SoftAssertions.assertSoftly(soft -> soft.assertThat(found.getFlags()).isEqualTo(flags));
+        template.delete(Attachment.class, attachment.getId());
+    }
+
+    @Test
+    @DisplayName("Should delegate the generic methods to the ByteBuffer ones, keeping null values")
+    void shouldBridgeGenericMethods() {
+        BitSetConverter converter = new BitSetConverter();
+        BitSet flags = BitSet.valueOf(BYTES);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(converter.convertToDatabaseColumn(flags)).isEqualTo(ByteBuffer.wrap(flags.toByteArray()));
+            soft.assertThat(converter.convertToEntityAttribute(ByteBuffer.wrap(BYTES))).isEqualTo(flags);
+            soft.assertThat(converter.convertToDatabaseColumn(null)).isNull();
+            soft.assertThat(converter.convertToEntityAttribute(null)).isNull();
+        });
+    }
+
+    @Test
+    @DisplayName("Should read a Blob over a buffer, an array or a file any number of times")
+    void shouldReadRepeatableBlobs() throws IOException {
+        Path file = Files.write(Files.createTempFile("blob", ".bin"), BYTES);
+        ByteBuffer buffer = ByteBuffer.wrap(BYTES);
+        Blob fromBuffer = Blob.of(buffer);
+        Blob fromArray = Blob.of(BYTES);
+        Blob fromFile = Blob.of(file);
+
+        SoftAssertions.assertSoftly(soft -> {
+            for (Blob blob : new Blob[]{fromBuffer, fromArray, fromFile}) {
+                soft.assertThat(blob.length()).isEqualTo(BYTES.length);
+                soft.assertThat(blob.openStream()).hasBinaryContent(BYTES);
+                soft.assertThat(blob.openStream()).hasBinaryContent(BYTES);
+                soft.assertThat(blob.toByteBuffer()).isEqualTo(ByteBuffer.wrap(BYTES));
+                soft.assertThat(blob.toByteBuffer().isReadOnly()).isTrue();
+            }
+            soft.assertThat(buffer.position()).isZero();
+        });
+        Files.delete(file);
+    }
+
+    @Test
+    @DisplayName("Should read a Blob over a stream only once")
+    void shouldReadStreamBlobOnce() {
+        Blob blob = Blob.of(new ByteArrayInputStream(BYTES), BYTES.length);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(blob.length()).isEqualTo(BYTES.length);
+            soft.assertThat(blob.toByteBuffer()).isEqualTo(ByteBuffer.wrap(BYTES));
+            soft.assertThatThrownBy(blob::openStream).isInstanceOf(IllegalStateException.class);
+            soft.assertThatThrownBy(() -> Blob.of(new ByteArrayInputStream(BYTES), -2))
+                    .isInstanceOf(IllegalArgumentException.class);
+            soft.assertThatThrownBy(() -> Blob.of((byte[]) null)).isInstanceOf(NullPointerException.class);
+        });
+    }
+
+    private static Attachment attachment(String id) {
+        Attachment attachment = new Attachment();
+        attachment.setId(id);
+        attachment.setName("Attachment " + id);
+        return attachment;
+    }
+
+    private static long crc(Blob blob) throws IOException {
+        CRC32 crc = new CRC32();
+        byte[] chunk = new byte[8192];
+        try (InputStream stream = blob.openStream()) {
+            int read = stream.read(chunk);
+            while (read >= 0) {
+                crc.update(chunk, 0, read);
+                read = stream.read(chunk);
+            }
+        }
+        return crc.getValue();
+    }
+
+    /**
+     * Generates a deterministic sequence of bytes without holding them in memory.
+     */
+    private static final class PatternInputStream extends InputStream {
+
+        private final long size;
+
+        private long position;
+
+        private PatternInputStream(long size) {
+            super();
+            this.size = size;
+        }
+
+        @Override
+        public int read() {
+            if (position >= size) {
+                return -1;
+            }
+            return next();
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            if (length == 0) {
+                return 0;
+            }
+            if (position >= size) {
+                return -1;
+            }
+            int count = (int) Math.min(length, size - position);
+            for (int index = 0; index < count; index++) {
+                bytes[offset + index] = (byte) next();
+            }
+            return count;
+        }
+
+        private int next() {
+            int value = (int) ((position * 31 + (position >>> 8)) & 0xFF);
+            position++;
+            return value;
+        }
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.nosql.tck;
+
+import jakarta.nosql.tck.entities.Person;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.LongStream;
+
+class BulkDeleteTemplateTest extends AbstractTemplateTest {
+
+    private static final int SIZE = 25;
+
+    private static final int CHUNK = 10;
+
+    private static final String NAME = "bulk-delete-template";
+
+    @Test
+    @DisplayName("Should delete the entities by their ids and return the number of deleted entities")
+    void shouldDeleteAll() {
+        insert(SIZE, NAME);
+        List<Long> ids = LongStream.rangeClosed(1, 10).boxed().toList();
+
+        long deleted = template.deleteAll(Person.class, ids);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(deleted).isEqualTo(10L);
+            soft.assertThat(template.findAll(Person.class, ids)).isEmpty();
+            soft.assertThat(template.select(Person.class).where("name").eq(NAME).count()).isEqualTo(SIZE - 10L);
+        });
+        template.delete(Person.class).where("name").eq(NAME).execute();
+    }
+
+    @Test
+    @DisplayName("Should ignore missing and duplicated ids when deleting by ids")
+    void shouldIgnoreMissingAndDuplicatedIds() {
+        insert(SIZE, NAME);
+
+        long deleted = template.deleteAll(Person.class, List.of(1L, 1L, 2L, 1_000L, 1_001L));
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(deleted).isEqualTo(2L);
+            soft.assertThat(template.deleteAll(Person.class, List.of(1L, 2L))).isZero();
+            soft.assertThat(template.deleteAll(Person.class, List.of())).isZero();
+        });
+        template.delete(Person.class).where("name").eq(NAME).execute();
+    }
+
+    @Test
+    @DisplayName("Should delete at most the limit on each execution until nothing matches")
+    void shouldDeleteInChunks() {
+        insert(SIZE, NAME);
+        List<Long> counts = new ArrayList<>();
+
+        long deleted;
+        do {
+            deleted = template.delete(Person.class).where("name").eq(NAME).limit(CHUNK).execute();
+            counts.add(deleted);
+        } while (deleted > 0);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(counts).containsExactly(10L, 10L, 5L, 0L);
+            soft.assertThat(template.select(Person.class).where("name").eq(NAME).exists()).isFalse();
+        });
+    }
+
+    @Test
+    @DisplayName("Should delete only the matching entities when the delete query has a limit")
+    void shouldDeleteOnlyMatchingWithLimit() {
+        insert(SIZE, NAME);
+
+        long deleted = template.delete(Person.class).where("name").eq(NAME)
+                .and("native_age").lt(5)
+                .limit(CHUNK)
+                .execute();
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(deleted).isEqualTo(5L);
+            soft.assertThat(template.select(Person.class).where("name").eq(NAME).count()).isEqualTo(SIZE - 5L);
+        });
+        template.delete(Person.class).where("name").eq(NAME).execute();
+    }
+
+    @Test
+    @DisplayName("Should raise an exception when the ids or the limit are invalid")
+    void shouldThrowWhenInvalid() {
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThatThrownBy(() -> template.deleteAll(Person.class, null)).isInstanceOf(NullPointerException.class);
+            soft.assertThatThrownBy(() -> template.deleteAll(null, List.of(1L))).isInstanceOf(NullPointerException.class);
+            soft.assertThatThrownBy(() -> template.deleteAll(Person.class, Arrays.asList(1L, null)))
+                    .isInstanceOf(NullPointerException.class);
+            soft.assertThatThrownBy(() -> template.delete(Person.class).where("name").eq(NAME).limit(0))
+                    .isInstanceOf(IllegalArgumentException.class);
+        });
+    }
+}
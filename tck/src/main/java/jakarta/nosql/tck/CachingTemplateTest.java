@@ -0,0 +1,247 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.nosql.tck;
+
+import jakarta.nosql.MappingException;
+import jakarta.nosql.cache.CacheStatistics;
+import jakarta.nosql.cache.CachingTemplate;
+import jakarta.nosql.tck.entities.Country;
+import jakarta.nosql.tck.entities.Language;
+import jakarta.nosql.tck.entities.Person;
+import jakarta.nosql.tck.entities.Playlist;
+import jakarta.nosql.tck.entities.Season;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+class CachingTemplateTest extends AbstractTemplateTest {
+
+    private static final int SIZE = 300;
+
+    private CachingTemplate cached;
+
+    @BeforeEach
+    void setUpCache() {
+        this.cached = CachingTemplate.of(template);
+    }
+
+    @Test
+    @DisplayName("Should read the entity from the cache after the first find")
+    void shouldCacheFind() {
+        template.insert(country("BR", "Brazil"));
+
+        cached.find(Country.class, "BR");
+        cached.find(Country.class, "BR");
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(cached.find(Country.class, "BR")).hasValueSatisfying(country ->
+                    soft.assertThat(country.getName()).isEqualTo("Brazil"));
+            soft.assertThat(cached.statistics(Country.class)).hasValueSatisfying(statistics -> {
+                soft.assertThat(statistics.misses()).isEqualTo(1L);
+                soft.assertThat(statistics.hits()).isEqualTo(2L);
+                soft.assertThat(statistics.size()).isEqualTo(1L);
+            });
+        });
+        template.delete(Country.class, "BR");
+    }
+
+    @Test
+    @DisplayName("Should return a copy that does not change the cached entity")
+    void shouldReturnCopies() {
+        template.insert(country("BR", "Brazil"));
+        Country country = cached.find(Country.class, "BR").orElseThrow();
+
+        country.setName("changed");
+
+        assertCountry("BR", "Brazil");
+        template.delete(Country.class, "BR");
+    }
+
+    @Test
+    @DisplayName("Should copy a collection attribute, so that changing the returned list does not change the cache")
+    void shouldCopyCollections() {
+        Playlist playlist = new Playlist();
+        playlist.setName("road");
+        playlist.setTracks(new ArrayList<>(List.of("first", "second")));
+        template.insert(playlist);
+        Playlist found = cached.find(Playlist.class, "road").orElseThrow();
+
+        found.getTracks().add("third");
+        found.getTracks().set(0, "changed");
+
+        assertThat(cached.find(Playlist.class, "road")).hasValueSatisfying(cachedPlaylist ->
+                assertThat(cachedPlaylist.getTracks()).containsExactly("first", "second"));
+        template.delete(Playlist.class, "road");
+    }
+
+    @Test
+    @DisplayName("Should invalidate the cached entity when it is updated or deleted through the template")
+    void shouldInvalidateOnWrite() {
+        cached.insert(country("BR", "Brazil"));
+        cached.find(Country.class, "BR");
+
+        cached.update(country("BR", "Brasil"));
+        Country updated = cached.find(Country.class, "BR").orElseThrow();
+        cached.delete(Country.class, "BR");
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(updated.getName()).isEqualTo("Brasil");
+            soft.assertThat(cached.find(Country.class, "BR")).isEmpty();
+        });
+    }
+
+    @Test
+    @DisplayName("Should invalidate the cached entities written by a fluent update or delete")
+    void shouldInvalidateOnFluentWrite() {
+        cached.insert(country("BR", "Brazil"));
+        cached.find(Country.class, "BR");
+
+        cached.update(Country.class).set("name", "Brasil").where("code").eq("BR").execute();
+        Country updated = cached.find(Country.class, "BR").orElseThrow();
+        cached.delete(Country.class).where("code").eq("BR").execute();
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(updated.getName()).isEqualTo("Brasil");
+            soft.assertThat(cached.find(Country.class, "BR")).isEmpty();
+        });
+    }
+
+    @Test
+    @DisplayName("Should invalidate only the cached entities whose ids are deleted by deleteAll")
+    void shouldInvalidateDeletedIds() {
+        List<Country> countries = insertCountries(3);
+        cached.find(Country.class, "C0");
+        cached.find(Country.class, "C1");
+
+        cached.deleteAll(Country.class, List.of("C0", "C2"));
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(cached.find(Country.class, "C0")).isEmpty();
+            soft.assertThat(cached.statistics(Country.class)).hasValueSatisfying(statistics ->
+                    soft.assertThat(statistics.size()).isEqualTo(1L));
+            soft.assertThat(cached.find(Country.class, "C1")).isPresent();
+        });
+        countries.forEach(country -> template.delete(Country.class, country.getCode()));
+    }
+
+    @Test
+    @DisplayName("Should read the missing entities of findAll from the database and the others from the cache")
+    void shouldCacheFindAll() {
+        List<Country> countries = insertCountries(10);
+        cached.find(Country.class, "C0");
+        cached.find(Country.class, "C1");
+
+        Map<String, Country> found = cached.findAll(Country.class, List.of("C1", "C0", "C2", "missing"));
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(found).containsOnlyKeys("C1", "C0", "C2");
+            soft.assertThat(found.keySet()).containsExactly("C1", "C0", "C2");
+            soft.assertThat(cached.statistics(Country.class)).hasValueSatisfying(statistics ->
+                    soft.assertThat(statistics.hits()).isEqualTo(2L));
+        });
+        countries.forEach(country -> template.delete(Country.class, country.getCode()));
+    }
+
+    @Test
+    @DisplayName("Should keep the cache within its maximum size and keep a frequently read entity over a scan")
+    void shouldEvictByFrequency() {
+        List<Country> countries = insertCountries(SIZE);
+        IntStream.range(0, 20).forEach(index -> cached.find(Country.class, "C0"));
+
+        IntStream.range(1, SIZE).forEach(index -> cached.find(Country.class, "C" + index));
+        CacheStatistics scanned = cached.statistics(Country.class).orElseThrow();
+        cached.find(Country.class, "C0");
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(scanned.size()).isLessThanOrEqualTo(100L);
+            soft.assertThat(scanned.evictions()).isGreaterThanOrEqualTo(SIZE - 100L);
+            soft.assertThat(cached.statistics(Country.class)).hasValueSatisfying(statistics ->
+                    soft.assertThat(statistics.hits()).isEqualTo(scanned.hits() + 1L));
+        });
+        countries.forEach(country -> template.delete(Country.class, country.getCode()));
+    }
+
+    @Test
+    @DisplayName("Should store the entities off the heap and expire them after their time to live")
+    void shouldExpireOffHeapEntities() {
+        Language language = new Language();
+        language.setCode("pt");
+        language.setName("Portuguese");
+        language.setRank(9);
+        template.insert(language);
+        cached.find(Language.class, "pt");
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(cached.find(Language.class, "pt")).hasValueSatisfying(found ->
+                    soft.assertThat(found.getRank()).isEqualTo(9));
+            soft.assertThat(cached.statistics(Language.class)).hasValueSatisfying(statistics ->
+                    soft.assertThat(statistics.hits()).isEqualTo(1L));
+        });
+        await().pollDelay(Duration.ofMillis(1_100)).atMost(Duration.ofSeconds(10)).until(() -> {
+            cached.find(Language.class, "pt");
+            return cached.statistics(Language.class).orElseThrow().misses() >= 2L;
+        });
+        template.delete(Language.class, "pt");
+    }
+
+    @Test
+    @DisplayName("Should raise MappingException naming the class when the ttl has an estimated unit")
+    void shouldRejectEstimatedTtlUnit() {
+        assertThatThrownBy(() -> cached.find(Season.class, "summer"))
+                .isInstanceOf(MappingException.class)
+                .hasMessageContaining(Season.class.getName());
+    }
+
+    @Test
+    @DisplayName("Should not cache the entities without the Cacheable annotation")
+    void shouldNotCacheOtherEntities() {
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(cached.statistics(Person.class)).isEmpty();
+            soft.assertThatThrownBy(() -> CachingTemplate.of(null)).isInstanceOf(NullPointerException.class);
+            soft.assertThatThrownBy(() -> cached.find(Country.class, null)).isInstanceOf(NullPointerException.class);
+        });
+    }
+
+    private void assertCountry(String code, String name) {
+        SoftAssertions.assertSoftly(soft -> soft.assertThat(cached.find(Country.class, code))
+                .hasValueSatisfying(country -> soft.assertThat(country.getName()).isEqualTo(name)));
+    }
+
+    private List<Country> insertCountries(int size) {
+        List<Country> countries = IntStream.range(0, size).mapToObj(index -> country("C" + index, "Country " + index)).toList();
+        template.insert(countries);
+        return countries;
+    }
+
+    private static Country country(String code, String name) {
+        Country country = new Country();
+        country.setCode(code);
+        country.setName(name);
+        country.setPopulation(1_000L);
+        return country;
+    }
+}
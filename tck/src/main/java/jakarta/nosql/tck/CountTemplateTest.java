@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.nosql.tck;
+
+import jakarta.nosql.tck.entities.Person;
+import jakarta.nosql.tck.factories.PersonSupplier;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ArgumentsSource;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CountTemplateTest extends AbstractTemplateTest {
+
+    private static final int SIZE = 20;
+
+    private static final String NAME = "count-template";
+
+    @Test
+    @DisplayName("Should count the entities that match the query")
+    void shouldCount() {
+        List<Person> people = insert(SIZE, NAME);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(template.select(Person.class).where("name").eq(NAME).count()).isEqualTo(SIZE);
+            soft.assertThat(template.select(Person.class).where("name").eq(NAME)
+                    .and("native_age").gte(SIZE / 2).count()).isEqualTo(SIZE / 2);
+            soft.assertThat(template.select(Person.class).where("name").eq(NAME)
+                    .and("native_age").gt(SIZE).count()).isZero();
+        });
+        delete(people);
+    }
+
+    @Test
+    @DisplayName("Should count the same entities that the result returns, honoring skip and limit")
+    void shouldCountHonoringSkipAndLimit() {
+        List<Person> people = insert(SIZE, NAME);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(template.select(Person.class).where("name").eq(NAME)
+                    .orderBy("id").asc().skip(5).count()).isEqualTo(SIZE - 5);
+            soft.assertThat(template.select(Person.class).where("name").eq(NAME)
+                    .orderBy("id").asc().skip(5).limit(10).count()).isEqualTo(10);
+            soft.assertThat(template.select(Person.class).where("name").eq(NAME)
+                    .orderBy("id").asc().skip(SIZE).count()).isZero();
+        });
+        delete(people);
+    }
+
+    @ParameterizedTest
+    @ArgumentsSource(PersonSupplier.class)
+    @DisplayName("Should check whether an entity matches the query: {0}")
+    void shouldCheckExists(Person entity) {
+        template.insert(entity);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(template.select(Person.class).where("id").eq(entity.getId()).exists()).isTrue();
+            soft.assertThat(template.select(Person.class).where("id").eq(entity.getId())
+                    .and("name").eq(entity.getName()).exists()).isTrue();
+            soft.assertThat(template.select(Person.class).where("id").eq(entity.getId())
+                    .and("name").not().eq(entity.getName()).exists()).isFalse();
+        });
+        template.delete(Person.class, entity.getId());
+    }
+
+    @ParameterizedTest
+    @ArgumentsSource(PersonSupplier.class)
+    @DisplayName("Should not find a deleted entity: {0}")
+    void shouldNotExistAfterDelete(Person entity) {
+        template.insert(entity);
+        template.delete(Person.class, entity.getId());
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(template.select(Person.class).where("id").eq(entity.getId()).exists()).isFalse();
+            soft.assertThat(template.select(Person.class).where("id").eq(entity.getId()).count()).isZero();
+        });
+    }
+
+    @Test
+    @DisplayName("Should return the number of entities deleted by the query")
+    void shouldReturnDeletedCount() {
+        insert(SIZE, NAME);
+
+        long deleted = template.delete(Person.class).where("name").eq(NAME)
+                .and("native_age").lt(SIZE / 2).execute();
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(deleted).isEqualTo(SIZE / 2);
+            soft.assertThat(template.select(Person.class).where("name").eq(NAME).count()).isEqualTo(SIZE / 2);
+            soft.assertThat(template.delete(Person.class).where("name").eq(NAME).execute()).isEqualTo(SIZE / 2);
+        });
+    }
+
+    @Test
+    @DisplayName("Should complete the asynchronous delete with the number of deleted entities")
+    void shouldReturnDeletedCountAsync() {
+        insert(SIZE, NAME);
+
+        long deleted = template.delete(Person.class).where("name").eq(NAME)
+                .executeAsync()
+                .toCompletableFuture()
+                .join();
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(deleted).isEqualTo(SIZE);
+            soft.assertThat(template.select(Person.class).where("name").eq(NAME).exists()).isFalse();
+        });
+    }
+
+    @Test
+    @DisplayName("Should return zero when the delete query matches no entity")
+    void shouldReturnZeroWhenNothingDeleted() {
+        assertThat(template.delete(Person.class).where("name").eq(NAME).execute()).isZero();
+    }
+}
@@ -0,0 +1,205 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.nosql.tck;
+
+import jakarta.nosql.Cursor;
+import jakarta.nosql.CursoredPage;
+import jakarta.nosql.tck.entities.Person;
+import jakarta.nosql.tck.factories.PersonSupplier;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CursorPaginationTemplateTest extends AbstractTemplateTest {
+
+    private static final int SIZE = 50;
+
+    private static final int PAGE_SIZE = 7;
+
+    private static final long CONCURRENT_ID = 1_000L;
+
+    private static final int CONCURRENT_INSERTS = 2 * SIZE;
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(60);
+
+    private final PersonSupplier supplier = new PersonSupplier();
+
+    private final List<Person> inserted = Collections.synchronizedList(new ArrayList<>());
+
+    private List<Person> people;
+
+    @BeforeEach
+    void insertPeople() {
+        this.people = IntStream.rangeClosed(1, SIZE)
+                .mapToObj(index -> supplier.get(index, String.format("name-%03d", index % 20)))
+                .toList();
+        template.insert(people);
+    }
+
+    @AfterEach
+    void deletePeople() {
+        delete(people);
+        delete(inserted);
+    }
+
+    @Test
+    @DisplayName("Should go through all the pages in a stable order, using the id to break ties")
+    void shouldPaginateInStableOrder() {
+        List<Person> result = paginate(() -> { });
+
+        List<Long> expected = people.stream()
+                .sorted(Comparator.comparing(Person::getName).thenComparing(Person::getId))
+                .map(Person::getId)
+                .toList();
+        assertThat(ids(result)).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    @DisplayName("Should neither repeat nor drop entities while another thread inserts entities during the pagination")
+    void shouldNotRepeatOrDropWithConcurrentInserts() throws Exception {
+        AtomicBoolean paging = new AtomicBoolean(true);
+        CountDownLatch started = new CountDownLatch(1);
+        AtomicReference<Future<?>> writer = new AtomicReference<>();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        List<Person> result;
+        try {
+            result = paginate(() -> {
+                writer.set(executor.submit(() -> insertWhile(paging, started)));
+                awaitFirstInsert(started);
+            });
+            paging.set(false);
+            writer.get().get(TIMEOUT.toSeconds(), TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(ids(result)).doesNotHaveDuplicates();
+            soft.assertThat(ids(result)).containsAll(ids(people));
+            soft.assertThat(result).isSortedAccordingTo(Comparator.comparing(Person::getName).thenComparing(Person::getId));
+            soft.assertThat(ids(result)).doesNotContain(inserted.stream()
+                    .filter(person -> person.getName().startsWith("name-000"))
+                    .map(Person::getId).toArray(Long[]::new));
+        });
+    }
+
+    @Test
+    @DisplayName("Should continue after a cursor created by the application")
+    void shouldContinueAfterCustomCursor() {
+        CursoredPage<Person> page = template.select(Person.class)
+                .orderBy("name").asc()
+                .after(Cursor.forKey("name-010", 0L))
+                .limit(PAGE_SIZE)
+                .page();
+
+        assertThat(page.content()).isNotEmpty()
+                .allSatisfy(person -> assertThat(person.getName()).isGreaterThanOrEqualTo("name-010"));
+    }
+
+    @Test
+    @DisplayName("Should go through the pages in descending order")
+    void shouldPaginateDescending() {
+        List<Person> result = new ArrayList<>();
+        CursoredPage<Person> page = template.select(Person.class)
+                .orderBy("name").desc()
+                .limit(PAGE_SIZE)
+                .page();
+        result.addAll(page.content());
+        while (page.hasNext()) {
+            page = template.select(Person.class)
+                    .orderBy("name").desc()
+                    .after(page.next().orElseThrow())
+                    .limit(PAGE_SIZE)
+                    .page();
+            result.addAll(page.content());
+        }
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(ids(result)).doesNotHaveDuplicates();
+            soft.assertThat(ids(result)).containsAll(ids(people));
+            soft.assertThat(result).extracting(Person::getName).isSortedAccordingTo(Comparator.reverseOrder());
+        });
+    }
+
+    @Test
+    @DisplayName("Should raise an exception when the cursor does not match the query")
+    void shouldRejectInvalidCursor() {
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThatThrownBy(() -> template.select(Person.class).orderBy("name").asc().after(null))
+                    .isInstanceOf(NullPointerException.class);
+            soft.assertThatThrownBy(() -> template.select(Person.class).orderBy("name").asc()
+                            .after(Cursor.forKey("name-001", 1L, "extra")).limit(PAGE_SIZE).page())
+                    .isInstanceOf(IllegalArgumentException.class);
+            soft.assertThatThrownBy(() -> template.select(Person.class).limit(PAGE_SIZE).page())
+                    .isInstanceOf(IllegalStateException.class);
+        });
+    }
+
+    private List<Person> paginate(Runnable afterFirstPage) {
+        List<Person> result = new ArrayList<>();
+        CursoredPage<Person> page = template.select(Person.class)
+                .orderBy("name").asc()
+                .limit(PAGE_SIZE)
+                .page();
+        result.addAll(page.content());
+        afterFirstPage.run();
+        while (page.hasNext()) {
+            page = template.select(Person.class)
+                    .orderBy("name").asc()
+                    .after(page.next().orElseThrow())
+                    .limit(PAGE_SIZE)
+                    .page();
+            assertThat(page.content()).hasSizeLessThanOrEqualTo(PAGE_SIZE);
+            result.addAll(page.content());
+        }
+        return result;
+    }
+
+    private void insertWhile(AtomicBoolean paging, CountDownLatch started) {
+        for (long id = CONCURRENT_ID; paging.get() && id < CONCURRENT_ID + CONCURRENT_INSERTS; id += 2) {
+            inserted.add(template.insert(supplier.get(id + 1, "name-000")));
+            inserted.add(template.insert(supplier.get(id + 2, "name-999")));
+            started.countDown();
+        }
+    }
+
+    private static void awaitFirstInsert(CountDownLatch started) {
+        try {
+            assertThat(started.await(TIMEOUT.toSeconds(), TimeUnit.SECONDS)).isTrue();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(exception);
+        }
+    }
+}
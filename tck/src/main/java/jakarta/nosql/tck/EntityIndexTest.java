@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.nosql.tck;
+
+import jakarta.nosql.Converter;
+import jakarta.nosql.Embeddable;
+import jakarta.nosql.Entity;
+import jakarta.nosql.EntityIndex;
+import jakarta.nosql.MappedSuperclass;
+import jakarta.nosql.tck.entities.Person;
+import jakarta.nosql.tck.entities.PersonName;
+import jakarta.nosql.tck.entities.PersonNameAge;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.lang.annotation.Annotation;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EntityIndexTest {
+
+    private static final Map<EntityIndex.Kind, Class<? extends Annotation>> ANNOTATIONS = Map.of(
+            EntityIndex.Kind.ENTITY, Entity.class,
+            EntityIndex.Kind.EMBEDDABLE, Embeddable.class,
+            EntityIndex.Kind.MAPPED_SUPERCLASS, MappedSuperclass.class,
+            EntityIndex.Kind.CONVERTER, Converter.class);
+
+    private final EntityIndex index = EntityIndex.load(EntityIndexTest.class.getClassLoader());
+
+    @Test
+    @DisplayName("Should index the TCK entities at build time")
+    void shouldIndexEntities() {
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(index.isEmpty()).isFalse();
+            soft.assertThat(index.names(EntityIndex.Kind.ENTITY)).contains(Person.class.getName());
+            soft.assertThat(index.classes(EntityIndex.Kind.ENTITY)).contains(Person.class);
+        });
+    }
+
+    @ParameterizedTest
+    @EnumSource(EntityIndex.Kind.class)
+    @DisplayName("Should index only classes annotated with the annotation of their kind: {0}")
+    void shouldMatchAnnotations(EntityIndex.Kind kind) {
+        Set<Class<?>> classes = index.classes(kind);
+
+        assertThat(classes).allMatch(type -> type.isAnnotationPresent(ANNOTATIONS.get(kind)), "annotated with " + kind);
+    }
+
+    @Test
+    @DisplayName("Should not index the classes without a mapping annotation")
+    void shouldNotIndexProjections() {
+        SoftAssertions.assertSoftly(soft -> {
+            for (EntityIndex.Kind kind : EntityIndex.Kind.values()) {
+                soft.assertThat(index.names(kind)).doesNotContain(PersonNameAge.class.getName(), PersonName.class.getName());
+            }
+        });
+    }
+
+    @Test
+    @DisplayName("Should raise NullPointerException when the class loader or the kind is null")
+    void shouldThrowNullPointerException() {
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThatThrownBy(() -> EntityIndex.load(null)).isInstanceOf(NullPointerException.class);
+            soft.assertThatThrownBy(() -> index.names(null)).isInstanceOf(NullPointerException.class);
+        });
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.nosql.tck;
+
+import jakarta.nosql.AttributeMetadata;
+import jakarta.nosql.Column;
+import jakarta.nosql.EntityMetadata;
+import jakarta.nosql.EntityMetadataLookup;
+import jakarta.nosql.Id;
+import jakarta.nosql.tck.entities.Person;
+import jakarta.nosql.tck.entities.PersonNameAge;
+import jakarta.nosql.tck.factories.PersonSupplier;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ArgumentsSource;
+
+import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EntityMetadataTest extends AbstractTemplateTest {
+
+    @Test
+    @DisplayName("Should find the metadata generated for the entity")
+    void shouldFindGeneratedMetadata() {
+        Optional<EntityMetadata<Person>> metadata = EntityMetadataLookup.find(Person.class);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(metadata).isPresent();
+            soft.assertThat(metadata).get().extracting(EntityMetadata::type).isEqualTo(Person.class);
+            soft.assertThat(metadata).get().extracting(EntityMetadata::name).isEqualTo("Person");
+            soft.assertThat(metadata).get().extracting(EntityMetadata::embeddable).isEqualTo(false);
+            soft.assertThat(metadata.orElseThrow().discriminatorColumn()).isEmpty();
+            soft.assertThat(metadata.orElseThrow().subtypes()).isEmpty();
+        });
+    }
+
+    @Test
+    @DisplayName("Should describe the same attributes as the annotations read through reflection")
+    void shouldMatchAnnotations() {
+        EntityMetadata<Person> metadata = EntityMetadataLookup.find(Person.class).orElseThrow();
+        List<Field> fields = Arrays.stream(Person.class.getDeclaredFields())
+                .filter(field -> field.isAnnotationPresent(Id.class) || field.isAnnotationPresent(Column.class))
+                .toList();
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(metadata.attributes()).extracting(AttributeMetadata::name)
+                    .containsExactlyElementsOf(fields.stream().map(Field::getName).toList());
+            soft.assertThat(metadata.attributes()).extracting(AttributeMetadata::type)
+                    .containsExactlyElementsOf(fields.stream().map(Field::getType).toList());
+            soft.assertThat(metadata.attributes()).extracting(AttributeMetadata::column)
+                    .containsExactly(fields.get(0).getAnnotation(Id.class).value(), "name", "native_age");
+            soft.assertThat(metadata.id()).get().extracting(AttributeMetadata::name).isEqualTo("id");
+            soft.assertThat(metadata.attributes()).extracting(AttributeMetadata::converter).allMatch(Optional::isEmpty);
+        });
+    }
+
+    @Test
+    @DisplayName("Should find an attribute by the name of its field or of its column")
+    void shouldFindAttributeByNameOrColumn() {
+        EntityMetadata<Person> metadata = EntityMetadataLookup.find(Person.class).orElseThrow();
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(metadata.attribute("age")).isPresent();
+            soft.assertThat(metadata.attribute("native_age")).isEqualTo(metadata.attribute("age"));
+            soft.assertThat(metadata.attribute("unknown")).isEmpty();
+            soft.assertThatThrownBy(() -> metadata.attribute(null)).isInstanceOf(NullPointerException.class);
+        });
+    }
+
+    @ParameterizedTest
+    @ArgumentsSource(PersonSupplier.class)
+    @DisplayName("Should build an entity through the metadata that the template stores and finds: {0}")
+    void shouldBuildEntity(Person entity) {
+        EntityMetadata<Person> metadata = EntityMetadataLookup.find(Person.class).orElseThrow();
+        Person person = metadata.newInstance();
+        metadata.attributes().forEach(attribute -> attribute.set(person, attribute.get(entity)));
+
+        template.insert(person);
+        Optional<Person> found = template.find(Person.class, entity.getId());
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(found).isPresent();
+            metadata.attributes().forEach(attribute -> soft.assertThat(attribute.get(found.orElseThrow()))
+                    .as(attribute.name()).isEqualTo(attribute.get(entity)));
+        });
+        template.delete(Person.class, entity.getId());
+    }
+
+    @Test
+    @DisplayName("Should return empty for a class without generated metadata")
+    void shouldReturnEmptyWithoutMetadata() {
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(EntityMetadataLookup.find(PersonNameAge.class)).isEmpty();
+            soft.assertThat(EntityMetadataLookup.find(String.class)).isEmpty();
+            soft.assertThatThrownBy(() -> EntityMetadataLookup.find(null)).isInstanceOf(NullPointerException.class);
+        });
+    }
+
+    @Test
+    @DisplayName("Should return the same metadata on every lookup")
+    void shouldCacheMetadata() {
+        assertThat(EntityMetadataLookup.find(Person.class)).containsSame(EntityMetadataLookup.find(Person.class).orElseThrow());
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.nosql.tck;
+
+import jakarta.nosql.tck.entities.Person;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FindAllTemplateTest extends AbstractTemplateTest {
+
+    private static final int LARGE_SIZE = 5_000;
+
+    @Test
+    @DisplayName("Should find all the entities keyed by id in the order of the parameter")
+    void shouldFindAll() {
+        List<Person> people = insert(10);
+        List<Long> ids = new ArrayList<>(ids(people));
+        Collections.reverse(ids);
+
+        Map<Long, Person> result = template.findAll(Person.class, ids);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(result.keySet()).containsExactlyElementsOf(ids);
+            result.forEach((id, person) -> soft.assertThat(person.getId()).isEqualTo(id));
+            soft.assertThat(result.values()).containsExactlyInAnyOrderElementsOf(people);
+        });
+        delete(people);
+    }
+
+    @Test
+    @DisplayName("Should skip the ids without a matching entity")
+    void shouldSkipMissingIds() {
+        List<Person> people = insert(5);
+        List<Long> ids = new ArrayList<>(ids(people));
+        ids.add(-1L);
+        ids.add(0, -2L);
+
+        Map<Long, Person> result = template.findAll(Person.class, ids);
+
+        assertThat(result.keySet()).containsExactlyElementsOf(ids(people));
+        delete(people);
+    }
+
+    @Test
+    @DisplayName("Should return each entity once when the ids are duplicated")
+    void shouldReturnDuplicatedIdsOnce() {
+        List<Person> people = insert(3);
+        Long first = people.get(0).getId();
+        Long second = people.get(1).getId();
+
+        Map<Long, Person> result = template.findAll(Person.class, Arrays.asList(first, second, first, first, second));
+
+        assertThat(result.keySet()).containsExactly(first, second);
+        delete(people);
+    }
+
+    @Test
+    @DisplayName("Should find a large set of ids that the provider has to split into chunks")
+    void shouldFindLargeIdSet() {
+        List<Person> people = insert(LARGE_SIZE);
+
+        Map<Long, Person> result = template.findAll(Person.class, ids(people));
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(result).hasSize(LARGE_SIZE);
+            soft.assertThat(result.keySet()).containsExactlyElementsOf(ids(people));
+        });
+        delete(people);
+    }
+
+    @Test
+    @DisplayName("Should return an empty map when there are no ids")
+    void shouldReturnEmptyWhenNoIds() {
+        assertThat(template.findAll(Person.class, List.<Long>of())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should raise NullPointerException when the type, the ids or any id is null")
+    void shouldThrowNullPointerException() {
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThatThrownBy(() -> template.findAll(null, List.of(1L))).isInstanceOf(NullPointerException.class);
+            soft.assertThatThrownBy(() -> template.findAll(Person.class, null)).isInstanceOf(NullPointerException.class);
+            soft.assertThatThrownBy(() -> template.findAll(Person.class, Arrays.asList(1L, null)))
+                    .isInstanceOf(NullPointerException.class);
+        });
+    }
+}
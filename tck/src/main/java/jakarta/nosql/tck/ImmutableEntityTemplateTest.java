@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.nosql.tck;
+
+import jakarta.nosql.AttributeMetadata;
+import jakarta.nosql.EntityMetadata;
+import jakarta.nosql.EntityMetadataLookup;
+import jakarta.nosql.tck.entities.Contact;
+import jakarta.nosql.tck.entities.Person;
+import jakarta.nosql.tck.entities.Product;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
+class ImmutableEntityTemplateTest extends AbstractTemplateTest {
+
+    @Test
+    @DisplayName("Should insert and find a record entity with the Id on a record component")
+    void shouldFindRecord() {
+        Contact contact = new Contact("contact-1", "Ada", "ada@example.org", 36);
+        template.insert(contact);
+
+        Optional<Contact> found = template.find(Contact.class, contact.id());
+
+        SoftAssertions.assertSoftly(soft -> soft.assertThat(found).contains(contact));
+        template.delete(Contact.class, contact.id());
+    }
+
+    @Test
+    @DisplayName("Should query record entities by a component mapped to another column name")
+    void shouldQueryRecords() {
+        Contact ada = new Contact("contact-2", "Ada", "ada@example.org", 36);
+        Contact grace = new Contact("contact-3", "Grace", "grace@example.org", 85);
+        template.insert(List.of(ada, grace));
+
+        List<Contact> found = template.select(Contact.class)
+                .where("email").eq(grace.email())
+                .result();
+
+        SoftAssertions.assertSoftly(soft -> soft.assertThat(found).containsExactly(grace));
+        template.delete(Contact.class, ada.id());
+        template.delete(Contact.class, grace.id());
+    }
+
+    @Test
+    @DisplayName("Should update a record entity by replacing it with a new instance")
+    void shouldUpdateRecord() {
+        Contact contact = new Contact("contact-4", "Ada", "ada@example.org", 36);
+        template.insert(contact);
+
+        template.update(contact.withAge(37));
+        Optional<Contact> found = template.find(Contact.class, contact.id());
+
+        SoftAssertions.assertSoftly(soft -> soft.assertThat(found).contains(contact.withAge(37)));
+        template.delete(Contact.class, contact.id());
+    }
+
+    @Test
+    @DisplayName("Should insert and find an immutable class created through its annotated constructor")
+    void shouldFindImmutableClass() {
+        Product product = new Product("product-1", "Notebook", new BigDecimal("12.50"), true);
+        template.insert(product);
+
+        Optional<Product> found = template.find(Product.class, product.getId());
+
+        SoftAssertions.assertSoftly(soft -> soft.assertThat(found).contains(product));
+        template.delete(Product.class, product.getId());
+    }
+
+    @Test
+    @DisplayName("Should generate the metadata of a record with its components in declaration order")
+    void shouldDescribeRecord() {
+        EntityMetadata<Contact> metadata = EntityMetadataLookup.find(Contact.class).orElseThrow();
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(metadata.immutable()).isTrue();
+            soft.assertThat(metadata.attributes()).extracting(AttributeMetadata::name)
+                    .containsExactly("id", "name", "email", "age");
+            soft.assertThat(metadata.attributes()).extracting(AttributeMetadata::column)
+                    .containsExactly("_id", "name", "mail", "age");
+            soft.assertThat(metadata.id()).get().extracting(AttributeMetadata::name).isEqualTo("id");
+        });
+    }
+
+    @Test
+    @DisplayName("Should create an immutable entity through its constructor in a single call")
+    void shouldCreateThroughConstructor() {
+        EntityMetadata<Contact> contacts = EntityMetadataLookup.find(Contact.class).orElseThrow();
+        EntityMetadata<Product> products = EntityMetadataLookup.find(Product.class).orElseThrow();
+        Contact contact = contacts.newInstance("contact-5", "Ada", "ada@example.org", 36);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(contact).isEqualTo(new Contact("contact-5", "Ada", "ada@example.org", 36));
+            soft.assertThat(contacts.attribute("mail")).get().extracting(attribute -> attribute.get(contact))
+                    .isEqualTo("ada@example.org");
+            soft.assertThat(contacts.newInstance("contact-6", null, null, null))
+                    .isEqualTo(new Contact("contact-6", null, null, 0));
+            soft.assertThat(products.immutable()).isTrue();
+            soft.assertThat(products.newInstance("product-2", "Pen", BigDecimal.ONE, true))
+                    .isEqualTo(new Product("product-2", "Pen", BigDecimal.ONE, true));
+        });
+    }
+
+    @Test
+    @DisplayName("Should reject the creation without values and the writes of an immutable entity")
+    void shouldRejectWrites() {
+        EntityMetadata<Contact> metadata = EntityMetadataLookup.find(Contact.class).orElseThrow();
+        Contact contact = new Contact("contact-7", "Ada", "ada@example.org", 36);
+        AttributeMetadata<Contact> name = metadata.attribute("name").orElseThrow();
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThatThrownBy(metadata::newInstance).isInstanceOf(UnsupportedOperationException.class);
+            soft.assertThatThrownBy(() -> name.set(contact, "Grace")).isInstanceOf(UnsupportedOperationException.class);
+            soft.assertThatThrownBy(() -> metadata.newInstance("contact-8")).isInstanceOf(IllegalArgumentException.class);
+        });
+    }
+
+    @Test
+    @DisplayName("Should create a mutable entity from values by writing its attributes")
+    void shouldCreateMutableFromValues() {
+        EntityMetadata<Person> metadata = EntityMetadataLookup.find(Person.class).orElseThrow();
+        Object[] values = metadata.attributes().stream()
+                .map(attribute -> "name".equals(attribute.name()) ? "Ada" : null)
+                .toArray();
+
+        Person person = metadata.newInstance(values);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(metadata.immutable()).isFalse();
+            soft.assertThat(person.getName()).isEqualTo("Ada");
+        });
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.nosql.tck;
+
+import jakarta.nosql.BatchOptions;
+import jakarta.nosql.IngestSummary;
+import jakarta.nosql.tck.entities.Person;
+import jakarta.nosql.tck.factories.PersonSupplier;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IngestTemplateTest extends AbstractTemplateTest {
+
+    private static final int SIZE = 1_000;
+
+    private static final int BATCH_SIZE = 100;
+
+    private final List<Person> people = new PersonSupplier().list(SIZE);
+
+    @AfterEach
+    void deletePeople() {
+        delete(people);
+    }
+
+    @Test
+    @DisplayName("Should ingest a stream and return the summary")
+    void shouldIngestStream() {
+        IngestSummary summary = template.ingest(people.stream(), BatchOptions.of(BATCH_SIZE));
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(summary.inserted()).isEqualTo(SIZE);
+            soft.assertThat(summary.failed()).isZero();
+            soft.assertThat(summary.total()).isEqualTo(SIZE);
+            soft.assertThat(summary.elapsed()).isGreaterThan(Duration.ZERO);
+            soft.assertThat(template.findAll(Person.class, ids(people))).hasSize(SIZE);
+        });
+    }
+
+    @Test
+    @DisplayName("Should ingest a stream with the provider defaults")
+    void shouldIngestStreamWithDefaults() {
+        IngestSummary summary = template.ingest(people.stream());
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(summary.inserted()).isEqualTo(SIZE);
+            soft.assertThat(template.findAll(Person.class, ids(people))).hasSize(SIZE);
+        });
+    }
+
+    @Test
+    @DisplayName("Should ingest an iterator and return the summary")
+    void shouldIngestIterator() {
+        IngestSummary summary = template.ingest(new PeopleIterator(), BatchOptions.of(BATCH_SIZE));
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(summary.inserted()).isEqualTo(SIZE);
+            soft.assertThat(summary.failed()).isZero();
+            soft.assertThat(template.findAll(Person.class, ids(people))).hasSize(SIZE);
+        });
+    }
+
+    @Test
+    @DisplayName("Should consume the source lazily, writing the first batches before reading the whole source")
+    void shouldConsumeLazily() {
+        PeopleIterator iterator = new PeopleIterator();
+
+        template.ingest(iterator, BatchOptions.of(BATCH_SIZE));
+
+        assertThat(iterator.firstWrittenBeforeEnd).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should raise NullPointerException when the source or options are null")
+    void shouldThrowNullPointerException() {
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThatThrownBy(() -> template.ingest((Stream<Person>) null)).isInstanceOf(NullPointerException.class);
+            soft.assertThatThrownBy(() -> template.ingest((Iterator<Person>) null)).isInstanceOf(NullPointerException.class);
+            soft.assertThatThrownBy(() -> template.ingest(Stream.of(people.get(0)), null)).isInstanceOf(NullPointerException.class);
+        });
+    }
+
+    /**
+     * Generates the persons on demand and checks, once it has produced three batches, that the first person is
+     * already in the database. A provider that buffers the whole source before writing fails that check.
+     */
+    private final class PeopleIterator implements Iterator<Person> {
+
+        private final AtomicBoolean firstWrittenBeforeEnd = new AtomicBoolean();
+
+        private long current;
+
+        @Override
+        public boolean hasNext() {
+            return current < SIZE;
+        }
+
+        @Override
+        public Person next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            current++;
+            if (current == 3L * BATCH_SIZE + 1) {
+                firstWrittenBeforeEnd.set(template.find(Person.class, 1L).isPresent());
+            }
+            return people.get((int) current - 1);
+        }
+    }
+}
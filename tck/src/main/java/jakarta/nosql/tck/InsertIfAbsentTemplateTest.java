@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.nosql.tck;
+
+import jakarta.nosql.tck.entities.Person;
+import jakarta.nosql.tck.factories.PersonSupplier;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ArgumentsSource;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+class InsertIfAbsentTemplateTest extends AbstractTemplateTest {
+
+    private static final int THREADS = 8;
+
+    private static final int IDS = 10;
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(60);
+
+    private final PersonSupplier supplier = new PersonSupplier();
+
+    @ParameterizedTest
+    @ArgumentsSource(PersonSupplier.class)
+    @DisplayName("Should insert the entity only when it is absent: {0}")
+    void shouldInsertIfAbsent(Person entity) {
+        Person duplicate = supplier.get(entity.getId(), "duplicate");
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(template.insertIfAbsent(entity)).isTrue();
+            soft.assertThat(template.insertIfAbsent(duplicate)).isFalse();
+            soft.assertThat(template.find(Person.class, entity.getId()))
+                    .hasValueSatisfying(found -> soft.assertThat(found.getName()).isEqualTo(entity.getName()));
+        });
+        template.delete(Person.class, entity.getId());
+    }
+
+    @ParameterizedTest
+    @ArgumentsSource(PersonSupplier.class)
+    @DisplayName("Should insert the entity again after it is deleted: {0}")
+    void shouldInsertAfterDelete(Person entity) {
+        template.insert(entity);
+        template.delete(Person.class, entity.getId());
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(template.insertIfAbsent(entity)).isTrue();
+            soft.assertThat(template.find(Person.class, entity.getId())).isPresent();
+        });
+        template.delete(Person.class, entity.getId());
+    }
+
+    @ParameterizedTest
+    @ArgumentsSource(PersonSupplier.class)
+    @DisplayName("Should insert the entity with an expiration only when it is absent: {0}")
+    void shouldInsertIfAbsentWithTTL(Person entity) {
+        boolean inserted = insertIfAbsent(entity, Duration.ofHours(1));
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(inserted).isTrue();
+            soft.assertThat(template.insertIfAbsent(supplier.get(entity.getId(), "duplicate"), Duration.ofHours(1))).isFalse();
+            soft.assertThat(template.find(Person.class, entity.getId()))
+                    .hasValueSatisfying(found -> soft.assertThat(found.getName()).isEqualTo(entity.getName()));
+        });
+        template.delete(Person.class, entity.getId());
+    }
+
+    @Test
+    @DisplayName("Should let exactly one of the concurrent inserts of each id win")
+    void shouldLetOneInsertWinPerId() throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Callable<Map<Long, Boolean>>> tasks = IntStream.range(0, THREADS).<Callable<Map<Long, Boolean>>>mapToObj(thread -> () -> {
+            start.await();
+            return LongStream.rangeClosed(1, IDS).boxed()
+                    .collect(Collectors.toMap(id -> id, id -> template.insertIfAbsent(supplier.get(id, "thread-" + thread))));
+        }).toList();
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<Map<Long, Boolean>>> futures = tasks.stream().map(executor::submit).toList();
+            start.countDown();
+            Map<Long, Long> winners = new HashMap<>();
+            for (Future<Map<Long, Boolean>> future : futures) {
+                future.get(TIMEOUT.toSeconds(), TimeUnit.SECONDS).forEach((id, won) -> {
+                    if (won) {
+                        winners.merge(id, 1L, Long::sum);
+                    }
+                });
+            }
+
+            SoftAssertions.assertSoftly(soft -> LongStream.rangeClosed(1, IDS).forEach(id -> {
+                soft.assertThat(winners).as("winners of id %d", id).containsEntry(id, 1L);
+                soft.assertThat(template.find(Person.class, id)).isPresent();
+            }));
+        } finally {
+            executor.shutdownNow();
+        }
+        LongStream.rangeClosed(1, IDS).forEach(id -> template.delete(Person.class, id));
+    }
+
+    @Test
+    @DisplayName("Should raise NullPointerException when the entity or the TTL is null")
+    void shouldThrowNullPointerException() {
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThatThrownBy(() -> template.insertIfAbsent(null)).isInstanceOf(NullPointerException.class);
+            soft.assertThatThrownBy(() -> template.insertIfAbsent(supplier.get(1L, "null-ttl"), null))
+                    .isInstanceOf(NullPointerException.class);
+        });
+    }
+
+    private boolean insertIfAbsent(Person entity, Duration ttl) {
+        try {
+            return template.insertIfAbsent(entity, ttl);
+        } catch (UnsupportedOperationException exception) {
+            return Assumptions.abort("The database does not provide TTL: " + exception.getMessage());
+        }
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.nosql.tck;
+
+import jakarta.nosql.AttributeMetadata;
+import jakarta.nosql.EntityMetadata;
+import jakarta.nosql.EntityMetadataLookup;
+import jakarta.nosql.FetchType;
+import jakarta.nosql.tck.entities.Article;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LazyColumnTemplateTest extends AbstractTemplateTest {
+
+    @Test
+    @DisplayName("Should leave a lazy column unloaded by find and read it through fetch")
+    void shouldFetchLazyColumn() {
+        Article article = article("lazy-1");
+        template.insert(article);
+
+        Article found = template.find(Article.class, article.getId()).orElseThrow();
+        boolean loadedBefore = template.isLoaded(found, "html");
+        Article fetched = template.fetch(found, "html");
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(template.isLoaded(found, "title")).isTrue();
+            soft.assertThat(loadedBefore).isFalse();
+            soft.assertThat(fetched).isSameAs(found);
+            soft.assertThat(template.isLoaded(found, "html")).isTrue();
+            soft.assertThat(found.getHtml()).isEqualTo(article.getHtml());
+        });
+        template.delete(Article.class, article.getId());
+    }
+
+    @Test
+    @DisplayName("Should leave lazy columns unloaded in query results and fetch all of them without names")
+    void shouldFetchAllLazyColumns() {
+        Article first = article("lazy-2");
+        Article second = article("lazy-3");
+        template.insert(List.of(first, second));
+
+        List<Article> found = template.select(Article.class)
+                .where("id").in(List.of(first.getId(), second.getId()))
+                .orderBy("id").asc()
+                .result();
+        boolean loadedBefore = found.stream().anyMatch(article -> template.isLoaded(article, "html"));
+        found.forEach(template::fetch);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(loadedBefore).isFalse();
+            soft.assertThat(found).extracting(Article::getHtml).containsExactly(first.getHtml(), second.getHtml());
+        });
+        template.delete(Article.class, first.getId());
+        template.delete(Article.class, second.getId());
+    }
+
+    @Test
+    @DisplayName("Should keep the stored value of a lazy column that is not loaded when updating the entity")
+    void shouldKeepUnloadedColumnOnUpdate() {
+        Article article = article("lazy-4");
+        template.insert(article);
+
+        Article found = template.find(Article.class, article.getId()).orElseThrow();
+        found.setTitle("Updated title");
+        template.update(found);
+        Article updated = template.fetch(template.find(Article.class, article.getId()).orElseThrow());
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(updated.getTitle()).isEqualTo("Updated title");
+            soft.assertThat(updated.getHtml()).isEqualTo(article.getHtml());
+        });
+        template.delete(Article.class, article.getId());
+    }
+
+    @Test
+    @DisplayName("Should write a lazy column that was assigned without being fetched when updating the entity")
+    void shouldWriteAssignedColumnOnUpdate() {
+        Article article = article("lazy-7");
+        template.insert(article);
+
+        Article found = template.find(Article.class, article.getId()).orElseThrow();
+        found.setHtml("<html><body>Assigned</body></html>");
+        boolean loaded = template.isLoaded(found, "html");
+        template.update(found);
+        Article updated = template.fetch(template.find(Article.class, article.getId()).orElseThrow());
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(loaded).isTrue();
+            soft.assertThat(updated.getHtml()).isEqualTo("<html><body>Assigned</body></html>");
+        });
+        template.delete(Article.class, article.getId());
+    }
+
+    @Test
+    @DisplayName("Should consider every attribute of an entity created by the application as loaded")
+    void shouldLoadNewEntity() {
+        Article article = article("lazy-5");
+
+        assertThat(template.isLoaded(article, "html")).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should reject null and unknown attributes")
+    void shouldRejectInvalidAttributes() {
+        Article article = article("lazy-6");
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThatThrownBy(() -> template.fetch(null, "html")).isInstanceOf(NullPointerException.class);
+            soft.assertThatThrownBy(() -> template.fetch(article, (String) null)).isInstanceOf(NullPointerException.class);
+            soft.assertThatThrownBy(() -> template.isLoaded(article, null)).isInstanceOf(NullPointerException.class);
+            soft.assertThatThrownBy(() -> template.fetch(article, "unknown")).isInstanceOf(IllegalArgumentException.class);
+            soft.assertThatThrownBy(() -> template.isLoaded(article, "unknown")).isInstanceOf(IllegalArgumentException.class);
+        });
+    }
+
+    @Test
+    @DisplayName("Should expose the fetch type of each attribute in the generated metadata")
+    void shouldExposeFetchType() {
+        EntityMetadata<Article> metadata = EntityMetadataLookup.find(Article.class).orElseThrow();
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(metadata.attribute("html")).get().extracting(AttributeMetadata::fetch).isEqualTo(FetchType.LAZY);
+            soft.assertThat(metadata.attribute("title")).get().extracting(AttributeMetadata::fetch).isEqualTo(FetchType.EAGER);
+            soft.assertThat(metadata.attribute("id")).get().extracting(AttributeMetadata::fetch).isEqualTo(FetchType.EAGER);
+        });
+    }
+
+    private static Article article(String id) {
+        Article article = new Article();
+        article.setId(id);
+        article.setTitle("Title of " + id);
+        article.setHtml("<html><body>Body of " + id + "</body></html>");
+        return article;
+    }
+}
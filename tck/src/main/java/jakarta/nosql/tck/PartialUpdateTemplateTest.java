@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.nosql.tck;
+
+import jakarta.nosql.tck.entities.Event;
+import jakarta.nosql.tck.entities.Person;
+import jakarta.nosql.tck.factories.PersonSupplier;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ArgumentsSource;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PartialUpdateTemplateTest extends AbstractTemplateTest {
+
+    private static final int SIZE = 20;
+
+    private static final String NAME = "partial-update-template";
+
+    @ParameterizedTest
+    @ArgumentsSource(PersonSupplier.class)
+    @DisplayName("Should update only the assigned columns of the entity: {0}")
+    void shouldUpdateAssignedColumns(Person entity) {
+        template.insert(entity);
+
+        long updated = template.update(Person.class)
+                .set("name", NAME)
+                .where("id").eq(entity.getId())
+                .execute();
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(updated).isEqualTo(1L);
+            soft.assertThat(template.find(Person.class, entity.getId())).hasValueSatisfying(person -> {
+                soft.assertThat(person.getName()).isEqualTo(NAME);
+                soft.assertThat(person.getAge()).isEqualTo(entity.getAge());
+            });
+        });
+        template.delete(Person.class, entity.getId());
+    }
+
+    @ParameterizedTest
+    @ArgumentsSource(PersonSupplier.class)
+    @DisplayName("Should update several columns, using the column name of the attribute: {0}")
+    void shouldUpdateSeveralColumns(Person entity) {
+        template.insert(entity);
+
+        template.update(Person.class)
+                .set("name", NAME)
+                .set("native_age", 42)
+                .where("id").eq(entity.getId())
+                .execute();
+
+        SoftAssertions.assertSoftly(soft -> soft.assertThat(template.find(Person.class, entity.getId()))
+                .hasValueSatisfying(person -> {
+                    soft.assertThat(person.getName()).isEqualTo(NAME);
+                    soft.assertThat(person.getAge()).isEqualTo(42);
+                }));
+        template.delete(Person.class, entity.getId());
+    }
+
+    @ParameterizedTest
+    @ArgumentsSource(PersonSupplier.class)
+    @DisplayName("Should clear a column when the value is null: {0}")
+    void shouldClearColumn(Person entity) {
+        template.insert(entity);
+
+        template.update(Person.class)
+                .set("native_age", null)
+                .where("id").eq(entity.getId())
+                .execute();
+
+        assertThat(template.find(Person.class, entity.getId())).hasValueSatisfying(person ->
+                assertThat(person.getAge()).isNull());
+        template.delete(Person.class, entity.getId());
+    }
+
+    @Test
+    @DisplayName("Should return the number of entities updated by the query")
+    void shouldReturnUpdatedCount() {
+        List<Person> people = insert(SIZE, NAME);
+
+        long updated = template.update(Person.class)
+                .set("native_age", SIZE)
+                .where("name").eq(NAME)
+                .and("native_age").lt(SIZE / 2)
+                .execute();
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(updated).isEqualTo(SIZE / 2);
+            soft.assertThat(template.select(Person.class).where("name").eq(NAME)
+                    .and("native_age").eq(SIZE).count()).isEqualTo(SIZE / 2);
+            soft.assertThat(template.select(Person.class).where("name").eq(NAME)
+                    .and("native_age").lt(SIZE / 2).count()).isZero();
+        });
+        delete(people);
+    }
+
+    @Test
+    @DisplayName("Should return zero when the update query matches no entity")
+    void shouldReturnZeroWhenNothingUpdated() {
+        long updated = template.update(Person.class)
+                .set("native_age", SIZE)
+                .where("name").eq(NAME)
+                .execute();
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(updated).isZero();
+            soft.assertThat(template.select(Person.class).where("name").eq(NAME).exists()).isFalse();
+        });
+    }
+
+    @Test
+    @DisplayName("Should return the number of updated entities asynchronously")
+    void shouldUpdateAsync() {
+        List<Person> people = insert(SIZE, NAME);
+
+        long updated = template.update(Person.class)
+                .set("native_age", SIZE)
+                .where("name").eq(NAME)
+                .executeAsync()
+                .toCompletableFuture()
+                .join();
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(updated).isEqualTo(SIZE);
+            soft.assertThat(template.select(Person.class).where("native_age").eq(SIZE)
+                    .and("name").eq(NAME).count()).isEqualTo(SIZE);
+        });
+        delete(people);
+    }
+
+    @Test
+    @DisplayName("Should convert the assigned value through the converter of the attribute")
+    void shouldConvertValue() {
+        Event event = new Event();
+        event.setId(1L);
+        event.setName(NAME);
+        event.setTimestamp(Instant.ofEpochMilli(1_000L));
+        template.insert(event);
+        Instant timestamp = Instant.ofEpochMilli(2_000L);
+
+        template.update(Event.class)
+                .set("timestamp", timestamp)
+                .where("id").eq(event.getId())
+                .execute();
+
+        assertThat(template.find(Event.class, event.getId())).hasValueSatisfying(found ->
+                assertThat(found.getTimestamp()).isEqualTo(timestamp));
+        template.delete(Event.class, event.getId());
+    }
+
+    @Test
+    @DisplayName("Should raise IllegalArgumentException when the assigned column is the id")
+    void shouldThrowWhenUpdatingId() {
+        assertThatThrownBy(() -> template.update(Person.class).set("id", 1L))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Should raise NullPointerException when the type or the column name is null")
+    void shouldThrowNullPointerException() {
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThatThrownBy(() -> template.update((Class<Person>) null)).isInstanceOf(NullPointerException.class);
+            soft.assertThatThrownBy(() -> template.update(Person.class).set(null, NAME)).isInstanceOf(NullPointerException.class);
+            soft.assertThatThrownBy(() -> template.update(Person.class).set("name", NAME).where(null))
+                    .isInstanceOf(NullPointerException.class);
+        });
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.nosql.tck;
+
+import jakarta.nosql.Parameter;
+import jakarta.nosql.PreparedQuery;
+import jakarta.nosql.tck.entities.Person;
+import jakarta.nosql.tck.factories.PersonSupplier;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ArgumentsSource;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PreparedQueryTemplateTest extends AbstractTemplateTest {
+
+    private static final int SIZE = 20;
+
+    private static final int THREADS = 8;
+
+    private static final String NAME = "prepared-query";
+
+    @ParameterizedTest
+    @ArgumentsSource(PersonSupplier.class)
+    @DisplayName("Should find the entity through a prepared query: {0}")
+    void shouldExecutePreparedQuery(Person entity) {
+        template.insert(entity);
+
+        PreparedQuery<Person> query = template.select(Person.class)
+                .where("id").eq(Parameter.named("id"))
+                .prepare();
+        Optional<Person> person = query.bind("id", entity.getId()).singleResult();
+
+        assertThat(person).contains(entity);
+        template.delete(Person.class, entity.getId());
+    }
+
+    @Test
+    @DisplayName("Should execute the same prepared query many times with different values")
+    void shouldReusePreparedQuery() {
+        List<Person> people = insert(SIZE, NAME);
+        PreparedQuery<Person> query = template.select(Person.class)
+                .where("name").eq(NAME)
+                .and("native_age").gte(Parameter.named("age"))
+                .orderBy("id").asc()
+                .prepare();
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(query.parameters()).containsExactly("age");
+            soft.assertThat(query.bind("age", 0).result()).containsExactlyElementsOf(people);
+            soft.assertThat(query.bind("age", SIZE / 2).result()).containsExactlyElementsOf(people.subList(SIZE / 2, SIZE));
+            soft.assertThat(query.bind("age", SIZE).result()).isEmpty();
+            soft.assertThat(query.bind("age", SIZE / 2).count()).isEqualTo(SIZE / 2);
+            soft.assertThat(query.bind("age", SIZE - 1).exists()).isTrue();
+        });
+        delete(people);
+    }
+
+    @Test
+    @DisplayName("Should bind the same value to every occurrence of a parameter")
+    void shouldBindRepeatedParameter() {
+        List<Person> people = insert(SIZE, NAME);
+        PreparedQuery<Person> query = template.select(Person.class)
+                .where("name").eq(NAME)
+                .and("native_age").between(Parameter.named("age"), Parameter.named("age"))
+                .prepare();
+
+        List<Person> result = query.bind("age", 3).result();
+
+        assertThat(result).containsExactly(people.get(3));
+        delete(people);
+    }
+
+    @Test
+    @DisplayName("Should bind all the values from a map")
+    void shouldBindMap() {
+        List<Person> people = insert(SIZE, NAME);
+        PreparedQuery<Person> query = template.select(Person.class)
+                .where("name").eq(Parameter.named("name"))
+                .and("native_age").lt(Parameter.named("age"))
+                .orderBy("id").asc()
+                .prepare();
+
+        List<Person> result = query.bind(Map.of("name", NAME, "age", 5)).result();
+
+        assertThat(result).containsExactlyElementsOf(people.subList(0, 5));
+        delete(people);
+    }
+
+    @Test
+    @DisplayName("Should share the prepared query across threads")
+    void shouldShareAcrossThreads() throws Exception {
+        List<Person> people = insert(SIZE, NAME);
+        PreparedQuery<Person> query = template.select(Person.class)
+                .where("name").eq(NAME)
+                .and("native_age").eq(Parameter.named("age"))
+                .prepare();
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Callable<Optional<Person>>> tasks = people.stream()
+                    .<Callable<Optional<Person>>>map(person -> () -> query.bind("age", person.getAge()).singleResult())
+                    .toList();
+            List<Future<Optional<Person>>> futures = executor.invokeAll(tasks);
+
+            SoftAssertions.assertSoftly(soft -> IntStream.range(0, SIZE).forEach(index ->
+                    soft.assertThat(futures.get(index)).succeedsWithin(Duration.ofSeconds(30))
+                            .isEqualTo(Optional.of(people.get(index)))));
+        } finally {
+            executor.shutdownNow();
+        }
+        delete(people);
+    }
+
+    @Test
+    @DisplayName("Should raise an exception when a parameter is not bound, unknown or executed without prepare")
+    void shouldThrowWhenParameterIsInvalid() {
+        PreparedQuery<Person> query = template.select(Person.class)
+                .where("name").eq(Parameter.named("name"))
+                .and("native_age").gt(Parameter.named("age"))
+                .prepare();
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThatThrownBy(() -> query.bind("name", NAME).result()).isInstanceOf(IllegalStateException.class);
+            soft.assertThatThrownBy(() -> query.bind("unknown", NAME)).isInstanceOf(IllegalArgumentException.class);
+            soft.assertThatThrownBy(() -> query.bind(Map.of("unknown", NAME))).isInstanceOf(IllegalArgumentException.class);
+            soft.assertThatThrownBy(() -> query.bind(null, NAME)).isInstanceOf(NullPointerException.class);
+            soft.assertThatThrownBy(() -> template.select(Person.class).where("name").eq(Parameter.named("name")).result())
+                    .isInstanceOf(IllegalStateException.class);
+            soft.assertThatThrownBy(() -> Parameter.named(" ")).isInstanceOf(IllegalArgumentException.class);
+        });
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.nosql.tck;
+
+import jakarta.nosql.tck.entities.EpochMillisConverter;
+import jakarta.nosql.tck.entities.Event;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Optional;
+
+class PrimitiveConverterTemplateTest extends AbstractTemplateTest {
+
+    @Test
+    @DisplayName("Should store and read an attribute through a primitive converter")
+    void shouldConvertPrimitiveColumn() {
+        Event event = event(1L, Instant.now().truncatedTo(ChronoUnit.MILLIS));
+        template.insert(event);
+
+        Optional<Event> found = template.find(Event.class, event.getId());
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(found).isPresent();
+            soft.assertThat(found).get().extracting(Event::getTimestamp).isEqualTo(event.getTimestamp());
+            soft.assertThat(found).get().extracting(Event::getName).isEqualTo(event.getName());
+        });
+        template.delete(Event.class, event.getId());
+    }
+
+    @Test
+    @DisplayName("Should keep a null attribute without calling the primitive converter")
+    void shouldKeepNullAttribute() {
+        Event event = event(2L, null);
+        template.insert(event);
+
+        Optional<Event> found = template.find(Event.class, event.getId());
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(found).isPresent();
+            soft.assertThat(found).get().extracting(Event::getTimestamp).isNull();
+        });
+        template.delete(Event.class, event.getId());
+    }
+
+    @Test
+    @DisplayName("Should convert the value of a query condition on a converted attribute")
+    void shouldQueryConvertedColumn() {
+        Instant now = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+        Event before = event(3L, now.minusSeconds(60));
+        Event after = event(4L, now.plusSeconds(60));
+        template.insert(before);
+        template.insert(after);
+
+        Optional<Event> found = template.select(Event.class)
+                .where("timestamp").gt(now)
+                .and("name").eq(after.getName())
+                .singleResult();
+
+        SoftAssertions.assertSoftly(soft -> soft.assertThat(found).contains(after));
+        template.delete(Event.class, before.getId());
+        template.delete(Event.class, after.getId());
+    }
+
+    @Test
+    @DisplayName("Should delegate the generic methods to the primitive ones, keeping null values")
+    void shouldBridgeGenericMethods() {
+        EpochMillisConverter converter = new EpochMillisConverter();
+        Instant instant = Instant.ofEpochMilli(1_700_000_000_123L);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(converter.convertToDatabaseColumn(instant)).isEqualTo(1_700_000_000_123L);
+            soft.assertThat(converter.convertToEntityAttribute(1_700_000_000_123L)).isEqualTo(instant);
+            soft.assertThat(converter.convertToDatabaseColumn(null)).isNull();
+            soft.assertThat(converter.convertToEntityAttribute(null)).isNull();
+        });
+    }
+
+    private static Event event(Long id, Instant timestamp) {
+        Event event = new Event();
+        event.setId(id);
+        event.setName("event-" + id);
+        event.setTimestamp(timestamp);
+        return event;
+    }
+}
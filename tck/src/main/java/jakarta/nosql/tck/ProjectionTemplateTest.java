@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.nosql.tck;
+
+import jakarta.nosql.tck.entities.Person;
+import jakarta.nosql.tck.entities.PersonName;
+import jakarta.nosql.tck.entities.PersonNameAge;
+import jakarta.nosql.tck.factories.PersonSupplier;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ArgumentsSource;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProjectionTemplateTest extends AbstractTemplateTest {
+
+    @ParameterizedTest
+    @ArgumentsSource(PersonSupplier.class)
+    @DisplayName("Should load only the listed columns and the id: {0}")
+    void shouldLoadOnlyColumns(Person entity) {
+        template.insert(entity);
+
+        Optional<Person> person = template.select(Person.class)
+                .columns("name")
+                .where("id").eq(entity.getId())
+                .singleResult();
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(person).isPresent();
+            soft.assertThat(person).get().extracting(Person::getId).isEqualTo(entity.getId());
+            soft.assertThat(person).get().extracting(Person::getName).isEqualTo(entity.getName());
+            soft.assertThat(person).get().extracting(Person::getAge).isNull();
+        });
+        template.delete(Person.class, entity.getId());
+    }
+
+    @ParameterizedTest
+    @ArgumentsSource(PersonSupplier.class)
+    @DisplayName("Should resolve the column name defined at @Column: {0}")
+    void shouldResolveColumnName(Person entity) {
+        template.insert(entity);
+
+        Optional<Person> byColumn = template.select(Person.class)
+                .columns("native_age")
+                .where("id").eq(entity.getId())
+                .singleResult();
+        Optional<Person> byProperty = template.select(Person.class)
+                .columns("age")
+                .where("id").eq(entity.getId())
+                .singleResult();
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(byColumn).get().extracting(Person::getAge).isEqualTo(entity.getAge());
+            soft.assertThat(byColumn).get().extracting(Person::getName).isNull();
+            soft.assertThat(byProperty).get().extracting(Person::getAge).isEqualTo(entity.getAge());
+        });
+        template.delete(Person.class, entity.getId());
+    }
+
+    @ParameterizedTest
+    @ArgumentsSource(PersonSupplier.class)
+    @DisplayName("Should project the result into a record: {0}")
+    void shouldProjectIntoRecord(Person entity) {
+        template.insert(entity);
+
+        List<PersonNameAge> result = template.select(Person.class)
+                .project(PersonNameAge.class)
+                .where("id").eq(entity.getId())
+                .result();
+
+        assertThat(result).containsExactly(new PersonNameAge(entity.getName(), entity.getAge()));
+        template.delete(Person.class, entity.getId());
+    }
+
+    @ParameterizedTest
+    @ArgumentsSource(PersonSupplier.class)
+    @DisplayName("Should project the result into an interface: {0}")
+    void shouldProjectIntoInterface(Person entity) {
+        template.insert(entity);
+
+        Optional<PersonName> result = template.select(Person.class)
+                .project(PersonName.class)
+                .where("id").eq(entity.getId())
+                .singleResult();
+
+        assertThat(result).get().extracting(PersonName::getName).isEqualTo(entity.getName());
+        template.delete(Person.class, entity.getId());
+    }
+
+    @Test
+    @DisplayName("Should raise an exception when the projection is invalid")
+    void shouldRejectInvalidProjection() {
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThatThrownBy(() -> template.select(Person.class).columns((String[]) null))
+                    .isInstanceOf(NullPointerException.class);
+            soft.assertThatThrownBy(() -> template.select(Person.class).columns())
+                    .isInstanceOf(IllegalArgumentException.class);
+            soft.assertThatThrownBy(() -> template.select(Person.class).project(null))
+                    .isInstanceOf(NullPointerException.class);
+            soft.assertThatThrownBy(() -> template.select(Person.class).project(String.class))
+                    .isInstanceOf(IllegalArgumentException.class);
+        });
+    }
+}
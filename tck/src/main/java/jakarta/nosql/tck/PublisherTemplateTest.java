@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.nosql.tck;
+
+import jakarta.nosql.tck.entities.Person;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.awaitility.Awaitility.await;
+
+class PublisherTemplateTest extends AbstractTemplateTest {
+
+    private static final int SIZE = 30;
+
+    private List<Person> people;
+
+    @BeforeEach
+    void insertPeople() {
+        this.people = insert(SIZE);
+    }
+
+    @AfterEach
+    void deletePeople() {
+        delete(people);
+    }
+
+    @Test
+    @DisplayName("Should not deliver any entity before the subscriber requests it")
+    void shouldWaitForDemand() {
+        DemandSubscriber subscriber = new DemandSubscriber(0);
+        subscribe(subscriber);
+
+        await().during(Duration.ofMillis(500)).atMost(Duration.ofSeconds(2))
+                .until(() -> subscriber.received.get() == 0L);
+    }
+
+    @Test
+    @DisplayName("Should deliver only the requested entities")
+    void shouldDeliverOnlyRequested() {
+        DemandSubscriber subscriber = new DemandSubscriber(0);
+        subscribe(subscriber);
+
+        subscriber.request(5);
+        await().atMost(Duration.ofSeconds(10)).until(() -> subscriber.received.get() == 5L);
+        await().during(Duration.ofMillis(500)).atMost(Duration.ofSeconds(2))
+                .until(() -> subscriber.received.get() == 5L);
+
+        subscriber.request(Long.MAX_VALUE);
+        await().atMost(Duration.ofSeconds(10)).untilTrue(subscriber.completed);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(subscriber.error.get()).isNull();
+            soft.assertThat(subscriber.overflow).isFalse();
+            soft.assertThat(subscriber.entities).containsAll(people);
+        });
+    }
+
+    @Test
+    @DisplayName("Should never have more entities in flight than a slow subscriber requested")
+    void shouldRespectSlowSubscriber() {
+        DemandSubscriber subscriber = new DemandSubscriber(3);
+        subscribe(subscriber);
+
+        await().atMost(Duration.ofSeconds(30)).untilTrue(subscriber.completed);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(subscriber.error.get()).isNull();
+            soft.assertThat(subscriber.overflow).isFalse();
+            soft.assertThat(subscriber.entities).containsAll(people);
+        });
+    }
+
+    @Test
+    @DisplayName("Should stop delivering entities after the subscription is cancelled")
+    void shouldStopAfterCancel() {
+        DemandSubscriber subscriber = new DemandSubscriber(0);
+        subscribe(subscriber);
+
+        subscriber.request(2);
+        await().atMost(Duration.ofSeconds(10)).until(() -> subscriber.received.get() == 2L);
+        subscriber.cancel();
+        subscriber.request(10);
+
+        await().during(Duration.ofMillis(500)).atMost(Duration.ofSeconds(2))
+                .until(() -> subscriber.received.get() == 2L);
+    }
+
+    private void subscribe(DemandSubscriber subscriber) {
+        template.select(Person.class).<Person>publisher().subscribe(subscriber);
+        await().atMost(Duration.ofSeconds(10)).until(() -> subscriber.subscription != null);
+    }
+
+    /**
+     * A subscriber that tracks the demand it signaled and flags any entity delivered beyond it.
+     * When {@code batch} is positive, it behaves as a slow consumer: it requests {@code batch} entities,
+     * waits a moment after the last one arrives, and only then requests the next batch.
+     */
+    private static final class DemandSubscriber implements Flow.Subscriber<Person> {
+
+        private final long batch;
+
+        private final AtomicLong requested = new AtomicLong();
+
+        private final AtomicLong received = new AtomicLong();
+
+        private final AtomicBoolean completed = new AtomicBoolean();
+
+        private final AtomicReference<Throwable> error = new AtomicReference<>();
+
+        private final Queue<Person> entities = new ConcurrentLinkedQueue<>();
+
+        private volatile boolean overflow;
+
+        private volatile Flow.Subscription subscription;
+
+        private DemandSubscriber(long batch) {
+            this.batch = batch;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            if (batch > 0) {
+                request(batch);
+            }
+        }
+
+        @Override
+        public void onNext(Person item) {
+            entities.add(item);
+            long count = received.incrementAndGet();
+            if (count > requested.get()) {
+                overflow = true;
+            }
+            if (batch > 0 && count == requested.get()) {
+                pause();
+                request(batch);
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error.set(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            completed.set(true);
+        }
+
+        private void request(long n) {
+            requested.updateAndGet(current -> current + n < 0 ? Long.MAX_VALUE : current + n);
+            subscription.request(n);
+        }
+
+        private void cancel() {
+            subscription.cancel();
+        }
+
+        private static void pause() {
+            try {
+                Thread.sleep(20L);
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
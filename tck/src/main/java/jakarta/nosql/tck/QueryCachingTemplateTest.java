@@ -0,0 +1,231 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.nosql.tck;
+
+import jakarta.nosql.MappingException;
+import jakarta.nosql.cache.CacheStatistics;
+import jakarta.nosql.cache.CachingTemplate;
+import jakarta.nosql.tck.entities.Country;
+import jakarta.nosql.tck.entities.Language;
+import jakarta.nosql.tck.entities.Person;
+import jakarta.nosql.tck.entities.Season;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class QueryCachingTemplateTest extends AbstractTemplateTest {
+
+    private static final String AMERICAS = "Americas";
+
+    private static final String EUROPE = "Europe";
+
+    private CachingTemplate cached;
+
+    @BeforeEach
+    void setUpCache() {
+        this.cached = CachingTemplate.of(template);
+        template.insert(List.of(country("BR", "Brazil", AMERICAS), country("CA", "Canada", AMERICAS),
+                country("PT", "Portugal", EUROPE)));
+    }
+
+    @AfterEach
+    void tearDownCountries() {
+        template.select(Country.class).<Country>result().forEach(country -> template.delete(Country.class, country.getCode()));
+    }
+
+    @Test
+    @DisplayName("Should answer a repeated query from the cache without reaching the database")
+    void shouldCacheResult() {
+        List<Country> first = americas();
+        template.insert(country("MX", "Mexico", AMERICAS));
+
+        List<Country> second = americas();
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(first).extracting(Country::getCode).containsExactly("BR", "CA");
+            soft.assertThat(second).extracting(Country::getCode).containsExactly("BR", "CA");
+            soft.assertThat(cached.queryStatistics(Country.class)).hasValueSatisfying(statistics -> {
+                soft.assertThat(statistics.misses()).isEqualTo(1L);
+                soft.assertThat(statistics.hits()).isEqualTo(1L);
+                soft.assertThat(statistics.size()).isEqualTo(1L);
+            });
+        });
+        template.delete(Country.class, "MX");
+    }
+
+    @Test
+    @DisplayName("Should share the cached result between chains that build the same query")
+    void shouldNormalizeQuery() {
+        cached.select(Country.class).where("code").in(List.of("BR", "PT")).orderBy("name").asc().skip(0).limit(10).result();
+
+        cached.select(Country.class).where("code").in(Set.of("PT", "BR")).orderBy("name").asc().limit(10).skip(0).result();
+        List<Country> streamed = cached.select(Country.class).where("code").in(List.of("PT", "BR")).orderBy("name").asc()
+                .skip(0).limit(10).<Country>stream().toList();
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(streamed).extracting(Country::getCode).containsExactly("BR", "PT");
+            soft.assertThat(cached.queryStatistics(Country.class)).hasValueSatisfying(statistics -> {
+                soft.assertThat(statistics.misses()).isEqualTo(1L);
+                soft.assertThat(statistics.hits()).isEqualTo(2L);
+            });
+        });
+    }
+
+    @Test
+    @DisplayName("Should remove the cached results when the entity type is written through the template")
+    void shouldInvalidateOnWrite() {
+        americas();
+
+        cached.insert(country("MX", "Mexico", AMERICAS));
+        List<Country> inserted = americas();
+        cached.update(Country.class).set("region", EUROPE).where("code").eq("MX").execute();
+        List<Country> updated = americas();
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(inserted).extracting(Country::getCode).containsExactly("BR", "CA", "MX");
+            soft.assertThat(updated).extracting(Country::getCode).containsExactly("BR", "CA");
+            soft.assertThat(cached.queryStatistics(Country.class)).hasValueSatisfying(statistics -> {
+                soft.assertThat(statistics.misses()).isEqualTo(3L);
+                soft.assertThat(statistics.hits()).isZero();
+            });
+        });
+    }
+
+    @Test
+    @DisplayName("Should cache the results of singleResult, count and exists")
+    void shouldCacheOtherResults() {
+        IntStream.range(0, 2).forEach(index -> {
+            cached.select(Country.class).where("code").eq("PT").singleResult();
+            cached.select(Country.class).where("region").eq(AMERICAS).count();
+            cached.select(Country.class).where("region").eq("Africa").exists();
+        });
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(cached.select(Country.class).where("code").eq("PT").<Country>singleResult())
+                    .hasValueSatisfying(country -> soft.assertThat(country.getName()).isEqualTo("Portugal"));
+            soft.assertThat(cached.select(Country.class).where("region").eq(AMERICAS).count()).isEqualTo(2L);
+            soft.assertThat(cached.select(Country.class).where("region").eq("Africa").exists()).isFalse();
+            soft.assertThat(cached.queryStatistics(Country.class)).hasValueSatisfying(statistics -> {
+                soft.assertThat(statistics.misses()).isEqualTo(3L);
+                soft.assertThat(statistics.hits()).isEqualTo(6L);
+            });
+        });
+    }
+
+    @Test
+    @DisplayName("Should return copies that do not change the cached result")
+    void shouldReturnCopies() {
+        americas().forEach(country -> country.setName("changed"));
+
+        Optional<Country> country = cached.select(Country.class).where("region").eq(AMERICAS).orderBy("code").asc()
+                .<Country>result().stream().findFirst();
+
+        SoftAssertions.assertSoftly(soft -> soft.assertThat(country)
+                .hasValueSatisfying(found -> soft.assertThat(found.getName()).isEqualTo("Brazil")));
+    }
+
+    @Test
+    @DisplayName("Should keep the total weight of the results within the maximum query weight")
+    void shouldBoundByWeight() {
+        List<Country> countries = IntStream.range(0, 60).mapToObj(index -> country("C" + index, "Country " + index, "Oceania")).toList();
+        template.insert(countries);
+
+        IntStream.range(0, 2).forEach(index -> cached.select(Country.class).where("region").eq("Oceania").result());
+        CacheStatistics heavy = cached.queryStatistics(Country.class).orElseThrow();
+        IntStream.range(0, 60).forEach(index -> cached.select(Country.class).where("code").eq("C" + index).result());
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(heavy.hits()).isZero();
+            soft.assertThat(heavy.size()).isZero();
+            soft.assertThat(cached.queryStatistics(Country.class)).hasValueSatisfying(statistics -> {
+                soft.assertThat(statistics.size()).isLessThanOrEqualTo(50L);
+                soft.assertThat(statistics.evictions()).isPositive();
+            });
+        });
+    }
+
+    @Test
+    @DisplayName("Should stream a result heavier than the maximum query weight from the database without caching it")
+    void shouldStreamHeavyResult() {
+        List<Country> countries = IntStream.range(0, 60).mapToObj(index -> country("C" + index, "Country " + index, "Oceania")).toList();
+        template.insert(countries);
+
+        List<Country> first = oceania();
+        List<Country> second = oceania();
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(first).hasSize(60);
+            soft.assertThat(second).extracting(Country::getCode)
+                    .containsExactlyInAnyOrderElementsOf(countries.stream().map(Country::getCode).toList());
+            soft.assertThat(cached.queryStatistics(Country.class)).hasValueSatisfying(statistics -> {
+                soft.assertThat(statistics.hits()).isZero();
+                soft.assertThat(statistics.misses()).isEqualTo(2L);
+                soft.assertThat(statistics.size()).isZero();
+            });
+        });
+    }
+
+    @Test
+    @DisplayName("Should raise MappingException naming the class when the ttl of the query cache has an estimated unit")
+    void shouldRejectEstimatedTtlUnit() {
+        assertThatThrownBy(() -> cached.select(Season.class).where("year").eq(2024).result())
+                .isInstanceOf(MappingException.class)
+                .hasMessageContaining(Season.class.getName());
+    }
+
+    @Test
+    @DisplayName("Should not cache the queries of the entities that do not opt in, or with a projection")
+    void shouldNotCacheOtherQueries() {
+        cached.select(Country.class).columns("name").where("region").eq(AMERICAS).result();
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(cached.queryStatistics(Person.class)).isEmpty();
+            soft.assertThat(cached.queryStatistics(Language.class)).isEmpty();
+            soft.assertThat(cached.queryStatistics(Country.class)).hasValueSatisfying(statistics ->
+                    soft.assertThat(statistics.requests()).isZero());
+            soft.assertThatThrownBy(() -> cached.queryStatistics(null)).isInstanceOf(NullPointerException.class);
+        });
+    }
+
+    private List<Country> americas() {
+        return cached.select(Country.class).where("region").eq(AMERICAS).orderBy("code").asc().result();
+    }
+
+    private List<Country> oceania() {
+        try (Stream<Country> countries = cached.select(Country.class).where("region").eq("Oceania").stream()) {
+            return countries.toList();
+        }
+    }
+
+    private static Country country(String code, String name, String region) {
+        Country country = new Country();
+        country.setCode(code);
+        country.setName(name);
+        country.setRegion(region);
+        country.setPopulation(1_000L);
+        return country;
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.nosql.tck;
+
+import jakarta.nosql.tck.entities.Person;
+import jakarta.nosql.tck.factories.PersonSupplier;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ArgumentsSource;
+
+import java.util.Arrays;
+import java.util.List;
+
+class UpsertTemplateTest extends AbstractTemplateTest {
+
+    private static final int SIZE = 10;
+
+    private static final String NAME = "upsert-template";
+
+    private final PersonSupplier supplier = new PersonSupplier();
+
+    @ParameterizedTest
+    @ArgumentsSource(PersonSupplier.class)
+    @DisplayName("Should insert the entity when the id is missing: {0}")
+    void shouldInsertMissingEntity(Person entity) {
+        template.delete(Person.class, entity.getId());
+
+        Person person = template.upsert(entity);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(person.getId()).isEqualTo(entity.getId());
+            soft.assertThat(template.find(Person.class, entity.getId())).hasValueSatisfying(found -> {
+                soft.assertThat(found.getName()).isEqualTo(entity.getName());
+                soft.assertThat(found.getAge()).isEqualTo(entity.getAge());
+            });
+        });
+        template.delete(Person.class, entity.getId());
+    }
+
+    @ParameterizedTest
+    @ArgumentsSource(PersonSupplier.class)
+    @DisplayName("Should replace the entity when the id exists: {0}")
+    void shouldReplaceExistingEntity(Person entity) {
+        template.insert(entity);
+        Person replacement = supplier.get(entity.getId(), NAME);
+        replacement.setAge(null);
+
+        template.upsert(replacement);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(template.find(Person.class, entity.getId())).hasValueSatisfying(found -> {
+                soft.assertThat(found.getName()).isEqualTo(NAME);
+                soft.assertThat(found.getAge()).isNull();
+            });
+            soft.assertThat(template.select(Person.class).where("id").eq(entity.getId()).count()).isEqualTo(1L);
+        });
+        template.delete(Person.class, entity.getId());
+    }
+
+    @Test
+    @DisplayName("Should insert the missing and replace the existing entities, keeping their order")
+    void shouldUpsertEntities() {
+        insert(SIZE / 2, "existing");
+        List<Person> people = supplier.list(SIZE, NAME);
+
+        Iterable<Person> written = template.upsert(people);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(ids(written)).containsExactlyElementsOf(ids(people));
+            soft.assertThat(template.select(Person.class).where("name").eq(NAME).count()).isEqualTo(SIZE);
+            soft.assertThat(template.select(Person.class).where("name").eq("existing").exists()).isFalse();
+        });
+        delete(people);
+    }
+
+    @ParameterizedTest
+    @ArgumentsSource(PersonSupplier.class)
+    @DisplayName("Should produce the same entity when the upsert is repeated: {0}")
+    void shouldBeIdempotent(Person entity) {
+        template.upsert(entity);
+        template.upsert(entity);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(template.select(Person.class).where("id").eq(entity.getId()).count()).isEqualTo(1L);
+            soft.assertThat(template.find(Person.class, entity.getId()))
+                    .hasValueSatisfying(found -> soft.assertThat(found.getName()).isEqualTo(entity.getName()));
+        });
+        template.delete(Person.class, entity.getId());
+    }
+
+    @Test
+    @DisplayName("Should raise NullPointerException when the entity, the iterable or an element is null")
+    void shouldThrowNullPointerException() {
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThatThrownBy(() -> template.upsert((Person) null)).isInstanceOf(NullPointerException.class);
+            soft.assertThatThrownBy(() -> template.upsert((Iterable<Person>) null)).isInstanceOf(NullPointerException.class);
+            soft.assertThatThrownBy(() -> template.upsert(Arrays.asList(supplier.get(1L, NAME), null)))
+                    .isInstanceOf(NullPointerException.class);
+        });
+    }
+}
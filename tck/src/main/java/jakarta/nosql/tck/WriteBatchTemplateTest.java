@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.nosql.tck;
+
+import jakarta.nosql.NoSQLException;
+import jakarta.nosql.WriteBatch;
+import jakarta.nosql.tck.entities.Payment;
+import jakarta.nosql.tck.entities.Person;
+import jakarta.nosql.tck.factories.PersonSupplier;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WriteBatchTemplateTest extends AbstractTemplateTest {
+
+    private static final String NAME = "write-batch-template";
+
+    private final PersonSupplier supplier = new PersonSupplier();
+
+    @Test
+    @DisplayName("Should apply mixed operations across entity types in order")
+    void shouldApplyMixedOperations() {
+        template.insert(supplier.get(1L, "to update"));
+        template.insert(supplier.get(2L, "to delete"));
+
+        WriteBatch.Result result = template.batch()
+                .insert(supplier.get(3L, NAME))
+                .insert(payment(1L, "12.34"))
+                .update(supplier.get(1L, NAME))
+                .upsert(supplier.get(4L, NAME))
+                .delete(Person.class, 2L)
+                .execute();
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(result.isSuccessful()).isTrue();
+            soft.assertThat(result.atomic()).isFalse();
+            soft.assertThat(result.outcomes()).extracting(WriteBatch.Outcome::operation).containsExactly(
+                    WriteBatch.Operation.INSERT, WriteBatch.Operation.INSERT, WriteBatch.Operation.UPDATE,
+                    WriteBatch.Operation.UPSERT, WriteBatch.Operation.DELETE);
+            soft.assertThat(result.outcomes()).extracting(WriteBatch.Outcome::index).containsExactly(0, 1, 2, 3, 4);
+            soft.assertThat(template.select(Person.class).where("name").eq(NAME).count()).isEqualTo(3L);
+            soft.assertThat(template.find(Person.class, 2L)).isEmpty();
+            soft.assertThat(template.find(Payment.class, 1L))
+                    .hasValueSatisfying(found -> soft.assertThat(found.getAmount()).isEqualByComparingTo("12.34"));
+        });
+        List.of(1L, 3L, 4L).forEach(id -> template.delete(Person.class, id));
+        template.delete(Payment.class, 1L);
+    }
+
+    @Test
+    @DisplayName("Should apply the operations on the same entity in the order they were added")
+    void shouldKeepOrderOnSameEntity() {
+        template.batch()
+                .insert(supplier.get(1L, "first"))
+                .update(supplier.get(1L, NAME))
+                .delete(Person.class, 1L)
+                .upsert(supplier.get(1L, "last"))
+                .execute();
+
+        assertThat(template.find(Person.class, 1L)).hasValueSatisfying(found ->
+                assertThat(found.getName()).isEqualTo("last"));
+        template.delete(Person.class, 1L);
+    }
+
+    @Test
+    @DisplayName("Should report a failing operation without stopping the others when the batch is not atomic")
+    void shouldReportFailureWhenNotAtomic() {
+        WriteBatch.Result result = template.batch()
+                .insert(payment(1L, "10.00"))
+                .insert(payment(2L, "0.001"))
+                .insert(payment(3L, "30.00"))
+                .execute();
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(result.isSuccessful()).isFalse();
+            soft.assertThat(result.failures()).extracting(WriteBatch.Outcome::index).containsExactly(1);
+            soft.assertThat(result.failures()).allSatisfy(outcome ->
+                    soft.assertThat(outcome.failure()).isInstanceOf(NoSQLException.class));
+            soft.assertThat(template.find(Payment.class, 1L)).isPresent();
+            soft.assertThat(template.find(Payment.class, 2L)).isEmpty();
+            soft.assertThat(template.find(Payment.class, 3L)).isPresent();
+        });
+        List.of(1L, 3L).forEach(id -> template.delete(Payment.class, id));
+    }
+
+    @Test
+    @DisplayName("Should apply no operation when an atomic batch fails")
+    void shouldApplyNothingWhenAtomicFails() {
+        WriteBatch batch = atomic(template.batch()
+                .insert(payment(1L, "10.00"))
+                .insert(supplier.get(1L, NAME))
+                .insert(payment(2L, "0.001")));
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThatThrownBy(batch::execute).isInstanceOf(NoSQLException.class);
+            soft.assertThat(template.find(Payment.class, 1L)).isEmpty();
+            soft.assertThat(template.find(Payment.class, 2L)).isEmpty();
+            soft.assertThat(template.find(Person.class, 1L)).isEmpty();
+        });
+    }
+
+    @Test
+    @DisplayName("Should apply every operation of an atomic batch")
+    void shouldApplyAtomicBatch() {
+        WriteBatch.Result result = atomic(template.batch()
+                .insert(payment(1L, "10.00"))
+                .insert(supplier.get(1L, NAME)))
+                .execute();
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(result.atomic()).isTrue();
+            soft.assertThat(result.isSuccessful()).isTrue();
+            soft.assertThat(template.find(Payment.class, 1L)).isPresent();
+            soft.assertThat(template.find(Person.class, 1L)).isPresent();
+        });
+        template.delete(Payment.class, 1L);
+        template.delete(Person.class, 1L);
+    }
+
+    @Test
+    @DisplayName("Should execute the batch asynchronously")
+    void shouldExecuteAsync() {
+        WriteBatch.Result result = template.batch()
+                .insert(supplier.get(1L, NAME))
+                .insert(supplier.get(2L, NAME))
+                .executeAsync()
+                .toCompletableFuture()
+                .join();
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(result.outcomes()).hasSize(2);
+            soft.assertThat(template.select(Person.class).where("name").eq(NAME).count()).isEqualTo(2L);
+        });
+        List.of(1L, 2L).forEach(id -> template.delete(Person.class, id));
+    }
+
+    @Test
+    @DisplayName("Should return an empty result for an empty batch")
+    void shouldExecuteEmptyBatch() {
+        WriteBatch batch = template.batch();
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(batch.size()).isZero();
+            soft.assertThat(batch.execute().outcomes()).isEmpty();
+        });
+    }
+
+    @Test
+    @DisplayName("Should raise an exception when the batch is reused or an operation is null")
+    void shouldThrowWhenInvalid() {
+        WriteBatch batch = template.batch().insert(supplier.get(1L, NAME));
+        batch.execute();
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThatThrownBy(batch::execute).isInstanceOf(IllegalStateException.class);
+            soft.assertThatThrownBy(() -> batch.insert(supplier.get(2L, NAME))).isInstanceOf(IllegalStateException.class);
+            soft.assertThatThrownBy(() -> template.batch().insert(null)).isInstanceOf(NullPointerException.class);
+            soft.assertThatThrownBy(() -> template.batch().delete(Person.class, null)).isInstanceOf(NullPointerException.class);
+            soft.assertThatThrownBy(() -> template.batch().delete(null, 1L)).isInstanceOf(NullPointerException.class);
+        });
+        template.delete(Person.class, 1L);
+    }
+
+    private static WriteBatch atomic(WriteBatch batch) {
+        try {
+            return batch.atomic();
+        } catch (UnsupportedOperationException exception) {
+            return Assumptions.abort("The database does not apply batches atomically: " + exception.getMessage());
+        }
+    }
+
+    private static Payment payment(Long id, String amount) {
+        Payment payment = new Payment();
+        payment.setId(id);
+        payment.setDescription(NAME);
+        payment.setAmount(new BigDecimal(amount));
+        return payment;
+    }
+}
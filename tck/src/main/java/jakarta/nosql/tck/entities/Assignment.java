@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.nosql.tck.entities;
+
+import jakarta.nosql.Column;
+import jakarta.nosql.Convert;
+import jakarta.nosql.Entity;
+import jakarta.nosql.Id;
+
+import java.time.Duration;
+import java.util.Objects;
+
+@Entity
+public class Assignment {
+
+    @Id
+    private Long id;
+
+    @Column
+    private String name;
+
+    @Column
+    private Duration estimate;
+
+    @Column
+    @Convert(DurationMinutesConverter.class)
+    private Duration spent;
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public Duration getEstimate() {
+        return estimate;
+    }
+
+    public void setEstimate(Duration estimate) {
+        this.estimate = estimate;
+    }
+
+    public Duration getSpent() {
+        return spent;
+    }
+
+    public void setSpent(Duration spent) {
+        this.spent = spent;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        Assignment assignment = (Assignment) o;
+        return Objects.equals(id, assignment.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(id);
+    }
+
+    @Override
+    public String toString() {
+        return "Assignment{" +
+                "id=" + id +
+                ", name='" + name + '\'' +
+                ", estimate=" + estimate +
+                ", spent=" + spent +
+                '}';
+    }
+}
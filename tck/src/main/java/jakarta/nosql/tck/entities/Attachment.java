@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.nosql.tck.entities;
+
+import jakarta.nosql.Blob;
+import jakarta.nosql.Column;
+import jakarta.nosql.Convert;
+import jakarta.nosql.Entity;
+import jakarta.nosql.Id;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.BitSet;
+import java.util.Objects;
+
+@Entity
+public class Attachment {
+
+    @Id
+    private String id;
+
+    @Column
+    private String name;
+
+    @Column
+    private ByteBuffer thumbnail;
+
+    @Column
+    private Blob content;
+
+    @Column
+    private InputStream source;
+
+    @Column
+    @Convert(BitSetConverter.class)
+    private BitSet flags;
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public ByteBuffer getThumbnail() {
+        return thumbnail;
+    }
+
+    public void setThumbnail(ByteBuffer thumbnail) {
+        this.thumbnail = thumbnail;
+    }
+
+    public Blob getContent() {
+        return content;
+    }
+
+    public void setContent(Blob content) {
+        this.content = content;
+    }
+
+    public InputStream getSource() {
+        return source;
+    }
+
+    public void setSource(InputStream source) {
+        this.source = source;
+    }
+
+    public BitSet getFlags() {
+        return flags;
+    }
+
+    public void setFlags(BitSet flags) {
+        this.flags = flags;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        Attachment attachment = (Attachment) o;
+        return Objects.equals(id, attachment.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(id);
+    }
+
+    @Override
+    public String toString() {
+        return "Attachment{" +
+                "id='" + id + '\'' +
+                ", name='" + name + '\'' +
+                ", content=" + content +
+                '}';
+    }
+}
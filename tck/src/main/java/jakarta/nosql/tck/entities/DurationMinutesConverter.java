@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.nosql.tck.entities;
+
+import jakarta.nosql.IntAttributeConverter;
+
+import java.time.Duration;
+
+/**
+ * Stores a {@link Duration} as its number of whole minutes, dropping the remaining seconds, so that a test can tell
+ * it apart from {@link DurationMillisConverter}.
+ */
+public class DurationMinutesConverter implements IntAttributeConverter<Duration> {
+
+    @Override
+    public int convertToIntColumn(Duration attribute) {
+        return (int) attribute.toMinutes();
+    }
+
+    @Override
+    public Duration convertFromIntColumn(int dbData) {
+        return Duration.ofMinutes(dbData);
+    }
+}
@@ -20,6 +20,8 @@ import net.datafaker.providers.base.Number;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.params.provider.Arguments;
 
+import java.util.List;
+import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
 public class PersonSupplier extends AbstractSupplier<Person> {
@@ -35,6 +37,30 @@ public class PersonSupplier extends AbstractSupplier<Person> {
         return person;
     }
 
+    public Person get(long id, String name) {
+        Person person = get();
+        person.setId(id);
+        person.setName(name);
+        return person;
+    }
+
+    public List<Person> list(int size) {
+        return LongStream.rangeClosed(1, size).mapToObj(id -> {
+            Person person = get();
+            person.setId(id);
+            return person;
+        }).toList();
+    }
+
+    public List<Person> list(int size, String name) {
+        List<Person> people = list(size);
+        people.forEach(person -> {
+            person.setName(name);
+            person.setAge((int) (person.getId() - 1));
+        });
+        return people;
+    }
+
     @Override
     public Stream<? extends Arguments> provideArguments(ExtensionContext context) throws Exception {
         return Stream.of(Arguments.of(get()));